@@ -0,0 +1,31 @@
+package com.devsync.standupbot.config;
+
+import com.devsync.standupbot.service.ProviderCircuitBreaker;
+import com.devsync.standupbot.service.SummaryProviderRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Actuator endpoint exposing registered AI providers and their circuit breaker state (/actuator/aiproviders)
+ */
+@Component
+@Endpoint(id = "aiproviders")
+@RequiredArgsConstructor
+public class AiProvidersEndpoint {
+
+    private final ProviderCircuitBreaker circuitBreaker;
+    private final SummaryProviderRegistry providerRegistry;
+
+    @ReadOperation
+    public Map<String, Object> providers() {
+        Map<String, Object> response = new LinkedHashMap<>();
+        response.put("registered", providerRegistry.providerNames());
+        response.put("breakers", circuitBreaker.snapshot());
+        return response;
+    }
+}
@@ -29,12 +29,246 @@ public class AppConfig {
     @Value("${openai.max.tokens}")
     private Integer openaiMaxTokens;
 
+    @Value("${openai.base.url:https://api.openai.com/v1}")
+    private String openaiBaseUrl;
+
+    @Value("${gemini.base.url:https://generativelanguage.googleapis.com/v1beta}")
+    private String geminiBaseUrl;
+
+    @Value("${gemini.model:gemini-pro}")
+    private String geminiModel;
+
+    @Value("${ai.streaming.enabled:false}")
+    private Boolean aiStreamingEnabled;
+
+    @Value("${ai.streaming.flush.chars:120}")
+    private Integer aiStreamingFlushChars;
+
+    @Value("${ai.streaming.flush.interval.ms:300}")
+    private Long aiStreamingFlushIntervalMs;
+
+    @Value("${ai.secondary.api.key:}")
+    private String aiSecondaryApiKey;
+
+    @Value("${ai.secondary.model:}")
+    private String aiSecondaryModel;
+
+    @Value("${ai.breaker.window.size:20}")
+    private Integer aiBreakerWindowSize;
+
+    @Value("${ai.breaker.min.calls:5}")
+    private Integer aiBreakerMinCalls;
+
+    @Value("${ai.breaker.failure.rate:0.5}")
+    private Double aiBreakerFailureRate;
+
+    @Value("${ai.breaker.slow.call.ms:10000}")
+    private Long aiBreakerSlowCallMs;
+
+    @Value("${ai.breaker.open.ms:30000}")
+    private Long aiBreakerOpenMs;
+
+    @Value("${ai.hedging.enabled:false}")
+    private Boolean aiHedgingEnabled;
+
+    @Value("${ai.hedging.default.delay.ms:5000}")
+    private Long aiHedgingDefaultDelayMs;
+
+    @Value("${ai.hedging.min.delay.ms:500}")
+    private Long aiHedgingMinDelayMs;
+
+    @Value("${ai.cache.enabled:true}")
+    private Boolean aiCacheEnabled;
+
+    @Value("${ai.cache.max.entries:1000}")
+    private Integer aiCacheMaxEntries;
+
+    @Value("${ai.cache.persistent.enabled:true}")
+    private Boolean aiCachePersistentEnabled;
+
+    @Value("${ai.cache.ttl.days:30}")
+    private Integer aiCacheTtlDays;
+
+    @Value("${ai.limiter.enabled:true}")
+    private Boolean aiLimiterEnabled;
+
+    @Value("${ai.limiter.max.concurrent:4}")
+    private Integer aiLimiterMaxConcurrent;
+
+    @Value("${ai.limiter.queue.capacity:500}")
+    private Integer aiLimiterQueueCapacity;
+
+    @Value("${ai.limiter.interactive.deadline.ms:15000}")
+    private Long aiLimiterInteractiveDeadlineMs;
+
+    @Value("${ai.limiter.background.deadline.ms:120000}")
+    private Long aiLimiterBackgroundDeadlineMs;
+
+    @Value("${ai.limiter.backfill.deadline.ms:600000}")
+    private Long aiLimiterBackfillDeadlineMs;
+
+    @Value("${ai.digest.max.input.tokens:6000}")
+    private Integer aiDigestMaxInputTokens;
+
+    @Value("${ai.digest.max.member.chars:800}")
+    private Integer aiDigestMaxMemberChars;
+
+    @Value("${ai.prompt.max.input.tokens:1500}")
+    private Integer aiPromptMaxInputTokens;
+
+    @Value("${ai.prompt.max.field.chars:2000}")
+    private Integer aiPromptMaxFieldChars;
+
+    @Value("${ai.summary.lazy.enabled:false}")
+    private Boolean aiSummaryLazyEnabled;
+
+    @Value("${ai.summary.lazy.wait.seconds:45}")
+    private Integer aiSummaryLazyWaitSeconds;
+
+    @Value("${ai.summary.speculative.enabled:true}")
+    private Boolean aiSummarySpeculativeEnabled;
+
+    @Value("${ai.summary.speculative.wait.seconds:30}")
+    private Integer aiSummarySpeculativeWaitSeconds;
+
+    @Value("${ai.summary.speculative.max.concurrent:8}")
+    private Integer aiSummarySpeculativeMaxConcurrent;
+
+    @Value("${ai.backfill.batch.size:200}")
+    private Integer aiBackfillBatchSize;
+
+    @Value("${ai.backfill.rate.per.minute:30}")
+    private Integer aiBackfillRatePerMinute;
+
+    @Value("${ai.backfill.window.minutes:180}")
+    private Integer aiBackfillWindowMinutes;
+
+    @Value("${ai.budget.daily.tokens:0}")
+    private Long aiBudgetDailyTokens;
+
+    @Value("${ai.budget.latency.ms:0}")
+    private Long aiBudgetLatencyMs;
+
+    @Value("${ai.budget.cheap.threshold:0.8}")
+    private Double aiBudgetCheapThreshold;
+
+    @Value("${ai.budget.cheap.openai.model:gpt-4o-mini}")
+    private String aiBudgetCheapOpenaiModel;
+
+    @Value("${ai.budget.cheap.gemini.model:gemini-1.5-flash}")
+    private String aiBudgetCheapGeminiModel;
+
+    @Value("${ai.local.routing.enabled:true}")
+    private Boolean aiLocalRoutingEnabled;
+
+    @Value("${ai.local.max.chars:280}")
+    private Integer aiLocalMaxChars;
+
+    @Value("${ai.local.max.sentences:4}")
+    private Integer aiLocalMaxSentences;
+
+    @Value("${ai.stub.port:8089}")
+    private Integer aiStubPort;
+
+    @Value("${ai.stub.latency.median.ms:800}")
+    private Long aiStubLatencyMedianMs;
+
+    @Value("${ai.stub.latency.p99.ms:4000}")
+    private Long aiStubLatencyP99Ms;
+
+    @Value("${ai.stub.error.rate:0.0}")
+    private Double aiStubErrorRate;
+
+    @Value("${ai.stub.rate.limit.rate:0.0}")
+    private Double aiStubRateLimitRate;
+
+    @Value("${ai.stub.stream.chunk.delay.ms:40}")
+    private Long aiStubStreamChunkDelayMs;
+
+    @Value("${ai.stub.seed:42}")
+    private Long aiStubSeed;
+
     @Value("${github.api.url}")
     private String githubApiUrl;
 
+    @Value("${github.events.respect.poll.interval:true}")
+    private Boolean githubEventsRespectPollInterval;
+
+    @Value("${github.team.commits.scope:user}")
+    private String githubTeamCommitsScope;
+
+    @Value("${github.graphql.url:https://api.github.com/graphql}")
+    private String githubGraphqlUrl;
+
+    @Value("${github.graphql.batch.size:25}")
+    private Integer githubGraphqlBatchSize;
+
+    @Value("${github.team.fetch.concurrency:4}")
+    private Integer githubTeamFetchConcurrency;
+
+    @Value("${github.commits.store.enabled:true}")
+    private Boolean githubCommitsStoreEnabled;
+
+    @Value("${github.events.max.pages:3}")
+    private Integer githubEventsMaxPages;
+
+    @Value("${github.events.reuse.seconds:900}")
+    private Integer githubEventsReuseSeconds;
+
+    @Value("${github.ratelimit.background.reserve:0.2}")
+    private Double githubRateLimitBackgroundReserve;
+
+    @Value("${github.ratelimit.max.wait.seconds:30}")
+    private Integer githubRateLimitMaxWaitSeconds;
+
+    @Value("${http.pool.max.connections:50}")
+    private Integer httpPoolMaxConnections;
+
+    @Value("${http.pool.pending.acquire.max:500}")
+    private Integer httpPoolPendingAcquireMax;
+
+    @Value("${http.pool.pending.acquire.timeout.ms:5000}")
+    private Long httpPoolPendingAcquireTimeoutMs;
+
+    @Value("${http.pool.max.idle.seconds:30}")
+    private Integer httpPoolMaxIdleSeconds;
+
+    @Value("${http.pool.max.life.minutes:10}")
+    private Integer httpPoolMaxLifeMinutes;
+
+    @Value("${http.connect.timeout.ms:5000}")
+    private Integer httpConnectTimeoutMs;
+
+    @Value("${http.response.timeout.seconds:30}")
+    private Integer httpResponseTimeoutSeconds;
+
+    @Value("${http.dns.cache.ttl.seconds:300}")
+    private Integer httpDnsCacheTtlSeconds;
+
+    @Value("${http.http2.enabled:true}")
+    private Boolean httpHttp2Enabled;
+
+    @Value("${http.fetch.timeout.seconds:10}")
+    private Integer httpFetchTimeoutSeconds;
+
+    @Value("${http.retry.max.attempts:2}")
+    private Integer httpRetryMaxAttempts;
+
+    @Value("${http.retry.backoff.millis:250}")
+    private Integer httpRetryBackoffMillis;
+
     @Value("${github.token}")
     private String githubToken;
 
+    @Value("${github.webhook.secret:}")
+    private String githubWebhookSecret;
+
+    @Value("${github.webhook.retention.hours:48}")
+    private Integer githubWebhookRetentionHours;
+
+    @Value("${github.webhook.stale.hours:72}")
+    private Integer githubWebhookStaleHours;
+
     @Value("${jira.api.url}")
     private String jiraApiUrl;
 
@@ -44,6 +278,18 @@ public class AppConfig {
     @Value("${jira.api.token}")
     private String jiraApiToken;
 
+    @Value("${jira.cache.ttl.seconds:900}")
+    private Integer jiraCacheTtlSeconds;
+
+    @Value("${jira.cache.hard.ttl.seconds:14400}")
+    private Integer jiraCacheHardTtlSeconds;
+
+    @Value("${jira.team.page.size:100}")
+    private Integer jiraTeamPageSize;
+
+    @Value("${jira.team.max.pages:5}")
+    private Integer jiraTeamMaxPages;
+
     @Value("${google.calendar.enabled:false}")
     private Boolean googleCalendarEnabled;
 
@@ -52,4 +298,7 @@ public class AppConfig {
 
     @Value("${standup.timezone:UTC}")
     private String standupTimezone;
+
+    @Value("${standup.warm.lead.minutes:5}")
+    private Integer standupWarmLeadMinutes;
 }
@@ -0,0 +1,64 @@
+package com.devsync.standupbot.config;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Pre-built WebClients for outbound integrations, one per base URL
+ * Clients carry no credentials; callers set Authorization (or API keys) on each request, so one
+ * client serves every team that talks to the same host. Fetches share one timeout and retry policy.
+ */
+@Component
+@RequiredArgsConstructor
+public class IntegrationWebClients {
+
+    private final WebClient.Builder webClientBuilder;
+    private final AppConfig appConfig;
+
+    private final Map<String, WebClient> clients = new ConcurrentHashMap<>();
+
+    /**
+     * Shared client for a base URL, built on first use
+     */
+    public WebClient forBaseUrl(String baseUrl) {
+        return clients.computeIfAbsent(baseUrl, url -> webClientBuilder.clone().baseUrl(url).build());
+    }
+
+    /**
+     * Bound a request by http.fetch.timeout.seconds and retry transient failures (timeouts, connection
+     * errors, 5xx) with jittered exponential backoff; 4xx responses, rate limits included, fail at once
+     */
+    public <T> Mono<T> withResilience(Mono<T> request) {
+        return withResilience(request, Duration.ofSeconds(appConfig.getHttpFetchTimeoutSeconds()));
+    }
+
+    /**
+     * Same retry policy with a caller-chosen per-attempt timeout, for calls slower than a fetch (LLM completions)
+     */
+    public <T> Mono<T> withResilience(Mono<T> request, Duration timeout) {
+        return request
+                .timeout(timeout)
+                .retryWhen(Retry.backoff(appConfig.getHttpRetryMaxAttempts(),
+                                Duration.ofMillis(appConfig.getHttpRetryBackoffMillis()))
+                        .jitter(0.5)
+                        .filter(IntegrationWebClients::isTransient)
+                        .onRetryExhaustedThrow((spec, signal) -> signal.failure()));
+    }
+
+    private static boolean isTransient(Throwable error) {
+        if (error instanceof WebClientResponseException response) {
+            return response.getStatusCode().is5xxServerError();
+        }
+        return error instanceof TimeoutException || error instanceof WebClientRequestException;
+    }
+}
@@ -0,0 +1,32 @@
+package com.devsync.standupbot.config;
+
+import com.devsync.standupbot.stub.LlmStubServer;
+import com.devsync.standupbot.stub.LlmStubSettings;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.io.IOException;
+
+/**
+ * Starts the local LLM stand-in server in-process when ai.stub.enabled=true
+ */
+@Configuration
+@ConditionalOnProperty(name = "ai.stub.enabled", havingValue = "true")
+public class LlmStubConfig {
+
+    @Bean(destroyMethod = "stop")
+    public LlmStubServer llmStubServer(AppConfig appConfig) throws IOException {
+        LlmStubServer server = new LlmStubServer(LlmStubSettings.builder()
+                .port(appConfig.getAiStubPort())
+                .latencyMedianMs(appConfig.getAiStubLatencyMedianMs())
+                .latencyP99Ms(appConfig.getAiStubLatencyP99Ms())
+                .errorRate(appConfig.getAiStubErrorRate())
+                .rateLimitRate(appConfig.getAiStubRateLimitRate())
+                .streamChunkDelayMs(appConfig.getAiStubStreamChunkDelayMs())
+                .seed(appConfig.getAiStubSeed())
+                .build());
+        server.start();
+        return server;
+    }
+}
@@ -1,19 +1,66 @@
 package com.devsync.standupbot.config;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.netty.channel.ChannelOption;
+import org.springframework.beans.factory.config.ConfigurableBeanFactory;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Scope;
+import org.springframework.http.client.reactive.ClientHttpConnector;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.HttpProtocol;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.time.Duration;
 
 /**
  * Configuration for WebClient and other beans
+ * All outbound HTTP shares one Reactor Netty connection pool (per-host pools with keep-alive,
+ * HTTP/2 over TLS where the server supports it, cached DNS and pool metrics).
  */
 @Configuration
 public class WebClientConfig {
 
+    @Bean(destroyMethod = "dispose")
+    public ConnectionProvider integrationConnectionProvider(AppConfig appConfig) {
+        return ConnectionProvider.builder("integrations")
+                .maxConnections(appConfig.getHttpPoolMaxConnections())
+                .pendingAcquireMaxCount(appConfig.getHttpPoolPendingAcquireMax())
+                .pendingAcquireTimeout(Duration.ofMillis(appConfig.getHttpPoolPendingAcquireTimeoutMs()))
+                .maxIdleTime(Duration.ofSeconds(appConfig.getHttpPoolMaxIdleSeconds()))
+                .maxLifeTime(Duration.ofMinutes(appConfig.getHttpPoolMaxLifeMinutes()))
+                .evictInBackground(Duration.ofSeconds(30))
+                .metrics(true) // reactor.netty.connection.provider.* tagged by remote address
+                .build();
+    }
+
+    @Bean
+    public ClientHttpConnector integrationHttpConnector(ConnectionProvider integrationConnectionProvider,
+                                                        AppConfig appConfig) {
+        HttpClient httpClient = HttpClient.create(integrationConnectionProvider)
+                .keepAlive(true)
+                .option(ChannelOption.SO_KEEPALIVE, true)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, appConfig.getHttpConnectTimeoutMs())
+                .responseTimeout(Duration.ofSeconds(appConfig.getHttpResponseTimeoutSeconds()))
+                .resolver(spec -> spec
+                        .cacheMaxTimeToLive(Duration.ofSeconds(appConfig.getHttpDnsCacheTtlSeconds()))
+                        .cacheNegativeTimeToLive(Duration.ofSeconds(5)));
+        if (Boolean.TRUE.equals(appConfig.getHttpHttp2Enabled())) {
+            // h2 is negotiated via ALPN on https; plain http (local stubs) stays on HTTP/1.1
+            httpClient = httpClient.protocol(HttpProtocol.H2, HttpProtocol.HTTP11);
+        }
+        return new ReactorClientHttpConnector(httpClient);
+    }
+
+    /**
+     * Prototype-scoped so callers that customise a builder never affect each other
+     */
     @Bean
-    public WebClient.Builder webClientBuilder() {
-        return WebClient.builder();
+    @Scope(ConfigurableBeanFactory.SCOPE_PROTOTYPE)
+    public WebClient.Builder webClientBuilder(ClientHttpConnector integrationHttpConnector) {
+        return WebClient.builder().clientConnector(integrationHttpConnector);
     }
 
     @Bean
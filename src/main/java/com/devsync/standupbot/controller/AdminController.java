@@ -3,6 +3,7 @@ package com.devsync.standupbot.controller;
 import com.devsync.standupbot.dto.TeamConfigRequest;
 import com.devsync.standupbot.dto.UserIntegrationRequest;
 import com.devsync.standupbot.model.Team;
+import com.devsync.standupbot.service.TeamAiBudgetService;
 import com.devsync.standupbot.service.TeamService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -25,6 +26,7 @@ import java.util.Map;
 public class AdminController {
 
     private final TeamService teamService;
+    private final TeamAiBudgetService teamAiBudgetService;
 
     /**
      * Create or update team configuration
@@ -81,6 +83,34 @@ public class AdminController {
         }
     }
 
+    /**
+     * Get today's AI token usage and budgets for all active teams
+     */
+    @GetMapping("/ai-budgets")
+    public ResponseEntity<List<Map<String, Object>>> getAiBudgets() {
+        try {
+            return ResponseEntity.ok(teamAiBudgetService.snapshot());
+        } catch (Exception e) {
+            log.error("Error fetching AI budgets: {}", e.getMessage(), e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+
+    /**
+     * Get today's AI token usage and budgets for one team
+     */
+    @GetMapping("/teams/{teamId}/ai-budget")
+    public ResponseEntity<Map<String, Object>> getAiBudget(@PathVariable Long teamId) {
+        try {
+            return teamService.getTeamById(teamId)
+                    .map(team -> ResponseEntity.ok(teamAiBudgetService.snapshot(team)))
+                    .orElse(ResponseEntity.notFound().build());
+        } catch (Exception e) {
+            log.error("Error fetching AI budget: {}", e.getMessage(), e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+
     /**
      * Delete team
      */
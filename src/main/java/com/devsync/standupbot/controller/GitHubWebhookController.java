@@ -0,0 +1,52 @@
+package com.devsync.standupbot.controller;
+
+import com.devsync.standupbot.service.GitHubWebhookService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Controller for GitHub webhooks (push events from team organizations)
+ */
+@RestController
+@RequestMapping("/api/github")
+@RequiredArgsConstructor
+@Slf4j
+public class GitHubWebhookController {
+
+    private final GitHubWebhookService webhookService;
+
+    @PostMapping("/webhook")
+    public ResponseEntity<Map<String, Object>> handleWebhook(
+            @RequestHeader(value = "X-GitHub-Event", required = false) String event,
+            @RequestHeader(value = "X-GitHub-Delivery", required = false) String deliveryId,
+            @RequestHeader(value = "X-Hub-Signature-256", required = false) String signature,
+            @RequestBody(required = false) byte[] body) {
+        byte[] payload = body != null ? body : new byte[0];
+        Map<String, Object> response = new HashMap<>();
+        response.put("delivery", deliveryId);
+
+        if (!webhookService.isConfigured()) {
+            webhookService.recordRejected(event);
+            response.put("message", "GitHub webhook secret not configured");
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(response);
+        }
+        if (!webhookService.verifySignature(payload, signature)) {
+            log.warn("Rejected GitHub webhook {} with an invalid signature", deliveryId);
+            webhookService.recordRejected(event);
+            response.put("message", "Invalid signature");
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(response);
+        }
+
+        GitHubWebhookService.Result result = webhookService.handle(event, payload);
+        response.put("result", result.name().toLowerCase());
+        return result == GitHubWebhookService.Result.REJECTED
+                ? ResponseEntity.badRequest().body(response)
+                : ResponseEntity.ok(response);
+    }
+}
@@ -299,6 +299,7 @@ public class ZohoWebhookControllerNew {
                             new ArrayList<>()
                     );
                     standup.setAiSummary(aiSummary);
+                    standup.setAiSummaryFallback(AIService.isFallbackSummary(aiSummary));
                 } catch (Exception e) {
                     log.warn("AI summary failed: {}", e.getMessage());
                 }
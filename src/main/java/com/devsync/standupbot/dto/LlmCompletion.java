@@ -0,0 +1,22 @@
+package com.devsync.standupbot.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Text returned by a summary provider, with its token usage
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class LlmCompletion {
+    private String text;
+    private long promptTokens;
+    private long completionTokens;
+
+    // True when token counts are local estimates rather than provider-reported usage
+    private boolean estimatedUsage;
+}
@@ -0,0 +1,50 @@
+package com.devsync.standupbot.dto;
+
+import com.devsync.standupbot.service.LlmConcurrencyLimiter;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Inputs for a single AI standup summary
+ * Carries the standup text, integration context and the scheduling hints used by AIService
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SummaryRequest {
+    private String yesterdayWork;
+    private String todayPlan;
+    private String blockers;
+
+    @Builder.Default
+    private List<String> githubCommits = new ArrayList<>();
+
+    @Builder.Default
+    private List<String> jiraTasks = new ArrayList<>();
+
+    @Builder.Default
+    private List<String> calendarEvents = new ArrayList<>();
+
+    // Provider credentials (null = use global configuration)
+    private String apiKey;
+    private String model;
+
+    // Team the summary is generated for, used for metrics (null = no team)
+    private Long teamId;
+
+    // Prompt input budget in estimated tokens (null = ai.prompt.max.input.tokens)
+    private Integer maxInputTokens;
+
+    @Builder.Default
+    private LlmConcurrencyLimiter.Priority priority = LlmConcurrencyLimiter.Priority.INTERACTIVE;
+
+    // Latest time the summary is still useful (null = priority default)
+    private Instant deadline;
+}
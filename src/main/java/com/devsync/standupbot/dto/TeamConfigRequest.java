@@ -1,5 +1,6 @@
 package com.devsync.standupbot.dto;
 
+import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Pattern;
 import lombok.AllArgsConstructor;
@@ -33,10 +34,20 @@ public class TeamConfigRequest {
     // OpenAI Configuration
     private String openaiApiKey;
     private String openaiModel;
+
+    @Min(value = 200, message = "AI input token budget must be at least 200")
+    private Integer aiInputTokenBudget;
+
+    @Min(value = 1000, message = "AI daily token budget must be at least 1000")
+    private Long aiDailyTokenBudget;
+
+    @Min(value = 500, message = "AI latency budget must be at least 500 ms")
+    private Integer aiLatencyBudgetMs;
     
     // Settings
     private Boolean calendarEnabled;
     private Boolean reminderEnabled;
+    private Boolean digestEnabled;
     
     @Pattern(regexp = "^([01]?[0-9]|2[0-3]):[0-5][0-9]$", message = "Reminder time must be in HH:mm format (e.g., 09:00)")
     private String reminderTime;
@@ -0,0 +1,40 @@
+package com.devsync.standupbot.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Team-level daily digest produced from all of a team's standups in one or two LLM calls
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TeamDigest {
+    private Long teamId;
+    private String teamName;
+    private LocalDate date;
+    private String digest;
+
+    // Member user id -> one-line highlight, in member order
+    @Builder.Default
+    private Map<Long, String> memberHighlights = new LinkedHashMap<>();
+
+    // Member user id -> display name (numbered when members share a name)
+    @Builder.Default
+    private Map<Long, String> memberNames = new LinkedHashMap<>();
+
+    private int standupCount;
+    private int llmCalls;
+    private int estimatedInputTokens;
+    private boolean aiGenerated;
+
+    // Standups summarized by the local fallback because an LLM call failed
+    private int localStandupCount;
+}
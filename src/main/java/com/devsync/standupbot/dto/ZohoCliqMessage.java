@@ -1,5 +1,7 @@
 package com.devsync.standupbot.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -19,6 +21,13 @@ public class ZohoCliqMessage {
     private Card card;
     private String bot;
 
+    /**
+     * Ask Cliq to answer with the posted message's id, so it can be edited later
+     */
+    @JsonProperty("sync_message")
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Boolean syncMessage;
+
     @Data
     @Builder
     @NoArgsConstructor
@@ -0,0 +1,57 @@
+package com.devsync.standupbot.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Entity for persisted AI summaries, keyed by a hash of the normalized prompt inputs and model
+ * Backs the in-memory summary cache so identical standups survive restarts
+ */
+@Entity
+@Table(name = "ai_summary_cache", indexes = {
+    @Index(name = "idx_ai_summary_cache_created_at", columnList = "created_at")
+})
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AiSummaryCacheEntry {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "cache_key", nullable = false, unique = true, length = 64)
+    private String cacheKey;
+
+    @Column(length = 100)
+    private String model;
+
+    @Column(columnDefinition = "TEXT", nullable = false)
+    private String summary;
+
+    @Column(name = "generation_millis")
+    private Long generationMillis; // How long the original LLM call took
+
+    @Column(name = "hit_count")
+    private Long hitCount;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "last_hit_at")
+    private LocalDateTime lastHitAt;
+
+    @PrePersist
+    protected void onCreate() {
+        createdAt = LocalDateTime.now();
+        if (hitCount == null) {
+            hitCount = 0L;
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package com.devsync.standupbot.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Entity recording how far a batch backfill job has progressed, so it resumes after a restart
+ */
+@Entity
+@Table(name = "backfill_checkpoints")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BackfillCheckpoint {
+
+    @Id
+    @Column(name = "job_name", length = 100)
+    private String jobName;
+
+    @Column(name = "last_id", nullable = false)
+    private Long lastId; // Highest row id handled in the current pass; 0 starts a new pass
+
+    @Column(name = "processed_count", nullable = false)
+    private Long processedCount;
+
+    @Column(name = "failed_count", nullable = false)
+    private Long failedCount;
+
+    @Column(name = "legacy_scan_done")
+    private Boolean legacyScanDone;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    @PrePersist
+    @PreUpdate
+    protected void onSave() {
+        updatedAt = LocalDateTime.now();
+    }
+}
@@ -0,0 +1,55 @@
+package com.devsync.standupbot.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Entity for a commit seen in a GitHub push event, kept beyond GitHub's 90-day / 300-event window
+ */
+@Entity
+@Table(name = "commits", indexes = {
+    @Index(name = "idx_commit_author_pushed", columnList = "author_login, pushed_at")
+}, uniqueConstraints = {
+    @UniqueConstraint(name = "uk_commit_repo_sha", columnNames = {"repo_name", "sha"})
+})
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class GitHubCommit {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "author_login", nullable = false, length = 100)
+    private String authorLogin; // Lower-case login of the pusher
+
+    @Column(name = "repo_name", nullable = false, length = 200)
+    private String repoName;
+
+    @Column(nullable = false, length = 40)
+    private String sha;
+
+    @Column(columnDefinition = "TEXT")
+    private String message;
+
+    @Column(name = "pushed_at", nullable = false)
+    private LocalDateTime pushedAt; // UTC
+
+    @Column(name = "event_id")
+    private Long eventId;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @PrePersist
+    protected void onCreate() {
+        createdAt = LocalDateTime.now();
+    }
+}
@@ -0,0 +1,41 @@
+package com.devsync.standupbot.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Entity recording the newest GitHub event stored from a user or organization events feed,
+ * so each refresh only reads events after it
+ */
+@Entity
+@Table(name = "github_sync_cursors")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class GitHubSyncCursor {
+
+    @Id
+    @Column(name = "feed_key", length = 150)
+    private String feedKey; // Lower-case username, or "org:" + organization
+
+    @Column(name = "last_event_id", nullable = false)
+    private Long lastEventId;
+
+    @Column(name = "last_event_at")
+    private LocalDateTime lastEventAt; // UTC
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    @PrePersist
+    @PreUpdate
+    protected void onSave() {
+        updatedAt = LocalDateTime.now();
+    }
+}
@@ -14,7 +14,10 @@ import java.time.LocalDateTime;
  * Entity representing a standup entry
  */
 @Entity
-@Table(name = "standups")
+@Table(name = "standups", indexes = {
+    @Index(name = "idx_standup_date_user", columnList = "standup_date, user_id"),
+    @Index(name = "idx_standup_summary_fallback", columnList = "ai_summary_fallback, id")
+})
 @Data
 @Builder
 @NoArgsConstructor
@@ -49,6 +52,9 @@ public class Standup {
     @Column(name = "ai_summary", columnDefinition = "TEXT")
     private String aiSummary;
 
+    @Column(name = "ai_summary_fallback")
+    private Boolean aiSummaryFallback; // true while aiSummary is a fallback template awaiting backfill
+
     @Column(name = "github_commits", columnDefinition = "TEXT")
     private String githubCommits;
 
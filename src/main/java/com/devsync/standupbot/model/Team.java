@@ -65,6 +65,15 @@ public class Team {
     @Column(name = "openai_model")
     private String openaiModel;
 
+    @Column(name = "ai_input_token_budget")
+    private Integer aiInputTokenBudget; // null = ai.prompt.max.input.tokens
+
+    @Column(name = "ai_daily_token_budget")
+    private Long aiDailyTokenBudget; // null = ai.budget.daily.tokens
+
+    @Column(name = "ai_latency_budget_ms")
+    private Integer aiLatencyBudgetMs; // null = ai.budget.latency.ms
+
     @Column(name = "calendar_enabled")
     private Boolean calendarEnabled;
 
@@ -74,6 +83,9 @@ public class Team {
     @Column(name = "reminder_time")
     private String reminderTime; // e.g., "09:00"
 
+    @Column(name = "digest_enabled")
+    private Boolean digestEnabled; // null = no scheduled end-of-day digest
+
     @Column(name = "timezone")
     private String timezone;
 
@@ -0,0 +1,28 @@
+package com.devsync.standupbot.repository;
+
+import com.devsync.standupbot.model.AiSummaryCacheEntry;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * Repository for AiSummaryCacheEntry entity
+ */
+@Repository
+public interface AiSummaryCacheRepository extends JpaRepository<AiSummaryCacheEntry, Long> {
+
+    Optional<AiSummaryCacheEntry> findByCacheKey(String cacheKey);
+
+    @Modifying
+    @Query("UPDATE AiSummaryCacheEntry e SET e.hitCount = e.hitCount + 1, e.lastHitAt = :now WHERE e.cacheKey = :cacheKey")
+    int recordHit(@Param("cacheKey") String cacheKey, @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("DELETE FROM AiSummaryCacheEntry e WHERE e.createdAt < :cutoff")
+    int deleteOlderThan(@Param("cutoff") LocalDateTime cutoff);
+}
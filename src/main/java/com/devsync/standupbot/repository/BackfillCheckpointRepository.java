@@ -0,0 +1,12 @@
+package com.devsync.standupbot.repository;
+
+import com.devsync.standupbot.model.BackfillCheckpoint;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Repository for BackfillCheckpoint entity
+ */
+@Repository
+public interface BackfillCheckpointRepository extends JpaRepository<BackfillCheckpoint, String> {
+}
@@ -0,0 +1,35 @@
+package com.devsync.standupbot.repository;
+
+import com.devsync.standupbot.model.GitHubCommit;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Repository for GitHubCommit entity
+ */
+@Repository
+public interface GitHubCommitRepository extends JpaRepository<GitHubCommit, Long> {
+
+    List<GitHubCommit> findByAuthorLoginAndPushedAtAfterOrderByPushedAtDesc(String authorLogin, LocalDateTime after,
+                                                                           Pageable pageable);
+
+    /**
+     * Insert a commit unless its (repo, sha) is already stored; returns 1 if inserted
+     * Concurrent polls of overlapping feeds (a user's and their organization's) may store the same commit.
+     */
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO commits (author_login, repo_name, sha, message, pushed_at, event_id, created_at) " +
+                   "VALUES (:authorLogin, :repoName, :sha, :message, :pushedAt, :eventId, :createdAt)",
+           nativeQuery = true)
+    int insertIfAbsent(@Param("authorLogin") String authorLogin, @Param("repoName") String repoName,
+                       @Param("sha") String sha, @Param("message") String message,
+                       @Param("pushedAt") LocalDateTime pushedAt, @Param("eventId") Long eventId,
+                       @Param("createdAt") LocalDateTime createdAt);
+}
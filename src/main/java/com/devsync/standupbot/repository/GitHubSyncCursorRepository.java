@@ -0,0 +1,32 @@
+package com.devsync.standupbot.repository;
+
+import com.devsync.standupbot.model.GitHubSyncCursor;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+
+/**
+ * Repository for GitHubSyncCursor entity
+ */
+@Repository
+public interface GitHubSyncCursorRepository extends JpaRepository<GitHubSyncCursor, String> {
+
+    /**
+     * Create the feed's cursor or move it forward; a cursor is never moved back
+     */
+    @Modifying
+    @Query(value = "INSERT INTO github_sync_cursors (feed_key, last_event_id, last_event_at, updated_at) " +
+                   "VALUES (:feedKey, :eventId, :eventAt, :updatedAt) " +
+                   "ON DUPLICATE KEY UPDATE " +
+                   "last_event_at = CASE WHEN VALUES(last_event_id) > last_event_id " +
+                   "THEN VALUES(last_event_at) ELSE last_event_at END, " +
+                   "last_event_id = GREATEST(last_event_id, VALUES(last_event_id)), " +
+                   "updated_at = VALUES(updated_at)",
+           nativeQuery = true)
+    int advance(@Param("feedKey") String feedKey, @Param("eventId") Long eventId,
+                @Param("eventAt") LocalDateTime eventAt, @Param("updatedAt") LocalDateTime updatedAt);
+}
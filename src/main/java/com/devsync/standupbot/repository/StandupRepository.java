@@ -1,11 +1,15 @@
 package com.devsync.standupbot.repository;
 
 import com.devsync.standupbot.model.Standup;
+import com.devsync.standupbot.model.Team;
 import com.devsync.standupbot.model.User;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
 import java.util.List;
@@ -35,8 +39,53 @@ public interface StandupRepository extends JpaRepository<Standup, Long> {
     @Query("SELECT s FROM Standup s WHERE s.standupDate = :date AND s.status = 'COMPLETED'")
     List<Standup> findCompletedStandupsByDate(@Param("date") LocalDate date);
 
+    @Query("SELECT s FROM Standup s JOIN FETCH s.user u WHERE u.team = :team AND s.standupDate = :date " +
+           "AND s.status = 'COMPLETED' ORDER BY u.name")
+    List<Standup> findCompletedByTeamAndDate(@Param("team") Team team, @Param("date") LocalDate date);
+
     @Query("SELECT s FROM Standup s JOIN FETCH s.user WHERE s.user = :user ORDER BY s.standupDate DESC")
     List<Standup> findRecentStandupsByUser(@Param("user") User user);
 
     long countByUserAndStatus(User user, Standup.StandupStatus status);
+
+    @Query("SELECT s.aiSummary FROM Standup s WHERE s.id = :id")
+    Optional<String> findAiSummaryById(@Param("id") Long id);
+
+    /**
+     * Store a lazily generated summary unless another writer got there first
+     */
+    @Modifying
+    @Transactional
+    @Query("UPDATE Standup s SET s.aiSummary = :summary, s.aiSummaryFallback = :fallback " +
+           "WHERE s.id = :id AND s.aiSummary IS NULL")
+    int memoizeSummary(@Param("id") Long id, @Param("summary") String summary, @Param("fallback") Boolean fallback);
+
+    /**
+     * Ids of standups holding a fallback summary, in id order after a checkpoint (uses idx_standup_summary_fallback)
+     */
+    @Query("SELECT s.id FROM Standup s WHERE s.aiSummaryFallback = true AND s.id > :afterId ORDER BY s.id")
+    List<Long> findFallbackSummaryIds(@Param("afterId") Long afterId, Pageable pageable);
+
+    long countByAiSummaryFallbackTrue();
+
+    @Query("SELECT s FROM Standup s JOIN FETCH s.user u LEFT JOIN FETCH u.team WHERE s.id IN :ids ORDER BY s.id")
+    List<Standup> findWithTeamByIdIn(@Param("ids") List<Long> ids);
+
+    /**
+     * Replace a fallback summary with a regenerated one, unless it was replaced in the meantime
+     */
+    @Modifying
+    @Transactional
+    @Query("UPDATE Standup s SET s.aiSummary = :summary, s.aiSummaryFallback = false " +
+           "WHERE s.id = :id AND s.aiSummaryFallback = true")
+    int replaceFallbackSummary(@Param("id") Long id, @Param("summary") String summary);
+
+    /**
+     * Flag summaries written before the ai_summary_fallback column existed
+     */
+    @Modifying
+    @Transactional
+    @Query("UPDATE Standup s SET s.aiSummaryFallback = true WHERE s.aiSummaryFallback IS NULL " +
+           "AND (s.aiSummary LIKE CONCAT('%', :note, '%') OR s.aiSummary LIKE CONCAT('%', :legacyNote, '%'))")
+    int flagLegacyFallbackSummaries(@Param("note") String note, @Param("legacyNote") String legacyNote);
 }
@@ -22,5 +22,9 @@ public interface TeamRepository extends JpaRepository<Team, Long> {
 
     Optional<Team> findByZohoChannelId(String zohoChannelId);
 
+    List<Team> findByActiveTrue();
+
+    boolean existsByGithubOrganizationIgnoreCaseAndActiveTrue(String githubOrganization);
+
     boolean existsByTeamName(String teamName);
 }
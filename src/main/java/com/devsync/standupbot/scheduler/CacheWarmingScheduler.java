@@ -0,0 +1,56 @@
+package com.devsync.standupbot.scheduler;
+
+import com.devsync.standupbot.config.AppConfig;
+import com.devsync.standupbot.model.Team;
+import com.devsync.standupbot.repository.TeamRepository;
+import com.devsync.standupbot.service.IntegrationCacheWarmer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeParseException;
+
+/**
+ * Scheduler for pre-standup cache warming
+ * Every minute, finds teams whose reminder time falls within the warm lead window and hands
+ * them to IntegrationCacheWarmer, so the standup burst is served from warm caches.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+@ConditionalOnProperty(name = "standup.warm.enabled", havingValue = "true", matchIfMissing = true)
+public class CacheWarmingScheduler {
+
+    private final AppConfig appConfig;
+    private final TeamRepository teamRepository;
+    private final IntegrationCacheWarmer cacheWarmer;
+
+    @Scheduled(cron = "0 * * * * *")
+    public void warmUpcomingStandups() {
+        int leadMinutes = appConfig.getStandupWarmLeadMinutes();
+
+        for (Team team : teamRepository.findByActiveTrue()) {
+            if (!Boolean.TRUE.equals(team.getReminderEnabled()) || team.getReminderTime() == null) {
+                continue;
+            }
+            try {
+                ZoneId zone = ZoneId.of(team.getTimezone() != null ? team.getTimezone() : "UTC");
+                ZonedDateTime now = ZonedDateTime.now(zone);
+                ZonedDateTime standupAt = now.with(LocalTime.parse(team.getReminderTime())).withSecond(0).withNano(0);
+
+                if (now.isBefore(standupAt) && !now.plusMinutes(leadMinutes).isBefore(standupAt)) {
+                    cacheWarmer.warmTeam(team, standupAt);
+                }
+            } catch (DateTimeParseException e) {
+                log.warn("Team {} has an invalid reminder time '{}'", team.getTeamName(), team.getReminderTime());
+            } catch (Exception e) {
+                log.error("Error scheduling cache warming for team {}: {}", team.getTeamName(), e.getMessage(), e);
+            }
+        }
+    }
+}
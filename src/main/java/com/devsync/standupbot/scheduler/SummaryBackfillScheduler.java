@@ -0,0 +1,38 @@
+package com.devsync.standupbot.scheduler;
+
+import com.devsync.standupbot.config.AppConfig;
+import com.devsync.standupbot.service.SummaryBackfillService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Scheduler for the off-peak backfill of fallback standup summaries
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+@ConditionalOnProperty(name = "ai.backfill.enabled", havingValue = "true", matchIfMissing = true)
+public class SummaryBackfillScheduler {
+
+    private final AppConfig appConfig;
+    private final SummaryBackfillService summaryBackfillService;
+
+    /**
+     * Regenerate fallback summaries
+     * Runs daily at 2:00 AM by default, for at most ai.backfill.window.minutes, off the scheduler thread
+     */
+    @Scheduled(cron = "${ai.backfill.cron:0 0 2 * * *}", zone = "${standup.timezone:UTC}")
+    public void runBackfill() {
+        log.info("Executing AI summary backfill task");
+        try {
+            summaryBackfillService.startBackfill(Duration.ofMinutes(appConfig.getAiBackfillWindowMinutes()));
+        } catch (Exception e) {
+            log.error("Error during AI summary backfill: {}", e.getMessage(), e);
+        }
+    }
+}
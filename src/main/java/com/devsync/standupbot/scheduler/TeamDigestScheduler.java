@@ -0,0 +1,61 @@
+package com.devsync.standupbot.scheduler;
+
+import com.devsync.standupbot.dto.TeamDigest;
+import com.devsync.standupbot.model.Team;
+import com.devsync.standupbot.repository.TeamRepository;
+import com.devsync.standupbot.service.LlmConcurrencyLimiter;
+import com.devsync.standupbot.service.TeamDigestService;
+import com.devsync.standupbot.service.ZohoCliqService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+
+/**
+ * Scheduler for end-of-day team digests
+ * Posts one digest per active team that opted in (digest_enabled) to its Zoho Cliq channel
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+@ConditionalOnProperty(name = "standup.digest.enabled", havingValue = "true")
+public class TeamDigestScheduler {
+
+    private final TeamRepository teamRepository;
+    private final TeamDigestService teamDigestService;
+    private final ZohoCliqService zohoCliqService;
+
+    /**
+     * Send daily team digests
+     * Runs Monday to Friday at 5:00 PM by default
+     */
+    @Scheduled(cron = "${standup.digest.cron:0 0 17 * * MON-FRI}", zone = "${standup.timezone:UTC}")
+    public void sendDailyDigests() {
+        log.info("Executing daily team digest task");
+
+        for (Team team : teamRepository.findByActiveTrue()) {
+            if (!Boolean.TRUE.equals(team.getDigestEnabled())) {
+                continue;
+            }
+            try {
+                LocalDate today = LocalDate.now(ZoneId.of(team.getTimezone() != null ? team.getTimezone() : "UTC"));
+                TeamDigest digest = teamDigestService.generateDigest(team, today, LlmConcurrencyLimiter.Priority.BACKGROUND);
+
+                if (digest.getStandupCount() == 0) {
+                    log.debug("No standups for team {} today, skipping digest", team.getTeamName());
+                    continue;
+                }
+
+                zohoCliqService.sendTeamMessage(team, teamDigestService.formatDigest(digest));
+                log.info("Digest sent for team {} ({} standups, {} LLM calls)",
+                        team.getTeamName(), digest.getStandupCount(), digest.getLlmCalls());
+            } catch (Exception e) {
+                log.error("Error sending digest for team {}: {}", team.getTeamName(), e.getMessage(), e);
+            }
+        }
+    }
+}
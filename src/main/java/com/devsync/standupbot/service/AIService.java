@@ -1,262 +1,589 @@
 package com.devsync.standupbot.service;
 
 import com.devsync.standupbot.config.AppConfig;
-import com.theokanning.openai.completion.chat.ChatCompletionRequest;
-import com.theokanning.openai.completion.chat.ChatMessage;
-import com.theokanning.openai.service.OpenAiService;
+import com.devsync.standupbot.dto.LlmCompletion;
+import com.devsync.standupbot.dto.SummaryRequest;
+import com.devsync.standupbot.exception.IntegrationException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.http.HttpEntity;
-import org.springframework.http.HttpHeaders;
-import org.springframework.http.MediaType;
 import org.springframework.stereotype.Service;
-import org.springframework.web.client.RestTemplate;
+import reactor.core.publisher.Flux;
 
 import java.time.Duration;
-import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiConsumer;
+import java.util.function.Supplier;
 
 /**
- * Service for AI-powered summary generation using OpenAI
+ * Service for AI-powered summary generation
+ * The backend (OpenAI, Gemini, local) is chosen per request by SummaryProviderRegistry.
  */
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class AIService {
 
+    private static final Duration PROVIDER_TIMEOUT = Duration.ofSeconds(30);
+
+    public static final String FALLBACK_NOTE = "_Note: Generated locally (AI unavailable)_";
+    public static final String LEGACY_FALLBACK_NOTE = "_Note: Using simplified summary";
+
     private final AppConfig appConfig;
+    private final SummaryCacheService summaryCacheService;
+    private final SummaryProviderRegistry providerRegistry;
+    private final ProviderMetrics providerMetrics;
+    private final SummaryRoutingPolicy routingPolicy;
+    private final LlmConcurrencyLimiter concurrencyLimiter;
+    private final ProviderCircuitBreaker circuitBreaker;
+    private final TeamAiBudgetService teamBudget;
+    private final MeterRegistry meterRegistry;
+
+    private Timer firstChunkTimer;
+    private Counter hedgeCounter;
+    private ExecutorService hedgeExecutor;
+
+    @PostConstruct
+    void init() {
+        firstChunkTimer = Timer.builder("ai.streaming.first.chunk")
+                .description("Time from request to the first streamed summary chunk")
+                .register(meterRegistry);
+        hedgeCounter = Counter.builder("ai.provider.hedged.requests")
+                .description("Requests duplicated to the secondary provider after the primary's p95")
+                .register(meterRegistry);
+        hedgeExecutor = Executors.newCachedThreadPool(runnable -> {
+            Thread thread = new Thread(runnable, "ai-hedge");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PreDestroy
+    void shutdown() {
+        hedgeExecutor.shutdownNow();
+    }
 
     /**
-     * Generate standup summary using OpenAI GPT
+     * Generate standup summary using the globally configured provider
      */
     public String generateStandupSummary(String yesterdayWork, String todayPlan, String blockers,
                                         List<String> githubCommits, List<String> jiraTasks,
                                         List<String> calendarEvents) {
-        return generateStandupSummary(yesterdayWork, todayPlan, blockers, githubCommits, 
-                                     jiraTasks, calendarEvents, appConfig.getOpenaiApiKey(), 
+        return generateStandupSummary(yesterdayWork, todayPlan, blockers, githubCommits,
+                                     jiraTasks, calendarEvents, appConfig.getOpenaiApiKey(),
                                      appConfig.getOpenaiModel());
     }
 
     /**
-     * Generate standup summary using OpenAI GPT with specific API key
+     * Generate standup summary with a specific API key and model
      */
     public String generateStandupSummary(String yesterdayWork, String todayPlan, String blockers,
                                         List<String> githubCommits, List<String> jiraTasks,
                                         List<String> calendarEvents, String apiKey, String model) {
-        if (apiKey == null || apiKey.isEmpty() || apiKey.equals("YOUR_OPENAI_API_KEY")) {
-            log.warn("AI API key not configured, using fallback summary");
-            return generateFallbackSummary(yesterdayWork, todayPlan, blockers);
+        return generateStandupSummary(SummaryRequest.builder()
+                .yesterdayWork(yesterdayWork)
+                .todayPlan(todayPlan)
+                .blockers(blockers)
+                .githubCommits(githubCommits)
+                .jiraTasks(jiraTasks)
+                .calendarEvents(calendarEvents)
+                .apiKey(apiKey)
+                .model(model)
+                .build());
+    }
+
+    /**
+     * Generate standup summary for a fully specified request
+     * Cache hits return immediately; misses go through the per-key concurrency limiter
+     */
+    public String generateStandupSummary(SummaryRequest request) {
+        return summarize(request, true);
+    }
+
+    /**
+     * Summary written by a remote provider, for replacing fallback summaries
+     * Skips local routing; empty when no remote provider may be used (local model or budget) or
+     * the call fell back to the local summarizer.
+     */
+    public Optional<String> generateRemoteSummary(SummaryRequest request) {
+        String apiKey = request.getApiKey() != null ? request.getApiKey() : appConfig.getOpenaiApiKey();
+        String model = request.getModel() != null ? request.getModel() : appConfig.getOpenaiModel();
+
+        SummaryProviderRegistry.Selection selection = providerRegistry.select(apiKey, model);
+        if (!selection.getProvider().isRemote() || withinBudget(selection, request.getTeamId()) == null) {
+            return Optional.empty();
         }
+        String summary = summarize(request, false);
+        return isFallbackSummary(summary) ? Optional.empty() : Optional.of(summary);
+    }
 
-        // Check if using Gemini API (key starts with "AIza")
-        if (apiKey.startsWith("AIza")) {
-            return generateGeminiSummary(yesterdayWork, todayPlan, blockers, githubCommits, jiraTasks, calendarEvents, apiKey);
+    /**
+     * Blocking summary generation; applyRouting=false when the caller already consulted the routing policy
+     */
+    private String summarize(SummaryRequest request, boolean applyRouting) {
+        String apiKey = request.getApiKey() != null ? request.getApiKey() : appConfig.getOpenaiApiKey();
+        String model = request.getModel() != null ? request.getModel() : appConfig.getOpenaiModel();
+
+        SummaryProviderRegistry.Selection selection = providerRegistry.select(apiKey, model);
+        if (!selection.getProvider().isRemote()) {
+            if (!isConfigured(apiKey) && !selection.getProvider().supportsModel(model)) {
+                log.warn("AI API key not configured, using fallback summary");
+                return generateFallbackSummary(request);
+            }
+            return localSummary(selection, request);
+        }
+        if (applyRouting && routingPolicy.preferLocal(request)) {
+            return localSummary(localSelection(), request);
+        }
+        SummaryProviderRegistry.Selection budgeted = withinBudget(selection, request.getTeamId());
+        if (budgeted == null) {
+            return localSummary(localSelection(), request);
+        }
+        String resolvedModel = budgeted.getModel();
+
+        String cacheKey = summaryCacheService.buildKey(request.getYesterdayWork(), request.getTodayPlan(),
+                request.getBlockers(), request.getGithubCommits(), request.getJiraTasks(),
+                request.getCalendarEvents(), resolvedModel);
+        Optional<String> cached = summaryCacheService.lookup(cacheKey);
+        if (cached.isPresent()) {
+            log.info("AI summary served from cache, skipping {} call", resolvedModel);
+            return cached.get();
         }
 
         try {
-            log.info("Generating AI summary for standup using OpenAI");
-            
-            OpenAiService service = new OpenAiService(apiKey, Duration.ofSeconds(30));
-
-            StringBuilder prompt = new StringBuilder();
-            prompt.append("Generate a concise, professional standup summary based on the following information:\n\n");
-            
-            prompt.append("**What I did yesterday:**\n").append(yesterdayWork).append("\n\n");
-            prompt.append("**What I plan to do today:**\n").append(todayPlan).append("\n\n");
-            
-            if (blockers != null && !blockers.isEmpty() && !blockers.equalsIgnoreCase("none") 
-                && !blockers.equalsIgnoreCase("no blockers")) {
-                prompt.append("**Blockers:**\n").append(blockers).append("\n\n");
-            }
+            long start = System.nanoTime();
+            ProviderCall primary = summaryCall(request, budgeted, apiKey);
+            SummaryProviderRegistry.Selection secondarySelection = secondaryFor(budgeted);
+            ProviderCall secondary = secondarySelection != null
+                    ? summaryCall(request, secondarySelection, appConfig.getAiSecondaryApiKey())
+                    : null;
 
-            if (githubCommits != null && !githubCommits.isEmpty()) {
-                prompt.append("**Recent GitHub commits:**\n");
-                githubCommits.forEach(commit -> prompt.append("- ").append(commit).append("\n"));
-                prompt.append("\n");
+            String summary;
+            long latencyBudget = teamBudget.latencyBudgetMillis(request.getTeamId());
+            if (latencyBudget > 0) {
+                CompletableFuture<String> call = CompletableFuture.supplyAsync(() -> {
+                    try {
+                        return callWithResilience(primary, secondary);
+                    } catch (Exception e) {
+                        throw new CompletionException(e);
+                    }
+                }, hedgeExecutor);
+                try {
+                    summary = call.get(latencyBudget, TimeUnit.MILLISECONDS);
+                } catch (TimeoutException e) {
+                    log.warn("AI summary exceeded the {}ms latency budget of team {}, summarizing locally",
+                            latencyBudget, request.getTeamId());
+                    teamBudget.recordLatencyBudgetExceeded(request.getTeamId());
+                    // The late answer still warms the cache for the next identical request
+                    call.thenAccept(late -> summaryCacheService.store(cacheKey, resolvedModel, late,
+                            (System.nanoTime() - start) / 1_000_000));
+                    // Marked like any other fallback, so the backfill regenerates it
+                    return generateFallbackSummary(request);
+                }
+            } else {
+                summary = callWithResilience(primary, secondary);
             }
+            long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+            summaryCacheService.store(cacheKey, resolvedModel, summary, elapsedMillis);
+            return summary;
+        } catch (Exception e) {
+            log.error("Error generating AI summary: {}", e.getMessage(), e);
+            return generateFallbackSummary(request);
+        }
+    }
 
-            if (jiraTasks != null && !jiraTasks.isEmpty()) {
-                prompt.append("**Active Jira tasks:**\n");
-                jiraTasks.forEach(task -> prompt.append("- ").append(task).append("\n"));
-                prompt.append("\n");
-            }
+    /**
+     * Generate a standup summary, showing partial text on the given stream as tokens arrive
+     * The stream gets the whole text so far every ai.streaming.flush.chars characters or
+     * ai.streaming.flush.interval.ms, whichever comes first, and is completed with the final summary
+     * on every path (cache hit, local routing and fallback included), so a failed stream's partial
+     * text is replaced rather than left behind. Nothing is shown when streaming is disabled.
+     */
+    public String streamStandupSummary(SummaryRequest request, SummaryStream stream) {
+        if (!isStreamingEnabled()) {
+            return generateStandupSummary(request);
+        }
+        String summary = streamOrSummarize(request, stream);
+        stream.complete(summary);
+        return summary;
+    }
 
-            if (calendarEvents != null && !calendarEvents.isEmpty()) {
-                prompt.append("**Upcoming meetings:**\n");
-                calendarEvents.forEach(event -> prompt.append("- ").append(event).append("\n"));
-                prompt.append("\n");
-            }
+    /**
+     * Whether summaries are shown to the team as they are generated (ai.streaming.enabled)
+     */
+    public boolean isStreamingEnabled() {
+        return Boolean.TRUE.equals(appConfig.getAiStreamingEnabled());
+    }
 
-            prompt.append("Create a brief, engaging summary in 3-5 bullet points that highlights key accomplishments, ");
-            prompt.append("plans, and any blockers. Use emojis where appropriate to make it more readable.");
+    private String streamOrSummarize(SummaryRequest request, SummaryStream stream) {
+        String apiKey = request.getApiKey() != null ? request.getApiKey() : appConfig.getOpenaiApiKey();
+        String model = request.getModel() != null ? request.getModel() : appConfig.getOpenaiModel();
 
-            List<ChatMessage> messages = new ArrayList<>();
-            messages.add(new ChatMessage("system", "You are a helpful assistant that creates concise, professional standup summaries for software developers."));
-            messages.add(new ChatMessage("user", prompt.toString()));
+        SummaryProviderRegistry.Selection selection = providerRegistry.select(apiKey, model);
+        if (!selection.getProvider().isRemote()) {
+            return summarize(request, false);
+        }
+        if (routingPolicy.preferLocal(request)) {
+            return localSummary(localSelection(), request);
+        }
+        selection = withinBudget(selection, request.getTeamId());
+        if (selection == null) {
+            return localSummary(localSelection(), request);
+        }
+        SummaryProvider provider = selection.getProvider();
+        String resolvedModel = selection.getModel();
 
-            ChatCompletionRequest completionRequest = ChatCompletionRequest.builder()
-                    .model(model != null ? model : "gpt-4")
-                    .messages(messages)
-                    .maxTokens(appConfig.getOpenaiMaxTokens())
-                    .temperature(0.7)
-                    .build();
+        String cacheKey = summaryCacheService.buildKey(request.getYesterdayWork(), request.getTodayPlan(),
+                request.getBlockers(), request.getGithubCommits(), request.getJiraTasks(),
+                request.getCalendarEvents(), resolvedModel);
+        Optional<String> cached = summaryCacheService.lookup(cacheKey);
+        if (cached.isPresent()) {
+            log.info("AI summary served from cache, skipping {} stream", resolvedModel);
+            return cached.get();
+        }
+
+        // An open breaker means no stream; the blocking path routes to the secondary or the fallback
+        if (!circuitBreaker.allowRequest(provider.name())) {
+            log.warn("Circuit for {} is open, skipping streaming", provider.name());
+            return summarize(request, false);
+        }
 
-            String summary = service.createChatCompletion(completionRequest)
-                    .getChoices()
-                    .get(0)
-                    .getMessage()
-                    .getContent();
+        String team = request.getTeamId() != null ? request.getTeamId().toString() : null;
+        long start = System.nanoTime();
+        boolean started = false;
+        LlmConcurrencyLimiter.Permit permit = null;
+        try {
+            permit = concurrencyLimiter.acquire(apiKey, request.getPriority(), request.getDeadline(), team);
+            log.info("Streaming AI summary using {}", resolvedModel);
+            started = true;
 
-            log.info("AI summary generated successfully");
-            service.shutdownExecutor();
+            Flux<String> tokens = provider.streamSummary(request, apiKey, resolvedModel);
+
+            int flushChars = appConfig.getAiStreamingFlushChars();
+            long flushIntervalNanos = appConfig.getAiStreamingFlushIntervalMs() * 1_000_000;
+            StringBuilder fullText = new StringBuilder();
+            int[] flushedLength = {0};
+            long[] lastFlush = {start};
+
+            tokens.doOnNext(token -> {
+                fullText.append(token);
+                long now = System.nanoTime();
+                if (fullText.length() - flushedLength[0] >= flushChars || now - lastFlush[0] >= flushIntervalNanos) {
+                    if (lastFlush[0] == start) {
+                        firstChunkTimer.record(Duration.ofNanos(now - start));
+                    }
+                    stream.update(fullText.toString());
+                    flushedLength[0] = fullText.length();
+                    lastFlush[0] = now;
+                }
+            }).blockLast();
+
+            long elapsedNanos = System.nanoTime() - start;
+            if (fullText.length() == 0) {
+                throw new IllegalStateException("AI stream completed without any text");
+            }
+            circuitBreaker.recordSuccess(provider.name(), elapsedNanos / 1_000_000);
+
+            String summary = fullText.toString();
+            LlmCompletion completion = LlmCompletion.builder()
+                    .text(summary)
+                    .promptTokens(estimatePromptTokens(request))
+                    .completionTokens(PromptBuilder.estimateTokens(summary))
+                    .estimatedUsage(true)
+                    .build();
+            providerMetrics.recordSuccess(provider.name(), resolvedModel, elapsedNanos, completion);
+            teamBudget.recordUsage(request.getTeamId(), completion);
+            summaryCacheService.store(cacheKey, resolvedModel, summary, elapsedNanos / 1_000_000);
+            log.info("Streamed AI summary completed ({} chars)", summary.length());
             return summary;
+        } catch (Exception e) {
+            // Limiter rejections never reached the provider, so they do not count against it
+            if (started) {
+                long elapsedNanos = System.nanoTime() - start;
+                circuitBreaker.recordFailure(provider.name(), elapsedNanos / 1_000_000);
+                providerMetrics.recordFailure(provider.name(), resolvedModel, elapsedNanos, e);
+            }
+            log.error("Error streaming AI summary: {}", e.getMessage(), e);
+            return generateFallbackSummary(request);
+        } finally {
+            if (permit != null) {
+                permit.close();
+            }
+        }
+    }
 
+    /**
+     * Generate free-form text for a prompt (used for team digests and other non-standup prompts)
+     * Goes through the same per-key concurrency limiter as standup summaries.
+     *
+     * @throws IntegrationException if no key is configured, the limiter rejects the call or the provider fails
+     */
+    public String generateText(String prompt, String systemPrompt, String apiKey, String model,
+                               Long teamId, LlmConcurrencyLimiter.Priority priority) {
+        String effectiveKey = apiKey != null ? apiKey : appConfig.getOpenaiApiKey();
+        SummaryProviderRegistry.Selection selection = providerRegistry.select(effectiveKey, model);
+        if (!selection.getProvider().isRemote()) {
+            throw new IntegrationException("AI", "no remote AI provider configured", false);
+        }
+        selection = withinBudget(selection, teamId);
+        if (selection == null) {
+            throw new IntegrationException("AI", "AI budget exhausted for team " + teamId, false);
+        }
+
+        ProviderCall primary = textCall(prompt, systemPrompt, selection, effectiveKey, teamId, priority);
+        SummaryProviderRegistry.Selection secondarySelection = secondaryFor(selection);
+        ProviderCall secondary = secondarySelection != null
+                ? textCall(prompt, systemPrompt, secondarySelection, appConfig.getAiSecondaryApiKey(), teamId, priority)
+                : null;
+
+        try {
+            return callWithResilience(primary, secondary);
+        } catch (IntegrationException e) {
+            throw e;
         } catch (Exception e) {
-            log.error("Error generating AI summary: {}", e.getMessage(), e);
-            return generateFallbackSummary(yesterdayWork, todayPlan, blockers);
+            throw new IntegrationException("AI", e.getMessage(), e);
         }
     }
 
     /**
-     * Generate summary using Google Gemini API
+     * Call the primary provider, routing around an open circuit and optionally hedging
+     * If the primary's breaker is open, the secondary (when configured and healthy) is called instead.
+     * With hedging enabled, a second request goes to the secondary once the primary has been
+     * running longer than its recent p95 latency; whichever answers first wins.
      */
-    private String generateGeminiSummary(String yesterdayWork, String todayPlan, String blockers,
-                                        List<String> githubCommits, List<String> jiraTasks,
-                                        List<String> calendarEvents, String apiKey) {
+    private String callWithResilience(ProviderCall primary, ProviderCall secondary) throws Exception {
+        if (!circuitBreaker.allowRequest(primary.provider)) {
+            if (secondary != null && circuitBreaker.allowRequest(secondary.provider)) {
+                log.warn("Circuit for {} is open, routing to {}", primary.provider, secondary.provider);
+                return secondary.call.get();
+            }
+            throw new IntegrationException("AI", "circuit open for " + primary.provider, true);
+        }
+
+        if (secondary == null || !Boolean.TRUE.equals(appConfig.getAiHedgingEnabled())) {
+            try {
+                return primary.call.get();
+            } catch (RuntimeException e) {
+                if (secondary != null && circuitBreaker.allowRequest(secondary.provider)) {
+                    log.warn("{} failed ({}), failing over to {}", primary.provider, e.getMessage(), secondary.provider);
+                    return secondary.call.get();
+                }
+                throw e;
+            }
+        }
+
+        CompletableFuture<String> primaryFuture = CompletableFuture.supplyAsync(primary.call, hedgeExecutor);
+        long p95 = circuitBreaker.p95Millis(primary.provider);
+        long hedgeDelay = Math.max(appConfig.getAiHedgingMinDelayMs(),
+                p95 > 0 ? p95 : appConfig.getAiHedgingDefaultDelayMs());
+
         try {
-            log.info("Generating AI summary using Google Gemini");
-            
-            StringBuilder prompt = new StringBuilder();
-            prompt.append("Generate a concise, professional standup summary based on the following information:\n\n");
-            
-            prompt.append("What I did yesterday: ").append(yesterdayWork).append("\n\n");
-            prompt.append("What I plan to do today: ").append(todayPlan).append("\n\n");
-            
-            if (blockers != null && !blockers.isEmpty() && !blockers.equalsIgnoreCase("none") 
-                && !blockers.equalsIgnoreCase("no blockers")) {
-                prompt.append("Blockers: ").append(blockers).append("\n\n");
+            return primaryFuture.get(hedgeDelay, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            if (!circuitBreaker.allowRequest(secondary.provider)) {
+                return primaryFuture.get(PROVIDER_TIMEOUT.toMillis(), TimeUnit.MILLISECONDS);
+            }
+            log.info("{} slower than {}ms, hedging to {}", primary.provider, hedgeDelay, secondary.provider);
+            hedgeCounter.increment();
+            CompletableFuture<String> secondaryFuture = CompletableFuture.supplyAsync(secondary.call, hedgeExecutor);
+            return firstSuccessful(primaryFuture, secondaryFuture)
+                    .get(PROVIDER_TIMEOUT.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (ExecutionException e) {
+            if (circuitBreaker.allowRequest(secondary.provider)) {
+                log.warn("{} failed ({}), failing over to {}", primary.provider,
+                        e.getCause() != null ? e.getCause().getMessage() : e.getMessage(), secondary.provider);
+                return secondary.call.get();
             }
+            throw e;
+        }
+    }
 
-            if (githubCommits != null && !githubCommits.isEmpty()) {
-                prompt.append("Recent GitHub commits:\n");
-                githubCommits.forEach(commit -> prompt.append("- ").append(commit).append("\n"));
-                prompt.append("\n");
+    /**
+     * Complete with the first successful result, or exceptionally once both attempts failed
+     */
+    private CompletableFuture<String> firstSuccessful(CompletableFuture<String> first, CompletableFuture<String> second) {
+        CompletableFuture<String> winner = new CompletableFuture<>();
+        AtomicInteger remaining = new AtomicInteger(2);
+        BiConsumer<String, Throwable> handler = (result, error) -> {
+            if (error == null && result != null) {
+                winner.complete(result);
+            } else if (remaining.decrementAndGet() == 0) {
+                winner.completeExceptionally(error != null ? error : new IllegalStateException("empty AI response"));
             }
+        };
+        first.whenComplete(handler);
+        second.whenComplete(handler);
+        return winner;
+    }
 
-            if (jiraTasks != null && !jiraTasks.isEmpty()) {
-                prompt.append("Active Jira tasks:\n");
-                jiraTasks.forEach(task -> prompt.append("- ").append(task).append("\n"));
-                prompt.append("\n");
+    /**
+     * Standup summary call against one provider (limiter slot + breaker accounting)
+     */
+    private ProviderCall summaryCall(SummaryRequest request, SummaryProviderRegistry.Selection selection, String apiKey) {
+        String team = request.getTeamId() != null ? request.getTeamId().toString() : null;
+        SummaryProvider provider = selection.getProvider();
+        return new ProviderCall(provider.name(), () -> {
+            LlmConcurrencyLimiter.Permit permit = concurrencyLimiter.acquire(
+                    apiKey, request.getPriority(), request.getDeadline(), team);
+            try {
+                return tracked(provider.name(), selection.getModel(), request.getTeamId(),
+                        () -> provider.summarize(request, apiKey, selection.getModel()));
+            } finally {
+                permit.close();
             }
+        });
+    }
 
-            if (calendarEvents != null && !calendarEvents.isEmpty()) {
-                prompt.append("Upcoming meetings:\n");
-                calendarEvents.forEach(event -> prompt.append("- ").append(event).append("\n"));
-                prompt.append("\n");
+    /**
+     * Free-form text call against one provider (limiter slot + breaker accounting)
+     */
+    private ProviderCall textCall(String prompt, String systemPrompt, SummaryProviderRegistry.Selection selection,
+                                  String apiKey, Long teamId, LlmConcurrencyLimiter.Priority priority) {
+        String team = teamId != null ? teamId.toString() : null;
+        SummaryProvider provider = selection.getProvider();
+        return new ProviderCall(provider.name(), () -> {
+            LlmConcurrencyLimiter.Permit permit = concurrencyLimiter.acquire(apiKey, priority, null, team);
+            try {
+                return tracked(provider.name(), selection.getModel(), teamId,
+                        () -> provider.complete(systemPrompt, prompt, apiKey, selection.getModel()));
+            } finally {
+                permit.close();
             }
+        });
+    }
 
-            prompt.append("Create a brief, engaging summary in 3-5 bullet points that highlights key accomplishments, ");
-            prompt.append("plans, and any blockers. Use emojis where appropriate to make it more readable.");
-
-            // Call Gemini API
-            RestTemplate restTemplate = new RestTemplate();
-            String url = "https://generativelanguage.googleapis.com/v1beta/models/gemini-pro:generateContent?key=" + apiKey;
-            
-            HttpHeaders headers = new HttpHeaders();
-            headers.setContentType(MediaType.APPLICATION_JSON);
-            
-            Map<String, Object> requestBody = new HashMap<>();
-            Map<String, Object> content = new HashMap<>();
-            List<Map<String, String>> parts = new ArrayList<>();
-            Map<String, String> part = new HashMap<>();
-            part.put("text", prompt.toString());
-            parts.add(part);
-            content.put("parts", parts);
-            requestBody.put("contents", List.of(content));
-            
-            HttpEntity<Map<String, Object>> request = new HttpEntity<>(requestBody, headers);
-            
-            @SuppressWarnings("unchecked")
-            Map<String, Object> response = restTemplate.postForObject(url, request, Map.class);
-            
-            if (response != null && response.containsKey("candidates")) {
-                @SuppressWarnings("unchecked")
-                List<Map<String, Object>> candidates = (List<Map<String, Object>>) response.get("candidates");
-                if (!candidates.isEmpty()) {
-                    @SuppressWarnings("unchecked")
-                    Map<String, Object> candidate = candidates.get(0);
-                    @SuppressWarnings("unchecked")
-                    Map<String, Object> contentResponse = (Map<String, Object>) candidate.get("content");
-                    @SuppressWarnings("unchecked")
-                    List<Map<String, String>> partsResponse = (List<Map<String, String>>) contentResponse.get("parts");
-                    if (!partsResponse.isEmpty()) {
-                        String summary = partsResponse.get(0).get("text");
-                        log.info("Gemini AI summary generated successfully");
-                        return summary;
-                    }
-                }
+    /**
+     * Run a provider call, recording its outcome on the circuit breaker, provider metrics and team budget
+     */
+    private String tracked(String provider, String model, Long teamId, Supplier<LlmCompletion> call) {
+        long start = System.nanoTime();
+        try {
+            LlmCompletion completion = call.get();
+            if (completion == null || completion.getText() == null || completion.getText().isBlank()) {
+                throw new IllegalStateException(provider + " returned an empty response");
             }
-            
-            log.warn("Gemini API returned unexpected response, using fallback");
-            return generateFallbackSummary(yesterdayWork, todayPlan, blockers);
-            
-        } catch (Exception e) {
-            log.error("Error generating Gemini AI summary: {}", e.getMessage(), e);
-            return generateFallbackSummary(yesterdayWork, todayPlan, blockers);
+            long elapsedNanos = System.nanoTime() - start;
+            circuitBreaker.recordSuccess(provider, elapsedNanos / 1_000_000);
+            providerMetrics.recordSuccess(provider, model, elapsedNanos, completion);
+            teamBudget.recordUsage(teamId, completion);
+            return completion.getText();
+        } catch (RuntimeException e) {
+            long elapsedNanos = System.nanoTime() - start;
+            circuitBreaker.recordFailure(provider, elapsedNanos / 1_000_000);
+            providerMetrics.recordFailure(provider, model, elapsedNanos, e);
+            throw e;
         }
     }
 
     /**
-     * Fallback summary generation if AI service fails or API key not configured
-     * Creates a well-formatted summary without requiring AI
+     * Secondary provider to use alongside the primary, or null if none is configured for another provider
      */
-    private String generateFallbackSummary(String yesterdayWork, String todayPlan, String blockers) {
-        StringBuilder summary = new StringBuilder();
-        summary.append("📋 **Daily Standup Summary**\n\n");
-        
-        // Yesterday's work
-        summary.append("✅ **Completed Yesterday:**\n");
-        summary.append(formatBulletPoint(yesterdayWork));
-        summary.append("\n");
-        
-        // Today's plan
-        summary.append("🎯 **Plan for Today:**\n");
-        summary.append(formatBulletPoint(todayPlan));
-        summary.append("\n");
-        
-        // Blockers (if any)
-        if (blockers != null && !blockers.isEmpty() && 
-            !blockers.equalsIgnoreCase("none") && 
-            !blockers.equalsIgnoreCase("no blockers") &&
-            !blockers.equalsIgnoreCase("no")) {
-            summary.append("⚠️ **Blockers:**\n");
-            summary.append(formatBulletPoint(blockers));
-            summary.append("\n");
-        } else {
-            summary.append("✨ **No blockers reported**\n\n");
+    private SummaryProviderRegistry.Selection secondaryFor(SummaryProviderRegistry.Selection primary) {
+        String secondaryKey = appConfig.getAiSecondaryApiKey();
+        if (!isConfigured(secondaryKey)) {
+            return null;
         }
-        
-        summary.append("_Note: Using simplified summary (OpenAI not configured)_");
-        
-        return summary.toString();
+        SummaryProviderRegistry.Selection secondary = providerRegistry.select(secondaryKey, appConfig.getAiSecondaryModel());
+        if (!secondary.getProvider().isRemote()
+                || secondary.getProvider().name().equals(primary.getProvider().name())) {
+            return null;
+        }
+        return secondary;
+    }
+
+    /**
+     * Apply the team's budget: the provider's cheaper model, or null when the team should be served locally
+     */
+    private SummaryProviderRegistry.Selection withinBudget(SummaryProviderRegistry.Selection selection, Long teamId) {
+        TeamAiBudgetService.Level level = teamBudget.levelFor(teamId, selection.getProvider().name());
+        if (level == TeamAiBudgetService.Level.LOCAL) {
+            return null;
+        }
+        if (level == TeamAiBudgetService.Level.CHEAP) {
+            return new SummaryProviderRegistry.Selection(selection.getProvider(), selection.getProvider().cheapModel());
+        }
+        return selection;
     }
-    
+
     /**
-     * Format text as bullet points if not already formatted
+     * Rough prompt size for streamed calls, which report no usage
      */
-    private String formatBulletPoint(String text) {
-        if (text == null || text.trim().isEmpty()) {
-            return "• _No information provided_\n";
+    private long estimatePromptTokens(SummaryRequest request) {
+        long tokens = PromptBuilder.estimateTokens(SummaryProvider.SUMMARY_SYSTEM_PROMPT)
+                + PromptBuilder.estimateTokens(request.getYesterdayWork())
+                + PromptBuilder.estimateTokens(request.getTodayPlan())
+                + PromptBuilder.estimateTokens(request.getBlockers());
+        for (List<String> items : List.of(nullToEmpty(request.getGithubCommits()),
+                nullToEmpty(request.getJiraTasks()), nullToEmpty(request.getCalendarEvents()))) {
+            tokens += items.stream().mapToLong(PromptBuilder::estimateTokens).sum();
         }
-        
-        // If already has bullet points, return as is
-        if (text.trim().startsWith("•") || text.trim().startsWith("-") || text.trim().startsWith("*")) {
-            return text + "\n";
+        return tokens;
+    }
+
+    private List<String> nullToEmpty(List<String> items) {
+        return items != null ? items : List.of();
+    }
+
+    private boolean isConfigured(String apiKey) {
+        return apiKey != null && !apiKey.isEmpty() && !apiKey.equals("YOUR_OPENAI_API_KEY");
+    }
+
+    /**
+     * Summary from an in-process provider chosen by the team's model setting
+     */
+    private String localSummary(SummaryProviderRegistry.Selection selection, SummaryRequest request) {
+        long start = System.nanoTime();
+        LlmCompletion completion = selection.getProvider().summarize(request, null, selection.getModel());
+        providerMetrics.recordSuccess(selection.getProvider().name(), selection.getModel(),
+                System.nanoTime() - start, completion);
+        return completion.getText();
+    }
+
+    private SummaryProviderRegistry.Selection localSelection() {
+        SummaryProvider local = providerRegistry.local();
+        return new SummaryProviderRegistry.Selection(local, local.defaultModel());
+    }
+
+    /**
+     * Fallback summary generation if AI service fails or API key not configured
+     * Uses the local extractive summarizer, so it never requires AI
+     */
+    private String generateFallbackSummary(SummaryRequest request) {
+        String summary = localSummary(localSelection(), request);
+        return summary + "\n" + FALLBACK_NOTE;
+    }
+
+    /**
+     * Whether a stored summary came from the fallback path (current or legacy template) rather than a provider
+     * The note may be followed by text patched in later (e.g. blockers), so it is matched anywhere.
+     */
+    public static boolean isFallbackSummary(String summary) {
+        return summary != null && (summary.contains(FALLBACK_NOTE) || summary.contains(LEGACY_FALLBACK_NOTE));
+    }
+
+    /**
+     * A provider-bound call, so resilience logic can choose between primary and secondary
+     */
+    private static class ProviderCall {
+        private final String provider;
+        private final Supplier<String> call;
+
+        ProviderCall(String provider, Supplier<String> call) {
+            this.provider = provider;
+            this.call = call;
         }
-        
-        // Add bullet point
-        return "• " + text + "\n";
     }
 }
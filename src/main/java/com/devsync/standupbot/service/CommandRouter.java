@@ -1,20 +1,28 @@
 package com.devsync.standupbot.service;
 
+import com.devsync.standupbot.dto.TeamDigest;
 import com.devsync.standupbot.dto.UserSession;
 import com.devsync.standupbot.dto.ZohoUserContext;
 import com.devsync.standupbot.model.Standup;
 import com.devsync.standupbot.model.Team;
 import com.devsync.standupbot.model.User;
 import com.devsync.standupbot.repository.StandupRepository;
+import com.devsync.standupbot.util.StandupTextUtil;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import reactor.core.publisher.Mono;
+import reactor.util.function.Tuple2;
+import reactor.util.function.Tuples;
 
 import java.time.LocalDate;
+import java.time.ZoneId;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.Future;
 import java.util.stream.Collectors;
 
 /**
@@ -33,7 +41,12 @@ public class CommandRouter {
     private final UserService userService;
     private final GitHubService githubService;
     private final JiraService jiraService;
+    private final IntegrationCacheWarmer cacheWarmer;
     private final AIService aiService;
+    private final TeamDigestService teamDigestService;
+    private final StandupSummaryService standupSummaryService;
+    private final SpeculativeSummaryService speculativeSummaryService;
+    private final ZohoCliqService zohoCliqService;
     private final StandupRepository standupRepository;
     
     /**
@@ -84,6 +97,14 @@ public class CommandRouter {
             return getTeamCommits(context);
         }
         
+        if (message.startsWith("/team-digest") || message.equals("team digest")) {
+            return getTeamDigest(context);
+        }
+        
+        if (message.startsWith("/standup-summary") || message.equals("standup summary")) {
+            return getStandupSummary(context, message);
+        }
+        
         if (message.startsWith("/switch-user ")) {
             return handleUserSwitch(context);
         }
@@ -432,50 +453,45 @@ public class CommandRouter {
             return "✅ You've already submitted standup for today!\n\nType **/status** to view your profile.";
         }
         
-        // Fetch GitHub commits and Jira issues
+        // Fetch GitHub commits and Jira issues concurrently (warmed ahead of the team's reminder)
+        Team team = user.getTeam();
+        cacheWarmer.recordStart(user, team);
         StringBuilder context_info = new StringBuilder();
         
-        if (user.getGithubUsername() != null && user.getGithubToken() != null) {
-            try {
-                List<String> commits = githubService.fetchRecentCommits(
-                    user.getGithubUsername(),
-                    user.getGithubToken()
-                );
-                
-                if (!commits.isEmpty()) {
-                    context_info.append("\n**📝 Your GitHub Commits (Last 24h):**\n");
-                    for (String commit : commits) {
-                        context_info.append(commit).append("\n");
-                    }
-                    sessionManager.putData(context.getZohoUserId(), "githubCommits", commits);
-                }
-            } catch (Exception e) {
-                log.error("Error fetching GitHub commits", e);
+        Mono<List<String>> commitsMono = user.getGithubUsername() != null
+                && (githubService.isIndexed(user, team) || !githubService.tokensFor(user, team).isEmpty())
+                ? githubService.recentCommits(user, team, GitHubTokenPool.Priority.INTERACTIVE)
+                : Mono.just(List.of());
+        Mono<List<String>> issuesMono = user.getJiraAccountId() != null && user.getJiraApiToken() != null
+                && team.getJiraApiUrl() != null
+                ? jiraService.activeTasks(user.getJiraAccountId(), team.getJiraApiUrl(),
+                        user.getJiraEmail(), user.getJiraApiToken())
+                : Mono.just(List.of());
+        
+        Tuple2<List<String>, List<String>> prefetched;
+        try {
+            prefetched = Mono.zip(commitsMono, issuesMono).block();
+        } catch (Exception e) {
+            log.error("Error fetching GitHub commits and Jira issues", e);
+            prefetched = Tuples.of(List.of(), List.of());
+        }
+        
+        List<String> commits = prefetched.getT1();
+        if (!commits.isEmpty()) {
+            context_info.append("\n**📝 Your GitHub Commits (Last 24h):**\n");
+            for (String commit : commits) {
+                context_info.append(commit).append("\n");
             }
+            sessionManager.putData(context.getZohoUserId(), "githubCommits", commits);
         }
         
-        if (user.getJiraAccountId() != null && user.getJiraApiToken() != null && user.getTeam() != null) {
-            try {
-                Team team = user.getTeam();
-                if (team.getJiraApiUrl() != null) {
-                    List<String> issues = jiraService.fetchActiveTasks(
-                        user.getJiraAccountId(),
-                        team.getJiraApiUrl(),
-                        user.getJiraEmail(),
-                        user.getJiraApiToken()
-                    );
-                    
-                    if (!issues.isEmpty()) {
-                        context_info.append("\n**🎫 Your Jira Issues (Updated Last 24h):**\n");
-                        for (String issue : issues) {
-                            context_info.append(issue).append("\n");
-                        }
-                        sessionManager.putData(context.getZohoUserId(), "jiraIssues", issues);
-                    }
-                }
-            } catch (Exception e) {
-                log.error("Error fetching Jira issues", e);
+        List<String> issues = prefetched.getT2();
+        if (!issues.isEmpty()) {
+            context_info.append("\n**🎫 Your Jira Issues (Updated Last 24h):**\n");
+            for (String issue : issues) {
+                context_info.append(issue).append("\n");
             }
+            sessionManager.putData(context.getZohoUserId(), "jiraIssues", issues);
         }
         
         sessionManager.setState(context.getZohoUserId(), UserSession.SessionState.STANDUP_YESTERDAY);
@@ -507,6 +523,7 @@ public class CommandRouter {
             // Got today's plan
             sessionManager.putData(context.getZohoUserId(), "todayPlan", message);
             sessionManager.setState(context.getZohoUserId(), UserSession.SessionState.STANDUP_BLOCKERS);
+            startSpeculativeSummary(context);
             return "**Any blockers or challenges?**\n\n(Type **none** if no blockers)";
         } else if (state == UserSession.SessionState.STANDUP_BLOCKERS) {
             // Got blockers, create standup
@@ -516,40 +533,102 @@ public class CommandRouter {
         return "Something went wrong. Please try again with **standup**";
     }
     
+    /**
+     * Start summarizing the standup while the user answers the blockers question
+     */
+    private void startSpeculativeSummary(ZohoUserContext context) {
+        if (!speculativeSummaryService.isEnabled() || standupSummaryService.isLazy()) {
+            return;
+        }
+        try {
+            User user = userService.getUserByZohoId(context.getZohoUserId()).get();
+            Standup draft = buildStandupFromSession(context, user, null);
+            Future<String> speculation = speculativeSummaryService.start(
+                standupSummaryService.toSummaryRequest(draft, LlmConcurrencyLimiter.Priority.INTERACTIVE));
+            if (speculation != null) {
+                sessionManager.putData(context.getZohoUserId(), "speculativeSummary", speculation);
+            }
+        } catch (Exception e) {
+            log.warn("Could not start speculative AI summary: {}", e.getMessage());
+        }
+    }
+    
+    /**
+     * Build a standup from the answers and context collected in the session
+     */
+    private Standup buildStandupFromSession(ZohoUserContext context, User user, String blockers) {
+        String yesterdayWork = sessionManager.getData(context.getZohoUserId(), "yesterdayWork", String.class);
+        String todayPlan = sessionManager.getData(context.getZohoUserId(), "todayPlan", String.class);
+        
+        // Get GitHub commits and Jira issues from session
+        @SuppressWarnings("unchecked")
+        List<String> githubCommits = (List<String>) sessionManager.getData(context.getZohoUserId(), "githubCommits");
+        @SuppressWarnings("unchecked")
+        List<String> jiraIssues = (List<String>) sessionManager.getData(context.getZohoUserId(), "jiraIssues");
+        
+        if (githubCommits == null) githubCommits = new ArrayList<>();
+        if (jiraIssues == null) jiraIssues = new ArrayList<>();
+        
+        return Standup.builder()
+            .user(user)
+            .standupDate(LocalDate.now())
+            .yesterdayWork(yesterdayWork)
+            .todayPlan(todayPlan)
+            .blockers(StandupTextUtil.hasBlockers(blockers) ? blockers : null)
+            .githubCommits(githubCommits.isEmpty() ? null : String.join("\n", githubCommits))
+            .jiraTasks(jiraIssues.isEmpty() ? null : String.join("\n", jiraIssues))
+            .status(Standup.StandupStatus.COMPLETED)
+            .build();
+    }
+    
     /**
      * Create standup from session data
      */
     private String createStandupFromSession(ZohoUserContext context, String blockers) {
         try {
+            long submittedAt = System.nanoTime();
             User user = userService.getUserByZohoId(context.getZohoUserId()).get();
+            Standup standup = buildStandupFromSession(context, user, blockers);
             
-            String yesterdayWork = sessionManager.getData(context.getZohoUserId(), "yesterdayWork", String.class);
-            String todayPlan = sessionManager.getData(context.getZohoUserId(), "todayPlan", String.class);
-            
-            // Get GitHub commits and Jira issues from session
-            @SuppressWarnings("unchecked")
-            List<String> githubCommits = (List<String>) sessionManager.getData(context.getZohoUserId(), "githubCommits");
-            @SuppressWarnings("unchecked")
-            List<String> jiraIssues = (List<String>) sessionManager.getData(context.getZohoUserId(), "jiraIssues");
+            // In lazy mode the summary is generated when someone first views it
+            if (standupSummaryService.isLazy()) {
+                standupRepository.save(standup);
+                sessionManager.resetSession(context.getZohoUserId());
+                return "✅ **Standup Submitted!**\n\n" +
+                       "Type **/standup-summary** to see your AI summary.\n\n" +
+                       "Great work! 🎉";
+            }
             
-            if (githubCommits == null) githubCommits = new ArrayList<>();
-            if (jiraIssues == null) jiraIssues = new ArrayList<>();
+            SummaryStream teamMessage =
+                zohoCliqService.openSummaryMessage(user.getTeam(), "🤖 **" + user.getName() + "'s standup:**\n");
             
-            // Generate AI summary with GitHub and Jira context
-            String aiSummary = aiService.generateStandupSummary(yesterdayWork, todayPlan, blockers,
-                githubCommits, jiraIssues, new ArrayList<>());
+            // Use the summary started after the today-plan answer, patched with blockers if any
+            @SuppressWarnings("unchecked")
+            Future<String> speculation = (Future<String>)
+                sessionManager.getData(context.getZohoUserId(), "speculativeSummary");
+            Optional<String> speculative = speculation != null
+                ? speculativeSummaryService.resolve(speculation, blockers)
+                : Optional.empty();
             
-            // Create standup
-            Standup standup = Standup.builder()
-                .user(user)
-                .standupDate(LocalDate.now())
-                .yesterdayWork(yesterdayWork)
-                .todayPlan(todayPlan)
-                .blockers(blockers.equalsIgnoreCase("none") ? null : blockers)
-                .status(Standup.StandupStatus.COMPLETED)
-                .aiSummary(aiSummary)
-                .build();
+            String aiSummary;
+            if (speculative.isPresent()) {
+                aiSummary = speculative.get();
+                // The channel only gets summaries while streaming is enabled, as on the fresh path
+                if (aiService.isStreamingEnabled()) {
+                    teamMessage.complete(aiSummary);
+                }
+                speculativeSummaryService.recordSubmitLatency(
+                    StandupTextUtil.hasBlockers(blockers) ? "patched" : "speculative", submittedAt);
+            } else {
+                // Generate AI summary with GitHub and Jira context, streaming partial text to the team channel
+                aiSummary = aiService.streamStandupSummary(
+                    standupSummaryService.toSummaryRequest(standup, LlmConcurrencyLimiter.Priority.INTERACTIVE),
+                    teamMessage);
+                speculativeSummaryService.recordSubmitLatency("fresh", submittedAt);
+            }
             
+            standup.setAiSummary(aiSummary);
+            standup.setAiSummaryFallback(AIService.isFallbackSummary(aiSummary));
             standupRepository.save(standup);
             sessionManager.resetSession(context.getZohoUserId());
             
@@ -601,6 +680,8 @@ public class CommandRouter {
             help.append("• **standup** - Submit daily standup\n");
             help.append("• **/team-standups** - View team standups (last 7 days)\n");
             help.append("• **/team-commits** - View team GitHub activity (last 24h)\n");
+            help.append("• **/team-digest** - View today's AI team digest\n");
+            help.append("• **/standup-summary [id]** - View the AI summary of a standup (yours today by default)\n");
             help.append("• **/status** - View your profile\n");
         }
         
@@ -679,7 +760,8 @@ public class CommandRouter {
             .forEach(entry -> {
                 response.append("**").append(entry.getKey()).append("**\n");
                 entry.getValue().forEach(standup -> {
-                    response.append("• **").append(standup.getUser().getName()).append("**\n");
+                    response.append("• **").append(standup.getUser().getName()).append("** _(#")
+                        .append(standup.getId()).append(")_\n");
                     response.append("  Yesterday: ").append(standup.getYesterdayWork()).append("\n");
                     response.append("  Today: ").append(standup.getTodayPlan()).append("\n");
                     if (standup.getBlockers() != null && !standup.getBlockers().isEmpty()) {
@@ -689,6 +771,7 @@ public class CommandRouter {
                 });
             });
         
+        response.append("_Type **/standup-summary <id>** for a standup's AI summary_");
         return response.toString();
     }
     
@@ -710,24 +793,24 @@ public class CommandRouter {
         
         StringBuilder response = new StringBuilder("💻 **Team GitHub Commits** - " + team.getTeamName() + " (Last 24h)\n\n");
         
+        Map<String, List<String>> commitsByMember = Map.of();
+        try {
+            // One org feed, or every member's feed fetched concurrently
+            commitsByMember = githubService.teamCommits(team, teamMembers, GitHubTokenPool.Priority.INTERACTIVE).block();
+        } catch (Exception e) {
+            log.error("Failed to fetch team commits for {}: {}", team.getTeamName(), e.getMessage());
+        }
+        
         boolean hasCommits = false;
         for (User member : teamMembers) {
-            if (member.getGithubUsername() != null && member.getGithubToken() != null) {
-                try {
-                    List<String> commits = githubService.fetchRecentCommits(
-                        member.getGithubUsername(), 
-                        member.getGithubToken()
-                    );
-                    
-                    if (!commits.isEmpty()) {
-                        hasCommits = true;
-                        response.append("**").append(member.getName()).append("** (@").append(member.getGithubUsername()).append(")\n");
-                        commits.forEach(commit -> response.append("• ").append(commit).append("\n"));
-                        response.append("\n");
-                    }
-                } catch (Exception e) {
-                    log.error("Failed to fetch commits for {}: {}", member.getName(), e.getMessage());
-                }
+            List<String> commits = member.getGithubUsername() != null
+                    ? commitsByMember.getOrDefault(member.getGithubUsername().toLowerCase(), List.of())
+                    : List.of();
+            if (!commits.isEmpty()) {
+                hasCommits = true;
+                response.append("**").append(member.getName()).append("** (@").append(member.getGithubUsername()).append(")\n");
+                commits.forEach(commit -> response.append("• ").append(commit).append("\n"));
+                response.append("\n");
             }
         }
         
@@ -739,6 +822,64 @@ public class CommandRouter {
         return response.toString();
     }
     
+    /**
+     * Get today's AI digest for the user's team
+     */
+    private String getTeamDigest(ZohoUserContext context) {
+        if (!userService.isUserRegistered(context.getZohoUserId())) {
+            return "❌ You're not registered. Type **/register-org** to get started.";
+        }
+        
+        User user = userService.getUserByZohoId(context.getZohoUserId()).get();
+        if (user.getTeam() == null) {
+            return "❌ You're not assigned to a team yet.";
+        }
+        
+        Team team = user.getTeam();
+        LocalDate today = LocalDate.now(ZoneId.of(team.getTimezone() != null ? team.getTimezone() : "UTC"));
+        TeamDigest digest = teamDigestService.generateDigest(team, today, LlmConcurrencyLimiter.Priority.INTERACTIVE);
+        return teamDigestService.formatDigest(digest);
+    }
+    
+    /**
+     * Show the AI summary of a standup, generating it on first view
+     * Without an id, shows the caller's standup for today; with one, any standup from the caller's team.
+     */
+    private String getStandupSummary(ZohoUserContext context, String message) {
+        if (!userService.isUserRegistered(context.getZohoUserId())) {
+            return "❌ You're not registered. Type **/register-org** to get started.";
+        }
+        
+        User user = userService.getUserByZohoId(context.getZohoUserId()).get();
+        if (user.getTeam() == null) {
+            return "❌ You're not assigned to a team yet.";
+        }
+        
+        String argument = message.replaceFirst("^/?standup[- ]summary", "").replace("#", "").trim();
+        Optional<Standup> found;
+        if (argument.isEmpty()) {
+            found = standupRepository.findByUserAndStandupDate(user, LocalDate.now());
+        } else {
+            try {
+                found = standupRepository.findById(Long.parseLong(argument));
+            } catch (NumberFormatException e) {
+                return "❌ Usage: **/standup-summary** or **/standup-summary <id>**";
+            }
+        }
+        
+        Optional<Standup> visible = found.filter(standup -> standup.getUser().getTeam() != null
+            && standup.getUser().getTeam().getId().equals(user.getTeam().getId()));
+        if (visible.isEmpty()) {
+            return argument.isEmpty()
+                ? "You haven't submitted a standup today. Type **standup** to start."
+                : "❌ Standup not found in your team.";
+        }
+        
+        Standup standup = visible.get();
+        return "🤖 **AI Summary - " + standup.getUser().getName() + "** (" + standup.getStandupDate() + ")\n\n" +
+               standupSummaryService.getSummary(standup);
+    }
+    
     /**
      * Handle user switch for testing multiple users
      */
@@ -0,0 +1,118 @@
+package com.devsync.standupbot.service;
+
+import com.devsync.standupbot.config.AppConfig;
+import com.devsync.standupbot.config.IntegrationWebClients;
+import com.devsync.standupbot.dto.LlmCompletion;
+import com.devsync.standupbot.dto.SummaryRequest;
+import com.fasterxml.jackson.databind.JsonNode;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Summary provider backed by Google Gemini generateContent
+ */
+@Component
+@Order(2)
+@RequiredArgsConstructor
+@Slf4j
+public class GeminiSummaryProvider implements SummaryProvider {
+
+    private static final Duration PROVIDER_TIMEOUT = Duration.ofSeconds(30);
+
+    private final AppConfig appConfig;
+    private final PromptBuilder promptBuilder;
+    private final LlmStreamingClient streamingClient;
+    private final IntegrationWebClients webClients;
+
+    @Override
+    public String name() {
+        return "gemini";
+    }
+
+    @Override
+    public boolean acceptsKey(String apiKey) {
+        return apiKey != null && apiKey.startsWith("AIza");
+    }
+
+    @Override
+    public boolean supportsModel(String model) {
+        return model != null && model.startsWith("gemini");
+    }
+
+    @Override
+    public String defaultModel() {
+        return appConfig.getGeminiModel();
+    }
+
+    @Override
+    public String cheapModel() {
+        return appConfig.getAiBudgetCheapGeminiModel();
+    }
+
+    @Override
+    public LlmCompletion summarize(SummaryRequest request, String apiKey, String model) {
+        log.info("Generating AI summary using Google Gemini");
+        String prompt = promptBuilder.buildStandupPrompt(request, PromptBuilder.Style.PLAIN);
+        return complete(null, prompt, apiKey, model);
+    }
+
+    @Override
+    public Flux<String> streamSummary(SummaryRequest request, String apiKey, String model) {
+        String prompt = promptBuilder.buildStandupPrompt(request, PromptBuilder.Style.PLAIN);
+        return streamingClient.streamGemini(prompt, apiKey, model);
+    }
+
+    /**
+     * Gemini has no system role in generateContent, so the system prompt is prepended
+     * The call goes through the shared Gemini client, bounded per attempt by the provider timeout.
+     */
+    @Override
+    public LlmCompletion complete(String systemPrompt, String prompt, String apiKey, String model) {
+        String fullPrompt = systemPrompt != null ? systemPrompt + "\n\n" + prompt : prompt;
+        Map<String, Object> body = Map.of(
+                "contents", List.of(Map.of("parts", List.of(Map.of("text", fullPrompt)))));
+
+        JsonNode response = webClients.withResilience(webClients.forBaseUrl(appConfig.getGeminiBaseUrl())
+                        .post()
+                        .uri(uriBuilder -> uriBuilder
+                                .path("/models/{model}:generateContent")
+                                .queryParam("key", apiKey)
+                                .build(model))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .bodyValue(body)
+                        .retrieve()
+                        .bodyToMono(JsonNode.class), PROVIDER_TIMEOUT)
+                .block();
+
+        JsonNode text = response != null ? response.at("/candidates/0/content/parts/0/text") : null;
+        if (text == null || !text.isTextual()) {
+            throw new IllegalStateException("Gemini API returned unexpected response");
+        }
+        return withUsage(text.asText(), fullPrompt, response);
+    }
+
+    private LlmCompletion withUsage(String text, String prompt, JsonNode response) {
+        JsonNode usage = response.path("usageMetadata");
+        if (usage.path("promptTokenCount").isNumber() && usage.path("candidatesTokenCount").isNumber()) {
+            return LlmCompletion.builder()
+                    .text(text)
+                    .promptTokens(usage.get("promptTokenCount").asLong())
+                    .completionTokens(usage.get("candidatesTokenCount").asLong())
+                    .build();
+        }
+        return LlmCompletion.builder()
+                .text(text)
+                .promptTokens(PromptBuilder.estimateTokens(prompt))
+                .completionTokens(PromptBuilder.estimateTokens(text))
+                .estimatedUsage(true)
+                .build();
+    }
+}
@@ -0,0 +1,172 @@
+package com.devsync.standupbot.service;
+
+import com.devsync.standupbot.config.AppConfig;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In-memory index of pushed commits per GitHub author, newest first, fed by push webhooks
+ * An organization counts as covered once its webhook has delivered for longer than the lookback
+ * window (so the index holds everything in it) and has not gone quiet for github.webhook.stale.hours.
+ * Users of uncovered organizations are polled as before.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class GitHubCommitIndex {
+
+    public static final Duration LOOKBACK = Duration.ofHours(24);
+
+    private static final Comparator<IndexedCommit> NEWEST_FIRST =
+            Comparator.comparing((IndexedCommit commit) -> commit.pushedAt).reversed()
+                    .thenComparing(commit -> commit.sha);
+
+    private final AppConfig appConfig;
+    private final MeterRegistry meterRegistry;
+
+    private final Map<String, AuthorCommits> authors = new ConcurrentHashMap<>();
+    private final Map<String, Coverage> organizations = new ConcurrentHashMap<>();
+
+    @PostConstruct
+    void init() {
+        Gauge.builder("github.webhook.index.commits", authors,
+                        map -> map.values().stream().mapToInt(AuthorCommits::size).sum())
+                .description("Commits held in the local webhook commit index")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Note a webhook delivery from an organization, starting its coverage if needed
+     */
+    public void recordDelivery(String organization) {
+        Instant now = Instant.now();
+        organizations.compute(organization.toLowerCase(), (key, coverage) ->
+                coverage == null || coverage.isStale(now, staleAfter())
+                        ? new Coverage(now)
+                        : coverage.delivered(now));
+    }
+
+    /**
+     * Add a pushed commit to its author's index; duplicates (same sha) are ignored
+     */
+    public void add(String author, String sha, Instant pushedAt, String line) {
+        Instant cutoff = Instant.now().minus(Duration.ofHours(appConfig.getGithubWebhookRetentionHours()));
+        if (pushedAt.isBefore(cutoff)) {
+            return;
+        }
+        authors.computeIfAbsent(author.toLowerCase(), key -> new AuthorCommits())
+                .add(new IndexedCommit(sha, pushedAt, line), cutoff);
+    }
+
+    /**
+     * Whether the index can answer for users of the organization
+     */
+    public boolean covers(String organization) {
+        if (organization == null || organization.isBlank()) {
+            return false;
+        }
+        Coverage coverage = organizations.get(organization.toLowerCase());
+        Instant now = Instant.now();
+        return coverage != null && !coverage.isStale(now, staleAfter())
+                && !coverage.since.isAfter(now.minus(LOOKBACK));
+    }
+
+    /**
+     * Author's commits pushed within the lookback window, newest first, if their organization is covered
+     */
+    public Optional<List<String>> recentCommits(String organization, String author, int limit) {
+        if (author == null || !covers(organization)) {
+            return Optional.empty();
+        }
+        AuthorCommits commits = authors.get(author.toLowerCase());
+        return Optional.of(commits != null ? commits.since(Instant.now().minus(LOOKBACK), limit) : List.of());
+    }
+
+    private Duration staleAfter() {
+        return Duration.ofHours(appConfig.getGithubWebhookStaleHours());
+    }
+
+    /**
+     * One author's commits ordered newest first, pruned past the retention window on insert
+     */
+    private static class AuthorCommits {
+        private final TreeSet<IndexedCommit> commits = new TreeSet<>(NEWEST_FIRST);
+        private final Set<String> shas = new HashSet<>();
+
+        synchronized void add(IndexedCommit commit, Instant cutoff) {
+            if (!shas.add(commit.sha)) {
+                return;
+            }
+            commits.add(commit);
+            while (!commits.isEmpty() && commits.last().pushedAt.isBefore(cutoff)) {
+                shas.remove(commits.pollLast().sha);
+            }
+        }
+
+        synchronized List<String> since(Instant from, int limit) {
+            List<String> lines = new ArrayList<>();
+            for (IndexedCommit commit : commits) {
+                if (commit.pushedAt.isBefore(from) || lines.size() >= limit) break;
+                lines.add(commit.line);
+            }
+            return lines;
+        }
+
+        synchronized int size() {
+            return commits.size();
+        }
+    }
+
+    private static class IndexedCommit {
+        private final String sha;
+        private final Instant pushedAt;
+        private final String line;
+
+        IndexedCommit(String sha, Instant pushedAt, String line) {
+            this.sha = sha;
+            this.pushedAt = pushedAt;
+            this.line = line;
+        }
+    }
+
+    /**
+     * When an organization's webhook started delivering, and when it last did
+     */
+    private static class Coverage {
+        private final Instant since;
+        private final Instant lastDelivery;
+
+        Coverage(Instant since) {
+            this(since, since);
+        }
+
+        private Coverage(Instant since, Instant lastDelivery) {
+            this.since = since;
+            this.lastDelivery = lastDelivery;
+        }
+
+        Coverage delivered(Instant at) {
+            return new Coverage(since, at);
+        }
+
+        boolean isStale(Instant now, Duration staleAfter) {
+            return lastDelivery.plus(staleAfter).isBefore(now);
+        }
+    }
+}
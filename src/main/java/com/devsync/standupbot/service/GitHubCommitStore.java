@@ -0,0 +1,98 @@
+package com.devsync.standupbot.service;
+
+import com.devsync.standupbot.config.AppConfig;
+import com.devsync.standupbot.model.GitHubSyncCursor;
+import com.devsync.standupbot.repository.GitHubCommitRepository;
+import com.devsync.standupbot.repository.GitHubSyncCursorRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+
+/**
+ * Local store of commits read from GitHub events feeds
+ * Each feed (a user's or an organization's events) has a cursor holding the newest event stored, so
+ * a refresh only parses events after it. Recent-commit views read the store by author and time.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class GitHubCommitStore {
+
+    private final AppConfig appConfig;
+    private final GitHubCommitRepository commitRepository;
+    private final GitHubSyncCursorRepository cursorRepository;
+    private final MeterRegistry meterRegistry;
+
+    public boolean isEnabled() {
+        return Boolean.TRUE.equals(appConfig.getGithubCommitsStoreEnabled());
+    }
+
+    /**
+     * Id of the newest event stored from a feed, 0 if it was never synced
+     */
+    public long lastEventId(String feedKey) {
+        return cursorRepository.findById(feedKey).map(GitHubSyncCursor::getLastEventId).orElse(0L);
+    }
+
+    /**
+     * Store the commits read from a feed and, if newestEventId is positive, advance its cursor to it;
+     * returns the number of new commits
+     * Rows are inserted with INSERT IGNORE, so a commit stored concurrently from an overlapping feed
+     * is skipped instead of failing the batch.
+     */
+    @Transactional
+    public int record(String feedKey, List<GitHubEventsParser.PushedCommit> commits, long newestEventId,
+                      Instant newestEventAt) {
+        LocalDateTime now = LocalDateTime.now();
+        int stored = 0;
+        for (GitHubEventsParser.PushedCommit commit : commits) {
+            if (commit.sha == null || commit.author == null || commit.author.isEmpty()) {
+                continue;
+            }
+            stored += commitRepository.insertIfAbsent(commit.author.toLowerCase(), commit.repo, commit.sha,
+                    commit.message, toUtc(commit.pushedAt), commit.eventId, now);
+        }
+
+        if (newestEventId > 0) {
+            cursorRepository.advance(feedKey, newestEventId, toUtc(newestEventAt), now);
+        }
+
+        if (stored > 0) {
+            log.debug("Stored {} new commits from GitHub feed {}", stored, feedKey);
+            Counter.builder("github.commits.stored")
+                    .description("Commits added to the local commit store")
+                    .register(meterRegistry)
+                    .increment(stored);
+        }
+        return stored;
+    }
+
+    /**
+     * An author's commits pushed within the lookback window, newest first
+     */
+    @Transactional(readOnly = true)
+    public List<String> recentCommits(String author, Duration lookback, int limit) {
+        if (author == null || author.isEmpty()) {
+            return List.of();
+        }
+        return commitRepository.findByAuthorLoginAndPushedAtAfterOrderByPushedAtDesc(author.toLowerCase(),
+                        toUtc(Instant.now().minus(lookback)), PageRequest.of(0, limit))
+                .stream()
+                .map(commit -> String.format("%s: %s", commit.getRepoName(), commit.getMessage()))
+                .toList();
+    }
+
+    private LocalDateTime toUtc(Instant instant) {
+        return instant != null ? LocalDateTime.ofInstant(instant, ZoneOffset.UTC) : null;
+    }
+}
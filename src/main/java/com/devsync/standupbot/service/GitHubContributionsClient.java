@@ -0,0 +1,191 @@
+package com.devsync.standupbot.service;
+
+import com.devsync.standupbot.config.AppConfig;
+import com.devsync.standupbot.config.IntegrationWebClients;
+import com.fasterxml.jackson.databind.JsonNode;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Client for GitHub's GraphQL API that reads many users' recent contributions at once
+ * Logins are sent in chunks of github.graphql.batch.size, one aliased user(login:) field per login,
+ * so a team costs a request per chunk instead of one per member. GraphQL has its own point budget,
+ * so the cost each query reports (rateLimit.cost) is recorded rather than fed to GitHubTokenPool.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class GitHubContributionsClient {
+
+    private static final int MAX_REPOSITORIES = 5;
+
+    private final AppConfig appConfig;
+    private final IntegrationWebClients webClients;
+    private final GitHubTokenPool tokenPool;
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * Commit contributions since the given time for each login, keyed by lower-case login, as
+     * "owner/repo: N commits" lines (most active repositories first)
+     * Emits nothing when no token may be used or a chunk fails, so callers can fall back to REST.
+     */
+    public Mono<Map<String, List<String>>> recentContributions(List<String> logins, Instant since,
+                                                               List<String> tokens, GitHubTokenPool.Priority priority) {
+        if (logins.isEmpty() || tokens.isEmpty()) {
+            return Mono.empty();
+        }
+
+        int batchSize = Math.max(1, appConfig.getGithubGraphqlBatchSize());
+        List<List<String>> chunks = new ArrayList<>();
+        for (int i = 0; i < logins.size(); i += batchSize) {
+            chunks.add(logins.subList(i, Math.min(i + batchSize, logins.size())));
+        }
+
+        long startNanos = System.nanoTime();
+        int[] cost = new int[1];
+        // Chunks go one after another: GitHub's secondary limits penalize concurrent GraphQL requests
+        return Flux.fromIterable(chunks)
+                .concatMap(chunk -> queryChunk(chunk, since, tokens, priority)
+                        .doOnNext(result -> cost[0] += result.cost))
+                .collect(LinkedHashMap<String, List<String>>::new, (map, result) -> map.putAll(result.contributions))
+                .map(contributions -> {
+                    Duration elapsed = Duration.ofNanos(System.nanoTime() - startNanos);
+                    log.info("GitHub GraphQL contributions for {} users in {} queries: cost {}, {} ms",
+                            logins.size(), chunks.size(), cost[0], elapsed.toMillis());
+                    recordBatch(elapsed);
+                    return (Map<String, List<String>>) contributions;
+                })
+                .onErrorResume(e -> {
+                    log.error("Error fetching GitHub contributions via GraphQL: {}", e.getMessage());
+                    recordQuery("error", 0);
+                    return Mono.empty();
+                });
+    }
+
+    private Mono<ChunkResult> queryChunk(List<String> logins, Instant since, List<String> tokens,
+                                         GitHubTokenPool.Priority priority) {
+        Mono<Optional<GitHubTokenPool.Lease>> lease = Mono.fromCallable(() -> tokenPool.acquire(tokens, priority));
+        if (priority == GitHubTokenPool.Priority.BACKGROUND) {
+            lease = lease.subscribeOn(Schedulers.boundedElastic());
+        }
+
+        Map<String, Object> variables = new HashMap<>();
+        variables.put("from", since.toString());
+        for (int i = 0; i < logins.size(); i++) {
+            variables.put("l" + i, logins.get(i));
+        }
+        Map<String, Object> request = Map.of("query", buildQuery(logins.size()), "variables", variables);
+
+        return lease.flatMap(acquired -> {
+            if (acquired.isEmpty()) {
+                recordQuery("rate_limited", 0);
+                return Mono.error(new IllegalStateException("no GitHub token available"));
+            }
+            GitHubTokenPool.Lease tokenLease = acquired.get();
+            return webClients.forBaseUrl(appConfig.getGithubGraphqlUrl()).post()
+                    .headers(headers -> {
+                        headers.set(HttpHeaders.AUTHORIZATION, "bearer " + tokenLease.token());
+                        headers.setContentType(MediaType.APPLICATION_JSON);
+                    })
+                    .bodyValue(request)
+                    .retrieve()
+                    .bodyToMono(JsonNode.class)
+                    .transform(webClients::withResilience)
+                    .map(body -> parseChunk(body, logins))
+                    .doFinally(signal -> tokenLease.close());
+        });
+    }
+
+    /**
+     * One aliased user field per login; logins are passed as variables, never spliced into the query
+     */
+    private static String buildQuery(int logins) {
+        StringBuilder query = new StringBuilder("query($from: DateTime!");
+        for (int i = 0; i < logins; i++) {
+            query.append(", $l").append(i).append(": String!");
+        }
+        query.append(") { rateLimit { cost remaining }");
+        for (int i = 0; i < logins; i++) {
+            query.append(" u").append(i).append(": user(login: $l").append(i).append(") {")
+                    .append(" contributionsCollection(from: $from) {")
+                    .append(" commitContributionsByRepository(maxRepositories: ").append(MAX_REPOSITORIES).append(") {")
+                    .append(" repository { nameWithOwner } contributions { totalCount } } } }");
+        }
+        return query.append(" }").toString();
+    }
+
+    /**
+     * Contributions per login; a login GitHub cannot resolve comes back null and gets an empty list
+     */
+    private ChunkResult parseChunk(JsonNode body, List<String> logins) {
+        JsonNode data = body.path("data");
+        if (data.isMissingNode() || data.isNull()) {
+            throw new IllegalStateException("GraphQL response without data: " + body.path("errors"));
+        }
+        if (body.has("errors")) {
+            log.debug("GitHub GraphQL returned partial errors: {}", body.path("errors"));
+        }
+
+        ChunkResult result = new ChunkResult();
+        result.cost = data.path("rateLimit").path("cost").asInt(0);
+        for (int i = 0; i < logins.size(); i++) {
+            List<String> lines = new ArrayList<>();
+            for (JsonNode byRepository : data.path("u" + i).path("contributionsCollection")
+                    .path("commitContributionsByRepository")) {
+                int commits = byRepository.path("contributions").path("totalCount").asInt(0);
+                if (commits > 0) {
+                    lines.add(String.format("%s: %d commit%s",
+                            byRepository.path("repository").path("nameWithOwner").asText(),
+                            commits, commits == 1 ? "" : "s"));
+                }
+            }
+            result.contributions.put(logins.get(i).toLowerCase(), lines);
+        }
+        recordQuery("success", result.cost);
+        return result;
+    }
+
+    private void recordQuery(String result, int cost) {
+        Counter.builder("github.graphql.queries")
+                .tag("result", result)
+                .description("GitHub GraphQL contribution queries by result")
+                .register(meterRegistry)
+                .increment();
+        if (cost > 0) {
+            Counter.builder("github.graphql.cost")
+                    .description("GitHub GraphQL rate-limit points spent on contribution queries")
+                    .register(meterRegistry)
+                    .increment(cost);
+        }
+    }
+
+    private void recordBatch(Duration elapsed) {
+        Timer.builder("github.graphql.team.fetch")
+                .description("Wall time to read a team's contributions via GraphQL")
+                .register(meterRegistry)
+                .record(elapsed);
+    }
+
+    private static class ChunkResult {
+        private final Map<String, List<String>> contributions = new LinkedHashMap<>();
+        private int cost;
+    }
+}
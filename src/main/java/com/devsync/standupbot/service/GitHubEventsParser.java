@@ -0,0 +1,209 @@
+package com.devsync.standupbot.service;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Streaming parser for pages of GitHub events (newest first)
+ * Reads push events token by token without building a JSON tree, and stops at the first event older
+ * than the cutoff, at an event already synced (id at or below a cursor), or once the commit limit is
+ * reached. Only a push event's commits are buffered, because created_at comes after the payload.
+ */
+final class GitHubEventsParser {
+
+    private static final String PUSH_EVENT = "PushEvent";
+
+    private GitHubEventsParser() {
+    }
+
+    /**
+     * Parse one events page; a page that did not reach the cutoff, cursor or limit should be followed by the next
+     */
+    static Page parse(JsonFactory jsonFactory, byte[] body, Instant cutoff, int limit) throws IOException {
+        return parse(jsonFactory, body, cutoff, limit, 0);
+    }
+
+    /**
+     * Parse one events page, stopping at the first event with an id at or below stopAtEventId (0 = none)
+     */
+    static Page parse(JsonFactory jsonFactory, byte[] body, Instant cutoff, int limit,
+                      long stopAtEventId) throws IOException {
+        Page page = new Page();
+        if (body.length == 0) {
+            page.done = true;
+            return page;
+        }
+        try (JsonParser parser = jsonFactory.createParser(body)) {
+            if (parser.nextToken() != JsonToken.START_ARRAY) {
+                page.done = true;
+                return page;
+            }
+            while (parser.nextToken() == JsonToken.START_OBJECT) {
+                page.events++;
+                Event event = parseEvent(parser);
+                if (event.createdAt == null) {
+                    continue;
+                }
+                if (event.createdAt.isBefore(cutoff) || (stopAtEventId > 0 && event.id <= stopAtEventId)) {
+                    page.done = true;
+                    return page;
+                }
+                if (page.newestEventId == 0) {
+                    page.newestEventId = event.id;
+                    page.newestEventAt = event.createdAt;
+                }
+                if (PUSH_EVENT.equals(event.type)) {
+                    for (String[] commit : event.commits) {
+                        page.commits.add(new PushedCommit(event.createdAt, event.actor, event.repo, commit[0],
+                                commit[1], event.id));
+                        if (page.commits.size() >= limit) {
+                            page.done = true;
+                            return page;
+                        }
+                    }
+                }
+            }
+        }
+        return page;
+    }
+
+    private static Event parseEvent(JsonParser parser) throws IOException {
+        Event event = new Event();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            JsonToken value = parser.nextToken();
+            switch (field) {
+                case "id" -> event.id = parseId(parser.getValueAsString());
+                case "type" -> event.type = parser.getText();
+                case "created_at" -> event.createdAt = OffsetDateTime.parse(parser.getText()).toInstant();
+                case "actor" -> event.actor = readField(parser, value, "login");
+                case "repo" -> event.repo = readField(parser, value, "name");
+                case "payload" -> {
+                    // type precedes payload in GitHub's responses; buffer commits only when it may be a push
+                    if (event.type == null || PUSH_EVENT.equals(event.type)) {
+                        readCommits(parser, value, event.commits);
+                    } else {
+                        parser.skipChildren();
+                    }
+                }
+                default -> parser.skipChildren();
+            }
+        }
+        return event;
+    }
+
+    /**
+     * Text of one field of the current object, skipping the rest of it
+     */
+    private static String readField(JsonParser parser, JsonToken value, String name) throws IOException {
+        if (value != JsonToken.START_OBJECT) {
+            parser.skipChildren();
+            return null;
+        }
+        String text = null;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            if (name.equals(field)) {
+                text = parser.getValueAsString();
+            } else {
+                parser.skipChildren();
+            }
+        }
+        return text;
+    }
+
+    private static long parseId(String id) {
+        try {
+            return id != null ? Long.parseLong(id) : 0;
+        } catch (NumberFormatException e) {
+            return 0;
+        }
+    }
+
+    /**
+     * Sha and message of each commit in a push payload
+     */
+    private static void readCommits(JsonParser parser, JsonToken value, List<String[]> commits) throws IOException {
+        if (value != JsonToken.START_OBJECT) {
+            parser.skipChildren();
+            return;
+        }
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            JsonToken fieldValue = parser.nextToken();
+            if (!"commits".equals(field) || fieldValue != JsonToken.START_ARRAY) {
+                parser.skipChildren();
+                continue;
+            }
+            while (parser.nextToken() == JsonToken.START_OBJECT) {
+                String sha = null;
+                String message = null;
+                while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                    String commitField = parser.getCurrentName();
+                    parser.nextToken();
+                    if ("sha".equals(commitField)) {
+                        sha = parser.getValueAsString();
+                    } else if ("message".equals(commitField)) {
+                        message = parser.getValueAsString();
+                    } else {
+                        parser.skipChildren();
+                    }
+                }
+                if (message != null) {
+                    commits.add(new String[] {sha, message});
+                }
+            }
+        }
+    }
+
+    /**
+     * Commits found on one page, and whether paging can stop
+     */
+    static final class Page {
+        final List<PushedCommit> commits = new ArrayList<>();
+        int events;
+        boolean done;
+        long newestEventId; // first event parsed that was not already synced, 0 if none
+        Instant newestEventAt;
+    }
+
+    /**
+     * A pushed commit with the time, pusher and id of its push event
+     */
+    static final class PushedCommit {
+        final Instant pushedAt;
+        final String author;
+        final String repo;
+        final String sha;
+        final String message;
+        final long eventId;
+        final String line;
+
+        PushedCommit(Instant pushedAt, String author, String repo, String sha, String message, long eventId) {
+            this.pushedAt = pushedAt;
+            this.author = author;
+            this.repo = repo;
+            this.sha = sha;
+            this.message = message;
+            this.eventId = eventId;
+            this.line = String.format("%s: %s", repo, message);
+        }
+    }
+
+    private static final class Event {
+        private long id;
+        private String type;
+        private Instant createdAt;
+        private String actor;
+        private String repo;
+        private final List<String[]> commits = new ArrayList<>();
+    }
+}
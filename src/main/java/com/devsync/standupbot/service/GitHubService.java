@@ -1,30 +1,95 @@
 package com.devsync.standupbot.service;
 
 import com.devsync.standupbot.config.AppConfig;
-import com.fasterxml.jackson.databind.JsonNode;
+import com.devsync.standupbot.config.IntegrationWebClients;
+import com.devsync.standupbot.model.Team;
+import com.devsync.standupbot.model.User;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.stereotype.Service;
-import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 
-import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
+import java.io.IOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Service for GitHub API integration
+ * User events are polled conditionally: the ETag and Last-Modified of the last response are sent
+ * back, and a 304 (which does not count against the rate limit) reuses the commits parsed last time.
+ * Requests are spread over the user's, team's and global tokens by GitHubTokenPool; when none has
+ * budget left the last known commits are returned. Interactive reads of a snapshot refreshed within
+ * github.events.reuse.seconds (e.g. by the pre-standup cache warmer) are served without a request.
+ * Users whose team organization is covered by push webhooks are answered from GitHubCommitIndex,
+ * and team views can read one organization events feed, or batched GraphQL contribution queries,
+ * instead of one feed per member.
+ * Fetches are reactive (Mono) and never error; the List/Map methods block on them for older callers.
+ * With github.commits.store.enabled, each poll stores only events after the feed's sync cursor in the
+ * local commit store, and recent commits are read from it. Interactive polls read at most
+ * github.events.max.pages; a feed they leave short of its cursor is finished by a background poll.
  */
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class GitHubService {
 
+    private static final int MAX_COMMITS = 5;
+    private static final int USER_EVENTS_PAGE_SIZE = 30;
+    private static final int ORG_EVENTS_PAGE_SIZE = 100; // a team's pushes share one page
+    private static final int FEED_MAX_EVENTS = 300; // GitHub serves no events beyond this depth
+
     private final AppConfig appConfig;
-    private final WebClient.Builder webClientBuilder;
+    private final IntegrationWebClients webClients;
+    private final ObjectMapper objectMapper;
+    private final GitHubTokenPool tokenPool;
+    private final GitHubCommitIndex commitIndex;
+    private final GitHubCommitStore commitStore;
+    private final GitHubContributionsClient contributionsClient;
+    private final MeterRegistry meterRegistry;
+
+    private final Map<String, EventsSnapshot> eventsCache = new ConcurrentHashMap<>();
+    private final Set<String> backfilling = ConcurrentHashMap.newKeySet();
+    private final DailyTally dailyTally = new DailyTally();
+
+    private DistributionSummary eventsBytes;
+    private Counter rateLimitUnitsSaved;
+
+    @PostConstruct
+    void init() {
+        eventsBytes = DistributionSummary.builder("github.events.bytes")
+                .baseUnit("bytes")
+                .description("Response body bytes received when polling GitHub user events")
+                .register(meterRegistry);
+        rateLimitUnitsSaved = Counter.builder("github.ratelimit.units.saved")
+                .description("GitHub requests avoided or answered with 304 (no rate-limit cost)")
+                .register(meterRegistry);
+        Gauge.builder("github.events.bytes.today", dailyTally, DailyTally::bytesToday)
+                .baseUnit("bytes")
+                .description("GitHub user event bytes received today")
+                .register(meterRegistry);
+        Gauge.builder("github.ratelimit.units.saved.today", dailyTally, DailyTally::savedToday)
+                .description("GitHub rate-limit units saved today by conditional polling")
+                .register(meterRegistry);
+    }
 
     /**
      * Fetch recent commits for a user
@@ -37,72 +102,587 @@ public class GitHubService {
      * Fetch recent commits for a user with specific token
      */
     public List<String> fetchRecentCommits(String username, String githubToken) {
+        return fetchRecentCommits(username, githubToken != null ? List.of(githubToken) : List.of(),
+                GitHubTokenPool.Priority.INTERACTIVE);
+    }
+
+    /**
+     * Fetch recent commits for a user's GitHub account, using any of the user's eligible tokens
+     */
+    public List<String> fetchRecentCommits(User user, GitHubTokenPool.Priority priority) {
+        return fetchRecentCommits(user, user.getTeam(), priority);
+    }
+
+    /**
+     * Fetch recent commits for a user whose team is already loaded, from the webhook index when it covers them
+     */
+    public List<String> fetchRecentCommits(User user, Team team, GitHubTokenPool.Priority priority) {
+        return recentCommits(user, team, priority).block();
+    }
+
+    /**
+     * Recent commits for a user whose team is already loaded; never errors, emits an empty list instead
+     */
+    public Mono<List<String>> recentCommits(User user, Team team, GitHubTokenPool.Priority priority) {
+        Optional<List<String>> indexed = indexedCommits(user, team);
+        if (indexed.isPresent()) {
+            recordPoll("indexed");
+            saveRateLimitUnit();
+            return Mono.just(indexed.get());
+        }
+        return recentCommits(user.getGithubUsername(), tokensFor(user, team), priority);
+    }
+
+    /**
+     * Tokens that may fetch a user's events: the user's own, the team's, then the global token
+     */
+    public List<String> tokensFor(User user) {
+        return tokensFor(user, user.getTeam());
+    }
+
+    /**
+     * Tokens for a user whose team is already loaded (callers outside a persistence context)
+     */
+    public List<String> tokensFor(User user, Team team) {
+        List<String> tokens = new ArrayList<>();
+        addToken(tokens, user.getGithubToken());
+        if (team != null) {
+            addToken(tokens, team.getGithubToken());
+        }
+        addToken(tokens, appConfig.getGithubToken());
+        return tokens;
+    }
+
+    /**
+     * Whether the webhook commit index answers for the user
+     */
+    public boolean isIndexed(User user, Team team) {
+        return team != null && user.getGithubUsername() != null && commitIndex.covers(team.getGithubOrganization());
+    }
+
+    /**
+     * Whether an interactive fetch for the user would be served locally without asking GitHub
+     */
+    public boolean isFresh(User user, Team team) {
+        if (isIndexed(user, team)) {
+            return true;
+        }
+        String username = user.getGithubUsername();
+        if (username == null || username.isEmpty()) {
+            return false;
+        }
+        EventsSnapshot cached = eventsCache.get(username.toLowerCase());
+        return cached != null && Instant.now().isBefore(reusableUntil(cached, GitHubTokenPool.Priority.INTERACTIVE));
+    }
+
+    /**
+     * Fetch recent commits for a user, leasing whichever candidate token has the most budget left
+     */
+    public List<String> fetchRecentCommits(String username, List<String> githubTokens,
+                                           GitHubTokenPool.Priority priority) {
+        return recentCommits(username, githubTokens, priority).block();
+    }
+
+    /**
+     * Recent commits for a user; never errors, emits an empty list instead
+     */
+    public Mono<List<String>> recentCommits(String username, List<String> githubTokens,
+                                            GitHubTokenPool.Priority priority) {
         if (username == null || username.isEmpty()) {
             log.warn("GitHub username not provided");
-            return new ArrayList<>();
+            return Mono.just(new ArrayList<>());
+        }
+
+        Mono<EventsSnapshot> polled = pollEvents(username.toLowerCase(), "/users/{name}/events", username,
+                USER_EVENTS_PAGE_SIZE, MAX_COMMITS, githubTokens, priority);
+        if (commitStore.isEnabled()) {
+            return polled.then(storedCommits(username));
+        }
+        return polled
+                .map(snapshot -> {
+                    List<String> commits = snapshot.recentCommits(null);
+                    log.info("Found {} GitHub commits for user: {}", commits.size(), username);
+                    return commits;
+                })
+                .defaultIfEmpty(new ArrayList<>());
+    }
+
+    /**
+     * Recent commits of each team member, keyed by lower-case GitHub username
+     */
+    public Map<String, List<String>> fetchTeamCommits(Team team, List<User> members,
+                                                      GitHubTokenPool.Priority priority) {
+        return teamCommits(team, members, priority).block();
+    }
+
+    /**
+     * Recent commits of each team member, keyed by lower-case GitHub username
+     * With github.team.commits.scope=org, one conditional /orgs/{org}/events poll (cached and shared by
+     * every member) is split by pusher. With github.team.commits.scope=graphql, members not covered by
+     * the webhook index are read with batched GraphQL contribution queries (per-repository commit
+     * counts). Otherwise, or when either yields nothing, everyone is fetched concurrently, one feed each.
+     */
+    public Mono<Map<String, List<String>>> teamCommits(Team team, List<User> members,
+                                                      GitHubTokenPool.Priority priority) {
+        String organization = team.getGithubOrganization();
+        Mono<EventsSnapshot> orgEvents = Mono.empty();
+        if ("org".equalsIgnoreCase(appConfig.getGithubTeamCommitsScope()) && organization != null
+                && !organization.isBlank() && !commitIndex.covers(organization)) {
+            List<String> tokens = new ArrayList<>();
+            addToken(tokens, team.getGithubToken());
+            addToken(tokens, appConfig.getGithubToken());
+            orgEvents = pollEvents("org:" + organization.toLowerCase(), "/orgs/{name}/events", organization,
+                    ORG_EVENTS_PAGE_SIZE, Integer.MAX_VALUE, tokens, priority);
         }
 
-        if (githubToken == null || githubToken.isEmpty() || githubToken.equals("YOUR_GITHUB_TOKEN")) {
+        List<User> withGitHub = members.stream()
+                .filter(member -> member.getGithubUsername() != null && !member.getGithubUsername().isEmpty())
+                .toList();
+        Mono<Map<String, List<String>>> fromOrg = orgEvents.flatMap(snapshot -> Flux.fromIterable(withGitHub)
+                .flatMapSequential(member -> (commitStore.isEnabled()
+                        ? storedCommits(member.getGithubUsername())
+                        : Mono.just(snapshot.recentCommits(member.getGithubUsername())))
+                        .map(commits -> Map.entry(member.getGithubUsername().toLowerCase(), commits)))
+                .collect(LinkedHashMap::new, (map, entry) -> map.put(entry.getKey(), entry.getValue())));
+        if ("graphql".equalsIgnoreCase(appConfig.getGithubTeamCommitsScope())) {
+            fromOrg = contributionsByGraphQL(team, withGitHub, priority);
+        }
+        Mono<Map<String, List<String>>> perMember = Flux.fromIterable(withGitHub)
+                .filter(member -> isIndexed(member, team) || !tokensFor(member, team).isEmpty())
+                .flatMapSequential(member -> recentCommits(member, team, priority)
+                                .map(commits -> Map.entry(member.getGithubUsername().toLowerCase(), commits)),
+                        appConfig.getGithubTeamFetchConcurrency())
+                .collect(LinkedHashMap::new, (map, entry) -> map.put(entry.getKey(), entry.getValue()));
+        return fromOrg.switchIfEmpty(Mono.defer(() -> perMember));
+    }
+
+    /**
+     * Team members' recent contributions from GraphQL, with webhook-indexed members answered locally
+     */
+    private Mono<Map<String, List<String>>> contributionsByGraphQL(Team team, List<User> withGitHub,
+                                                                   GitHubTokenPool.Priority priority) {
+        List<String> tokens = new ArrayList<>();
+        addToken(tokens, team.getGithubToken());
+        addToken(tokens, appConfig.getGithubToken());
+        withGitHub.forEach(member -> addToken(tokens, member.getGithubToken()));
+
+        Map<String, List<String>> indexed = new LinkedHashMap<>();
+        List<String> logins = new ArrayList<>();
+        for (User member : withGitHub) {
+            Optional<List<String>> commits = indexedCommits(member, team);
+            if (commits.isPresent()) {
+                recordPoll("indexed");
+                indexed.put(member.getGithubUsername().toLowerCase(), commits.get());
+            } else {
+                logins.add(member.getGithubUsername());
+            }
+        }
+        if (logins.isEmpty()) {
+            return indexed.isEmpty() ? Mono.empty() : Mono.just(indexed);
+        }
+        return contributionsClient.recentContributions(logins, Instant.now().minus(GitHubCommitIndex.LOOKBACK),
+                        tokens, priority)
+                .map(contributions -> {
+                    Map<String, List<String>> commitsByMember = new LinkedHashMap<>(indexed);
+                    commitsByMember.putAll(contributions);
+                    return commitsByMember;
+                });
+    }
+
+    /**
+     * Poll an events feed conditionally, emitting the current snapshot (possibly the cached one), or
+     * nothing when nothing could be fetched and nothing is cached
+     * A modified first page is followed by further pages until the lookback cutoff or commit limit
+     * is reached, up to github.events.max.pages; with the commit store, until the feed's sync cursor or
+     * the end of the feed. Each page request has a timeout and jittered retries for transient
+     * failures; any other failure falls back to the cached snapshot.
+     */
+    private Mono<EventsSnapshot> pollEvents(String cacheKey, String uri, String name, int pageSize, int commitLimit,
+                                            List<String> githubTokens, GitHubTokenPool.Priority priority) {
+        List<String> tokens = new ArrayList<>();
+        githubTokens.forEach(token -> addToken(tokens, token));
+        if (tokens.isEmpty()) {
             log.warn("GitHub token not configured");
-            return new ArrayList<>();
+            return Mono.empty();
         }
 
-        try {
-            log.info("Fetching GitHub commits for user: {}", username);
-
-            WebClient webClient = webClientBuilder
-                    .baseUrl(appConfig.getGithubApiUrl())
-                    .defaultHeader(HttpHeaders.AUTHORIZATION, "token " + githubToken)
-                    .defaultHeader(HttpHeaders.ACCEPT, MediaType.APPLICATION_JSON_VALUE)
-                    .build();
-
-            // Get events for the user (last 24 hours)
-            LocalDateTime yesterday = LocalDateTime.now().minusDays(1);
-            
-            JsonNode events = webClient.get()
-                    .uri("/users/{username}/events", username)
-                    .retrieve()
-                    .bodyToMono(JsonNode.class)
-                    .onErrorResume(e -> {
-                        log.error("Error fetching GitHub events: {}", e.getMessage());
-                        return Mono.just(null);
-                    })
-                    .block();
-
-            if (events == null || !events.isArray()) {
-                return new ArrayList<>();
+        EventsSnapshot cached = eventsCache.get(cacheKey);
+        if (cached != null && Instant.now().isBefore(reusableUntil(cached, priority))) {
+            log.debug("GitHub events for {} are fresh enough, reusing last events", name);
+            recordPoll("skipped");
+            saveRateLimitUnit();
+            return Mono.just(cached);
+        }
+
+        // Background leases may wait for a rate-limit reset, so they never take the caller's thread
+        Mono<Optional<GitHubTokenPool.Lease>> lease = Mono.fromCallable(() -> tokenPool.acquire(tokens, priority));
+        if (priority == GitHubTokenPool.Priority.BACKGROUND) {
+            lease = lease.subscribeOn(Schedulers.boundedElastic());
+        }
+
+        return lease.flatMap(acquired -> {
+                    if (acquired.isEmpty()) {
+                        recordPoll("rate_limited");
+                        return Mono.justOrEmpty(cached);
+                    }
+                    GitHubTokenPool.Lease tokenLease = acquired.get();
+                    log.info("Fetching GitHub events for: {}", name);
+                    return syncedThrough(cacheKey, cached)
+                            .flatMap(stopAt -> fetchSnapshot(cacheKey, uri, name, pageSize, commitLimit, stopAt,
+                                    tokenLease, cached, priority))
+                            .doFinally(signal -> tokenLease.close());
+                })
+                .doOnNext(snapshot -> {
+                    if (snapshot.partial && priority == GitHubTokenPool.Priority.INTERACTIVE) {
+                        backfillInBackground(cacheKey, uri, name, pageSize, commitLimit, githubTokens, snapshot);
+                    }
+                })
+                .onErrorResume(e -> {
+                    // Serve the last good events rather than nothing when GitHub is unavailable
+                    log.error("Error fetching GitHub events for {}: {}", name, e.getMessage());
+                    recordPoll("error");
+                    return Mono.justOrEmpty(cached);
+                });
+    }
+
+    /**
+     * Finish reading a stored feed that an interactive poll stopped short of its cursor, once GitHub's
+     * poll interval allows, at background priority (one backfill per feed at a time)
+     */
+    private void backfillInBackground(String cacheKey, String uri, String name, int pageSize, int commitLimit,
+                                      List<String> githubTokens, EventsSnapshot snapshot) {
+        if (!backfilling.add(cacheKey)) {
+            return;
+        }
+        Duration wait = Duration.between(Instant.now(), snapshot.nextPollAt);
+        log.info("Backfilling GitHub events for {} in the background", name);
+        pollEvents(cacheKey, uri, name, pageSize, commitLimit, githubTokens, GitHubTokenPool.Priority.BACKGROUND)
+                .delaySubscription(wait.isNegative() ? Duration.ZERO : wait)
+                .doFinally(signal -> backfilling.remove(cacheKey))
+                .subscribe();
+    }
+
+    /**
+     * Id of the newest event already stored from a feed (0 without the commit store)
+     */
+    private Mono<Long> syncedThrough(String feedKey, EventsSnapshot cached) {
+        if (!commitStore.isEnabled()) {
+            return Mono.just(0L);
+        }
+        if (cached != null && cached.newestEventId > 0) {
+            return Mono.just(cached.newestEventId);
+        }
+        return Mono.fromCallable(() -> commitStore.lastEventId(feedKey)).subscribeOn(Schedulers.boundedElastic());
+    }
+
+    /**
+     * An author's recent commits from the local commit store
+     */
+    private Mono<List<String>> storedCommits(String author) {
+        return Mono.fromCallable(() -> commitStore.recentCommits(author, GitHubCommitIndex.LOOKBACK, MAX_COMMITS))
+                .subscribeOn(Schedulers.boundedElastic())
+                .onErrorResume(e -> {
+                    log.error("Error reading stored commits for {}: {}", author, e.getMessage());
+                    return Mono.just(new ArrayList<>());
+                });
+    }
+
+    private Mono<EventsSnapshot> fetchSnapshot(String cacheKey, String uri, String name, int pageSize, int commitLimit,
+                                               long stopAtEventId, GitHubTokenPool.Lease tokenLease,
+                                               EventsSnapshot cached, GitHubTokenPool.Priority priority) {
+        return fetchPage(uri, name, pageSize, 1, tokenLease, cached).flatMap(first -> {
+            if (first.notModified) {
+                recordPoll("not_modified");
+                saveRateLimitUnit();
+                EventsSnapshot revalidated = cached.withNextPoll(pollIntervalSeconds(first.headers));
+                eventsCache.put(cacheKey, revalidated);
+                return Mono.just(revalidated);
             }
 
-            List<String> commits = new ArrayList<>();
-            DateTimeFormatter formatter = DateTimeFormatter.ISO_DATE_TIME;
-
-            for (JsonNode event : events) {
-                if (event.has("type") && "PushEvent".equals(event.get("type").asText())) {
-                    String createdAt = event.get("created_at").asText();
-                    LocalDateTime eventTime = LocalDateTime.parse(createdAt, formatter);
-
-                    if (eventTime.isAfter(yesterday)) {
-                        String repoName = event.get("repo").get("name").asText();
-                        JsonNode payload = event.get("payload");
-                        
-                        if (payload.has("commits")) {
-                            for (JsonNode commit : payload.get("commits")) {
-                                String message = commit.get("message").asText();
-                                commits.add(String.format("%s: %s", repoName, message));
-                            }
+            recordPoll("modified");
+            // Stored feeds read everything after the cursor, others only the lookback. Only background polls
+            // page as deep as GitHub serves; interactive ones keep to github.events.max.pages
+            boolean storing = commitStore.isEnabled();
+            Instant cutoff = storing ? Instant.EPOCH : Instant.now().minus(GitHubCommitIndex.LOOKBACK);
+            int maxPages = storing && priority == GitHubTokenPool.Priority.BACKGROUND
+                    ? Math.max(appConfig.getGithubEventsMaxPages(), FEED_MAX_EVENTS / pageSize)
+                    : appConfig.getGithubEventsMaxPages();
+            PageSync sync = new PageSync(storing ? Integer.MAX_VALUE : commitLimit, stopAtEventId, maxPages);
+            return collectPages(first, 1, uri, name, pageSize, cutoff, sync, tokenLease)
+                    .then(Mono.fromCallable(() -> {
+                        if (!storing) {
+                            EventsSnapshot snapshot = new EventsSnapshot(sync.commits, first.headers.getETag(),
+                                    first.headers.getFirst(HttpHeaders.LAST_MODIFIED),
+                                    pollIntervalSeconds(first.headers), 0, false);
+                            eventsCache.put(cacheKey, snapshot);
+                            return snapshot;
                         }
+
+                        // The cursor only moves once every event after it was read; after a failed page the
+                        // commits read so far are kept, and the next poll (unconditional) re-reads from the top
+                        commitStore.record(cacheKey, sync.commits, sync.complete ? sync.newestEventId : 0,
+                                sync.newestEventAt);
+                        if (!sync.complete) {
+                            log.warn("GitHub events for {} read only partly, keeping sync cursor {}", name, stopAtEventId);
+                        }
+                        // Stored commits are read back from the store, so the snapshot only keeps the cursor
+                        EventsSnapshot snapshot = new EventsSnapshot(List.of(),
+                                sync.complete ? first.headers.getETag() : null,
+                                sync.complete ? first.headers.getFirst(HttpHeaders.LAST_MODIFIED) : null,
+                                pollIntervalSeconds(first.headers),
+                                sync.complete && sync.newestEventId > 0 ? sync.newestEventId : stopAtEventId,
+                                !sync.complete);
+                        eventsCache.put(cacheKey, snapshot);
+                        return snapshot;
+                    }).subscribeOn(storing ? Schedulers.boundedElastic() : Schedulers.immediate()));
+        });
+    }
+
+    /**
+     * Parse a page and follow with the next one until paging can stop; a failed later page just ends paging
+     */
+    private Mono<Void> collectPages(EventsPage page, int pageNumber, String uri, String name, int pageSize,
+                                    Instant cutoff, PageSync sync, GitHubTokenPool.Lease tokenLease) {
+        GitHubEventsParser.Page parsed;
+        try {
+            parsed = GitHubEventsParser.parse(objectMapper.getFactory(), page.body, cutoff,
+                    sync.commitLimit - sync.commits.size(), sync.stopAtEventId);
+        } catch (IOException e) {
+            return Mono.error(e);
+        }
+        sync.add(parsed);
+        if (parsed.done || parsed.events < pageSize || pageNumber * pageSize >= FEED_MAX_EVENTS) {
+            sync.complete = true;
+            return Mono.empty();
+        }
+        if (pageNumber >= sync.maxPages) {
+            return Mono.empty();
+        }
+        return fetchPage(uri, name, pageSize, pageNumber + 1, tokenLease, null)
+                .onErrorResume(e -> {
+                    log.warn("Stopped paging GitHub events for {} at page {}: {}", name, pageNumber + 1, e.getMessage());
+                    return Mono.empty();
+                })
+                .flatMap(next -> collectPages(next, pageNumber + 1, uri, name, pageSize, cutoff, sync, tokenLease));
+    }
+
+    /**
+     * Fetch one events page, conditionally when a cached snapshot is given
+     */
+    private Mono<EventsPage> fetchPage(String uri, String name, int pageSize, int pageNumber,
+                                       GitHubTokenPool.Lease tokenLease, EventsSnapshot cached) {
+        return webClients.forBaseUrl(appConfig.getGithubApiUrl()).get()
+                .uri(uriBuilder -> uriBuilder.path(uri)
+                        .queryParam("per_page", pageSize)
+                        .queryParam("page", pageNumber)
+                        .build(name))
+                .headers(headers -> {
+                    headers.set(HttpHeaders.AUTHORIZATION, "token " + tokenLease.token());
+                    headers.setAccept(List.of(MediaType.APPLICATION_JSON));
+                    if (cached != null && cached.etag != null) {
+                        headers.setIfNoneMatch(cached.etag);
                     }
-                }
+                    if (cached != null && cached.lastModified != null) {
+                        headers.set(HttpHeaders.IF_MODIFIED_SINCE, cached.lastModified);
+                    }
+                })
+                .exchangeToMono(response -> {
+                    HttpHeaders headers = response.headers().asHttpHeaders();
+                    tokenLease.record(response.statusCode().value(), headers);
+                    if (response.statusCode().value() == HttpStatus.NOT_MODIFIED.value() && cached != null) {
+                        return response.releaseBody().thenReturn(new EventsPage(null, headers, true));
+                    }
+                    if (!response.statusCode().is2xxSuccessful()) {
+                        return response.createError();
+                    }
+                    return response.bodyToMono(byte[].class)
+                            .defaultIfEmpty(new byte[0])
+                            .map(body -> {
+                                eventsBytes.record(body.length);
+                                dailyTally.addBytes(body.length);
+                                return new EventsPage(body, headers, false);
+                            });
+                })
+                .transform(webClients::withResilience);
+    }
+
+    private Optional<List<String>> indexedCommits(User user, Team team) {
+        if (team == null) {
+            return Optional.empty();
+        }
+        return commitIndex.recentCommits(team.getGithubOrganization(), user.getGithubUsername(), MAX_COMMITS);
+    }
+
+    private void addToken(List<String> tokens, String token) {
+        if (token != null && !token.isBlank() && !token.equals("YOUR_GITHUB_TOKEN") && !tokens.contains(token)) {
+            tokens.add(token);
+        }
+    }
 
-                if (commits.size() >= 5) break; // Limit to 5 commits
+    /**
+     * Until when a snapshot is served without asking GitHub: its poll interval, and for interactive
+     * reads also the reuse window (background refreshes always revalidate once the interval passes)
+     */
+    private Instant reusableUntil(EventsSnapshot snapshot, GitHubTokenPool.Priority priority) {
+        Instant until = priority == GitHubTokenPool.Priority.INTERACTIVE
+                ? snapshot.refreshedAt.plusSeconds(appConfig.getGithubEventsReuseSeconds())
+                : snapshot.refreshedAt;
+        if (Boolean.TRUE.equals(appConfig.getGithubEventsRespectPollInterval()) && snapshot.nextPollAt.isAfter(until)) {
+            until = snapshot.nextPollAt;
+        }
+        return until;
+    }
+
+    /**
+     * Seconds GitHub asks clients to wait between polls (X-Poll-Interval), or 0
+     */
+    private long pollIntervalSeconds(HttpHeaders headers) {
+        String value = headers.getFirst("X-Poll-Interval");
+        if (value == null) {
+            return 0;
+        }
+        try {
+            return Long.parseLong(value.trim());
+        } catch (NumberFormatException e) {
+            return 0;
+        }
+    }
+
+    private void saveRateLimitUnit() {
+        rateLimitUnitsSaved.increment();
+        dailyTally.addSaved();
+    }
+
+    private void recordPoll(String result) {
+        Counter.builder("github.events.polls")
+                .tag("result", result)
+                .description("GitHub user event polls by result (modified, not_modified, skipped, indexed, rate_limited, error)")
+                .register(meterRegistry)
+                .increment();
+    }
+
+    /**
+     * Commits collected across the pages of one poll, the newest event among them, and whether paging
+     * reached the cursor, cutoff, commit limit or end of the feed (rather than a page cap or failed page)
+     */
+    private static class PageSync {
+        private final int commitLimit;
+        private final long stopAtEventId;
+        private final int maxPages;
+        private final List<GitHubEventsParser.PushedCommit> commits = new ArrayList<>();
+        private long newestEventId;
+        private Instant newestEventAt;
+        private boolean complete;
+
+        PageSync(int commitLimit, long stopAtEventId, int maxPages) {
+            this.commitLimit = commitLimit;
+            this.stopAtEventId = stopAtEventId;
+            this.maxPages = maxPages;
+        }
+
+        void add(GitHubEventsParser.Page page) {
+            commits.addAll(page.commits);
+            if (newestEventId == 0 && page.newestEventId > 0) {
+                newestEventId = page.newestEventId;
+                newestEventAt = page.newestEventAt;
+            }
+        }
+    }
+
+    /**
+     * Raw response of one events page
+     */
+    private static class EventsPage {
+        private final byte[] body;
+        private final HttpHeaders headers;
+        private final boolean notModified;
+
+        EventsPage(byte[] body, HttpHeaders headers, boolean notModified) {
+            this.body = body;
+            this.headers = headers;
+            this.notModified = notModified;
+        }
+    }
+
+    /**
+     * Last parsed events response for a user or organization, with the validators needed to poll it conditionally
+     */
+    private static class EventsSnapshot {
+        private final List<GitHubEventsParser.PushedCommit> commits;
+        private final String etag;
+        private final String lastModified;
+        private final Instant refreshedAt;
+        private final Instant nextPollAt;
+        private final long newestEventId; // newest event stored from the feed, 0 without the commit store
+        private final boolean partial; // stored feed read only partly, its cursor not advanced
+
+        EventsSnapshot(List<GitHubEventsParser.PushedCommit> commits, String etag, String lastModified,
+                       long pollIntervalSeconds, long newestEventId, boolean partial) {
+            this.commits = commits;
+            this.etag = etag;
+            this.lastModified = lastModified;
+            this.refreshedAt = Instant.now();
+            this.nextPollAt = refreshedAt.plusSeconds(pollIntervalSeconds);
+            this.newestEventId = newestEventId;
+            this.partial = partial;
+        }
+
+        EventsSnapshot withNextPoll(long pollIntervalSeconds) {
+            return new EventsSnapshot(commits, etag, lastModified, pollIntervalSeconds, newestEventId, partial);
+        }
+
+        /**
+         * Commits pushed in the last 24 hours, by the given pusher or (null) anyone, re-evaluated on
+         * every call so a reused snapshot stays current
+         */
+        List<String> recentCommits(String author) {
+            Instant cutoff = Instant.now().minus(GitHubCommitIndex.LOOKBACK);
+            List<String> recent = new ArrayList<>();
+            for (GitHubEventsParser.PushedCommit commit : commits) {
+                if (commit.pushedAt.isAfter(cutoff) && (author == null || author.equalsIgnoreCase(commit.author))) {
+                    recent.add(commit.line);
+                }
+                if (recent.size() >= MAX_COMMITS) break;
             }
+            return recent;
+        }
+    }
 
-            log.info("Found {} GitHub commits for user: {}", commits.size(), username);
-            return commits;
+    /**
+     * Bytes received and rate-limit units saved since midnight
+     */
+    private static class DailyTally {
+        private LocalDate day = LocalDate.now();
+        private long bytes;
+        private long saved;
+
+        synchronized void addBytes(long count) {
+            rollOver();
+            bytes += count;
+        }
+
+        synchronized void addSaved() {
+            rollOver();
+            saved++;
+        }
 
-        } catch (Exception e) {
-            log.error("Error fetching GitHub commits: {}", e.getMessage(), e);
-            return new ArrayList<>();
+        synchronized long bytesToday() {
+            rollOver();
+            return bytes;
+        }
+
+        synchronized long savedToday() {
+            rollOver();
+            return saved;
+        }
+
+        private void rollOver() {
+            LocalDate today = LocalDate.now();
+            if (!today.equals(day)) {
+                day = today;
+                bytes = 0;
+                saved = 0;
+            }
         }
     }
 }
@@ -0,0 +1,198 @@
+package com.devsync.standupbot.service;
+
+import com.devsync.standupbot.config.AppConfig;
+import com.devsync.standupbot.util.FingerprintUtil;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Rate-limit-aware scheduler for GitHub tokens
+ * Tracks X-RateLimit-Remaining/Reset (and Retry-After for secondary limits) per token and hands
+ * each request the eligible token with the most headroom and fewest requests in flight.
+ * Background fetches leave a reserve for interactive ones and wait briefly for a reset; when no
+ * token is usable the caller serves cached data instead.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class GitHubTokenPool {
+
+    private static final int DEFAULT_LIMIT = 5000;
+
+    public enum Priority {
+        INTERACTIVE,
+        BACKGROUND
+    }
+
+    private final AppConfig appConfig;
+    private final MeterRegistry meterRegistry;
+
+    private final Map<String, TokenBudget> budgets = new ConcurrentHashMap<>();
+
+    /**
+     * Lease the best token among the candidates, or empty if none may be used now
+     */
+    public Optional<Lease> acquire(List<String> candidates, Priority priority) {
+        long maxWaitMillis = priority == Priority.BACKGROUND ? appConfig.getGithubRateLimitMaxWaitSeconds() * 1000L : 0;
+        long deadline = System.currentTimeMillis() + maxWaitMillis;
+
+        while (true) {
+            long now = System.currentTimeMillis();
+            Optional<TokenBudget> best = candidates.stream()
+                    .distinct()
+                    .map(this::budget)
+                    .filter(budget -> budget.isUsable(now, priority, appConfig.getGithubRateLimitBackgroundReserve()))
+                    .min(Comparator.comparingInt((TokenBudget budget) -> budget.inFlight)
+                            .thenComparing(budget -> -budget.remainingRatio(now)));
+            if (best.isPresent()) {
+                TokenBudget budget = best.get();
+                synchronized (budget) {
+                    budget.inFlight++;
+                }
+                return Optional.of(new Lease(budget));
+            }
+
+            long resumeAt = candidates.stream().distinct().map(this::budget)
+                    .mapToLong(budget -> budget.usableAgainAt(now)).min().orElse(Long.MAX_VALUE);
+            if (resumeAt > deadline) {
+                log.warn("No GitHub token available for {} request ({} candidates)", priority, candidates.size());
+                return Optional.empty();
+            }
+            try {
+                Thread.sleep(Math.max(100, resumeAt - now));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return Optional.empty();
+            }
+        }
+    }
+
+    private TokenBudget budget(String token) {
+        return budgets.computeIfAbsent(token, key -> {
+            TokenBudget budget = new TokenBudget(key);
+            String id = FingerprintUtil.fingerprint(key);
+            Gauge.builder("github.ratelimit.remaining", budget, b -> b.remaining)
+                    .tag("token", id)
+                    .description("Requests left in the token's current GitHub rate-limit window")
+                    .register(meterRegistry);
+            Gauge.builder("github.ratelimit.limit", budget, b -> b.limit)
+                    .tag("token", id)
+                    .description("Size of the token's GitHub rate-limit window")
+                    .register(meterRegistry);
+            Gauge.builder("github.ratelimit.reset.seconds", budget,
+                            b -> Math.max(0, b.resetAtMillis - System.currentTimeMillis()) / 1000.0)
+                    .tag("token", id)
+                    .description("Seconds until the token's GitHub rate-limit window resets")
+                    .register(meterRegistry);
+            return budget;
+        });
+    }
+
+    /**
+     * A token handed out for one request; report the response so the budget stays current
+     */
+    public static class Lease implements AutoCloseable {
+        private final TokenBudget budget;
+        private boolean released;
+
+        private Lease(TokenBudget budget) {
+            this.budget = budget;
+        }
+
+        public String token() {
+            return budget.token;
+        }
+
+        /**
+         * Update the token's budget from a response's rate-limit headers
+         */
+        public void record(int status, HttpHeaders headers) {
+            long now = System.currentTimeMillis();
+            synchronized (budget) {
+                Long limit = parse(headers.getFirst("X-RateLimit-Limit"));
+                Long remaining = parse(headers.getFirst("X-RateLimit-Remaining"));
+                Long reset = parse(headers.getFirst("X-RateLimit-Reset"));
+                if (limit != null) {
+                    budget.limit = limit.intValue();
+                }
+                if (remaining != null) {
+                    budget.remaining = remaining.intValue();
+                }
+                if (reset != null) {
+                    budget.resetAtMillis = reset * 1000;
+                }
+
+                // Secondary limits come as 403/429 with Retry-After; a 403 with nothing left is the primary limit
+                Long retryAfter = parse(headers.getFirst(HttpHeaders.RETRY_AFTER));
+                if ((status == 403 || status == 429) && retryAfter != null) {
+                    budget.blockedUntilMillis = now + retryAfter * 1000;
+                } else if (status == 429 || (status == 403 && budget.remaining == 0)) {
+                    budget.blockedUntilMillis = Math.max(budget.resetAtMillis, now + 60_000);
+                }
+            }
+        }
+
+        @Override
+        public void close() {
+            if (released) {
+                return;
+            }
+            released = true;
+            synchronized (budget) {
+                budget.inFlight--;
+            }
+        }
+
+        private static Long parse(String value) {
+            if (value == null) {
+                return null;
+            }
+            try {
+                return Long.parseLong(value.trim());
+            } catch (NumberFormatException e) {
+                return null;
+            }
+        }
+    }
+
+    private static class TokenBudget {
+        private final String token;
+        private volatile int limit = DEFAULT_LIMIT;
+        private volatile int remaining = DEFAULT_LIMIT; // optimistic until the first response
+        private volatile long resetAtMillis;
+        private volatile long blockedUntilMillis;
+        private int inFlight;
+
+        TokenBudget(String token) {
+            this.token = token;
+        }
+
+        boolean isUsable(long now, Priority priority, double backgroundReserve) {
+            if (now < blockedUntilMillis) {
+                return false;
+            }
+            int available = now >= resetAtMillis ? limit : remaining;
+            int reserve = priority == Priority.BACKGROUND ? (int) Math.ceil(limit * backgroundReserve) : 0;
+            return available - inFlight > reserve;
+        }
+
+        double remainingRatio(long now) {
+            int available = now >= resetAtMillis ? limit : remaining;
+            return limit > 0 ? available / (double) limit : 0;
+        }
+
+        long usableAgainAt(long now) {
+            return Math.max(blockedUntilMillis, resetAtMillis > now ? resetAtMillis : now);
+        }
+    }
+}
@@ -0,0 +1,166 @@
+package com.devsync.standupbot.service;
+
+import com.devsync.standupbot.config.AppConfig;
+import com.devsync.standupbot.repository.TeamRepository;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.HexFormat;
+
+/**
+ * Service for inbound GitHub webhooks
+ * Deliveries are authenticated with the X-Hub-Signature-256 HMAC of the raw body. Push events
+ * from organizations configured on an active team feed GitHubCommitIndex.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class GitHubWebhookService {
+
+    private static final String SIGNATURE_PREFIX = "sha256=";
+
+    public enum Result {
+        ACCEPTED,
+        IGNORED,
+        REJECTED
+    }
+
+    private final AppConfig appConfig;
+    private final TeamRepository teamRepository;
+    private final GitHubCommitIndex commitIndex;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+
+    public boolean isConfigured() {
+        String secret = appConfig.getGithubWebhookSecret();
+        return secret != null && !secret.isBlank();
+    }
+
+    /**
+     * Check a delivery's X-Hub-Signature-256 header against the configured secret
+     */
+    public boolean verifySignature(byte[] body, String signatureHeader) {
+        if (!isConfigured() || signatureHeader == null || !signatureHeader.startsWith(SIGNATURE_PREFIX)) {
+            return false;
+        }
+        try {
+            Mac mac = Mac.getInstance("HmacSHA256");
+            mac.init(new SecretKeySpec(appConfig.getGithubWebhookSecret().getBytes(StandardCharsets.UTF_8), "HmacSHA256"));
+            byte[] expected = mac.doFinal(body);
+            byte[] actual = HexFormat.of().parseHex(signatureHeader.substring(SIGNATURE_PREFIX.length()));
+            return MessageDigest.isEqual(expected, actual);
+        } catch (IllegalArgumentException | GeneralSecurityException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Handle a verified delivery
+     */
+    public Result handle(String event, byte[] body) {
+        Instant receivedAt = Instant.now();
+        Result result;
+        try {
+            result = switch (event == null ? "" : event) {
+                case "ping" -> Result.ACCEPTED;
+                case "push" -> handlePush(objectMapper.readTree(body), receivedAt);
+                default -> Result.IGNORED;
+            };
+        } catch (Exception e) {
+            log.warn("Could not process GitHub {} webhook: {}", event, e.getMessage());
+            result = Result.REJECTED;
+        }
+        record(event, result);
+        return result;
+    }
+
+    /**
+     * Record a delivery turned away before it was processed
+     */
+    public void recordRejected(String event) {
+        record(event, Result.REJECTED);
+    }
+
+    private Result handlePush(JsonNode payload, Instant receivedAt) {
+        String organization = organizationOf(payload);
+        if (organization == null || !teamRepository.existsByGithubOrganizationIgnoreCaseAndActiveTrue(organization)) {
+            log.debug("Ignoring push from {}, not a team organization", organization);
+            return Result.IGNORED;
+        }
+        commitIndex.recordDelivery(organization);
+
+        String repoName = payload.path("repository").path("full_name").asText();
+        String pusher = payload.path("sender").path("login").asText(null);
+        // Commit timestamps are author dates, which can be days before the push
+        Instant pushedAt = pushedAt(payload, receivedAt);
+        int added = 0;
+        for (JsonNode commit : payload.path("commits")) {
+            // Commits already pushed to another branch of the repository are not distinct
+            if (!commit.path("distinct").asBoolean(true)) {
+                continue;
+            }
+            String author = commit.path("author").path("username").asText(pusher);
+            if (author == null || author.isEmpty()) {
+                continue;
+            }
+            commitIndex.add(author, commit.path("id").asText(), pushedAt,
+                    String.format("%s: %s", repoName, commit.path("message").asText()));
+            added++;
+        }
+        log.info("Indexed {} commits pushed to {}", added, repoName);
+        return Result.ACCEPTED;
+    }
+
+    /**
+     * When the push happened: repository.pushed_at (epoch seconds in push payloads, an ISO timestamp
+     * elsewhere), or the delivery's receipt time when it is missing or unreadable
+     */
+    private Instant pushedAt(JsonNode payload, Instant receivedAt) {
+        JsonNode pushedAt = payload.path("repository").path("pushed_at");
+        if (pushedAt.isNumber()) {
+            return Instant.ofEpochSecond(pushedAt.asLong());
+        }
+        if (pushedAt.isTextual()) {
+            try {
+                return OffsetDateTime.parse(pushedAt.asText()).toInstant();
+            } catch (DateTimeParseException e) {
+                log.debug("Unreadable pushed_at {}, using the delivery time", pushedAt.asText());
+            }
+        }
+        return receivedAt;
+    }
+
+    /**
+     * Organization that owns the pushed repository
+     */
+    private String organizationOf(JsonNode payload) {
+        JsonNode organization = payload.path("organization").path("login");
+        if (!organization.isMissingNode()) {
+            return organization.asText();
+        }
+        JsonNode owner = payload.path("repository").path("owner");
+        return owner.has("login") ? owner.get("login").asText() : owner.path("name").asText(null);
+    }
+
+    private void record(String event, Result result) {
+        Counter.builder("github.webhook.deliveries")
+                .tag("event", event != null ? event : "unknown")
+                .tag("result", result.name().toLowerCase())
+                .description("GitHub webhook deliveries by event and result")
+                .register(meterRegistry)
+                .increment();
+    }
+}
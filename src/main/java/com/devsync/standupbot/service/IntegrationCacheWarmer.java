@@ -0,0 +1,183 @@
+package com.devsync.standupbot.service;
+
+import com.devsync.standupbot.model.Team;
+import com.devsync.standupbot.model.User;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Service that warms each member's GitHub and Jira caches before their team's standup
+ * Members are refreshed one at a time, spread evenly over the time left before the reminder, and
+ * GitHub fetches run at background priority so they never eat into the interactive token reserve.
+ * Teams with their own Jira credentials have every member's issues fetched up front in one search.
+ * When a user starts a standup the share of their sources served warm is recorded.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class IntegrationCacheWarmer {
+
+    private static final Duration END_MARGIN = Duration.ofSeconds(30);
+
+    private final UserService userService;
+    private final GitHubService githubService;
+    private final JiraService jiraService;
+    private final MeterRegistry meterRegistry;
+
+    private final Map<Long, LocalDate> warmedOn = new ConcurrentHashMap<>();
+
+    private ScheduledExecutorService executor;
+    private DistributionSummary startWarmRatio;
+
+    @PostConstruct
+    void init() {
+        executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "cache-warmer");
+            thread.setDaemon(true);
+            return thread;
+        });
+        startWarmRatio = DistributionSummary.builder("standup.start.warm.ratio")
+                .description("Share of a user's GitHub/Jira sources served from a warm cache when the standup started")
+                .register(meterRegistry);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * Schedule warming for every member of a team whose standup starts at the given time
+     * Runs at most once per team and standup day; returns the number of members scheduled
+     */
+    public int warmTeam(Team team, ZonedDateTime standupAt) {
+        LocalDate day = standupAt.toLocalDate();
+        if (day.equals(warmedOn.put(team.getId(), day))) {
+            return 0;
+        }
+
+        List<User> members = userService.getUsersByTeam(team.getId()).stream()
+                .filter(user -> hasGitHub(user, team) || hasJira(user, team))
+                .toList();
+        if (members.isEmpty()) {
+            return 0;
+        }
+
+        if (hasTeamJira(team)) {
+            List<String> accountIds = members.stream()
+                    .filter(user -> hasJira(user, team))
+                    .map(User::getJiraAccountId)
+                    .toList();
+            if (!accountIds.isEmpty()) {
+                executor.execute(() -> warmTeamJira(team, accountIds));
+            }
+        }
+
+        Duration window = Duration.between(ZonedDateTime.now(standupAt.getZone()), standupAt).minus(END_MARGIN);
+        long spacingMillis = window.isNegative() ? 0 : window.toMillis() / members.size();
+        for (int i = 0; i < members.size(); i++) {
+            User member = members.get(i);
+            executor.schedule(() -> warmMember(member, team), i * spacingMillis, TimeUnit.MILLISECONDS);
+        }
+        log.info("Warming caches for {} members of team {} before {} standup ({} ms apart)",
+                members.size(), team.getTeamName(), standupAt.toLocalTime(), spacingMillis);
+        return members.size();
+    }
+
+    /**
+     * Record which of the user's integration caches were warm as they start a standup
+     */
+    public void recordStart(User user, Team team) {
+        int sources = 0;
+        int warm = 0;
+        if (hasGitHub(user, team)) {
+            sources++;
+            warm += recordLookup("github", githubService.isFresh(user, team));
+        }
+        if (hasJira(user, team)) {
+            sources++;
+            warm += recordLookup("jira", jiraService.isFresh(user.getJiraAccountId(), team.getJiraApiUrl()));
+        }
+        if (sources > 0) {
+            startWarmRatio.record(warm / (double) sources);
+            log.debug("Standup start for {}: {}/{} integration caches warm", user.getName(), warm, sources);
+        }
+    }
+
+    private void warmMember(User user, Team team) {
+        try {
+            if (hasGitHub(user, team) && !githubService.isIndexed(user, team)) {
+                githubService.fetchRecentCommits(user, team, GitHubTokenPool.Priority.BACKGROUND);
+                recordWarmed("github", 1);
+            }
+            // Skipped when the team search already refreshed this member
+            if (hasJira(user, team) && !(hasTeamJira(team)
+                    && jiraService.isFresh(user.getJiraAccountId(), team.getJiraApiUrl()))) {
+                jiraService.refreshActiveTasks(user.getJiraAccountId(), team.getJiraApiUrl(),
+                        user.getJiraEmail(), user.getJiraApiToken());
+                recordWarmed("jira", 1);
+            }
+        } catch (Exception e) {
+            log.warn("Error warming caches for user {}: {}", user.getId(), e.getMessage());
+        }
+    }
+
+    private void warmTeamJira(Team team, List<String> accountIds) {
+        try {
+            Map<String, List<String>> tasks = jiraService.refreshTeamActiveTasks(accountIds, team.getJiraApiUrl(),
+                    team.getJiraEmail(), team.getJiraApiToken());
+            if (tasks != null) {
+                recordWarmed("jira", tasks.size());
+            }
+        } catch (Exception e) {
+            log.warn("Error warming Jira cache for team {}: {}", team.getTeamName(), e.getMessage());
+        }
+    }
+
+    private boolean hasGitHub(User user, Team team) {
+        return user.getGithubUsername() != null
+                && (githubService.isIndexed(user, team) || !githubService.tokensFor(user, team).isEmpty());
+    }
+
+    private boolean hasJira(User user, Team team) {
+        return user.getJiraAccountId() != null && user.getJiraApiToken() != null && team.getJiraApiUrl() != null;
+    }
+
+    private boolean hasTeamJira(Team team) {
+        return team.getJiraApiUrl() != null && team.getJiraEmail() != null && team.getJiraApiToken() != null;
+    }
+
+    private int recordLookup(String source, boolean warm) {
+        Counter.builder("standup.start.cache")
+                .tag("source", source)
+                .tag("result", warm ? "warm" : "cold")
+                .description("Integration cache state per source when a user starts a standup")
+                .register(meterRegistry)
+                .increment();
+        return warm ? 1 : 0;
+    }
+
+    private void recordWarmed(String source, int entries) {
+        Counter.builder("standup.cache.warmed")
+                .tag("source", source)
+                .description("Integration cache entries refreshed ahead of a team's standup")
+                .register(meterRegistry)
+                .increment(entries);
+    }
+}
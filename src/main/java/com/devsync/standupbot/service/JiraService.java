@@ -1,109 +1,448 @@
 package com.devsync.standupbot.service;
 
 import com.devsync.standupbot.config.AppConfig;
+import com.devsync.standupbot.config.IntegrationWebClients;
 import com.fasterxml.jackson.databind.JsonNode;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.stereotype.Service;
-import org.springframework.web.reactive.function.client.WebClient;
 import reactor.core.publisher.Mono;
 
 import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
 import java.util.ArrayList;
 import java.util.Base64;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
 
 /**
  * Service for Jira API integration
+ * Active issues are cached per Jira site and account with a soft and a hard TTL. Within
+ * jira.cache.ttl.seconds the cached list is served as is; until jira.cache.hard.ttl.seconds it is
+ * still served at once while a background refresh fetches only the account's issues updated since
+ * the last sync; after that callers wait for a full fetch. The last good result is served when Jira
+ * is unavailable. Fetches are reactive; the List methods block on them.
+ * A whole team can be fetched with one paged `assignee in (...)` search that fills every member's entry.
  */
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class JiraService {
 
+    private static final int MAX_TASKS = 5;
+    private static final int MAX_CHANGES = 50; // more changes than this since the last sync means a full fetch
+    private static final List<String> ACTIVE_STATUS_NAMES = List.of("In Progress", "To Do", "Open");
+    private static final String ACTIVE_STATUSES = ACTIVE_STATUS_NAMES.stream()
+            .map(status -> "'" + status + "'")
+            .collect(Collectors.joining(", ", "status in (", ")"));
+    private static final String TASK_FIELDS = "summary,status,priority,updated,assignee";
+    private static final DateTimeFormatter JIRA_TIMESTAMP = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss.SSSZ");
+    private static final Duration SYNC_OVERLAP = Duration.ofMinutes(1);
+
     private final AppConfig appConfig;
-    private final WebClient.Builder webClientBuilder;
+    private final IntegrationWebClients webClients;
+    private final MeterRegistry meterRegistry;
+
+    private final Map<String, CachedTasks> tasksCache = new ConcurrentHashMap<>();
+    private final Set<String> revalidating = ConcurrentHashMap.newKeySet();
 
     /**
      * Fetch active Jira tasks for a user
      */
     public List<String> fetchActiveTasks(String accountId) {
-        return fetchActiveTasks(accountId, appConfig.getJiraApiUrl(), 
+        return fetchActiveTasks(accountId, appConfig.getJiraApiUrl(),
                                appConfig.getJiraEmail(), appConfig.getJiraApiToken());
     }
 
     /**
      * Fetch active Jira tasks for a user with specific credentials
      */
-    public List<String> fetchActiveTasks(String accountId, String jiraUrl, 
+    public List<String> fetchActiveTasks(String accountId, String jiraUrl,
                                         String jiraEmail, String jiraToken) {
+        return activeTasks(accountId, jiraUrl, jiraEmail, jiraToken).block();
+    }
+
+    /**
+     * Fetch active Jira tasks from Jira even if a fresh cached result exists, and cache them
+     * Entries within the hard TTL are brought up to date incrementally.
+     */
+    public List<String> refreshActiveTasks(String accountId, String jiraUrl,
+                                           String jiraEmail, String jiraToken) {
+        return activeTasks(accountId, jiraUrl, jiraEmail, jiraToken, false).block();
+    }
+
+    /**
+     * Active Jira tasks for a user; never errors, emits the last cached result or an empty list instead
+     */
+    public Mono<List<String>> activeTasks(String accountId, String jiraUrl, String jiraEmail, String jiraToken) {
+        return activeTasks(accountId, jiraUrl, jiraEmail, jiraToken, true);
+    }
+
+    private Mono<List<String>> activeTasks(String accountId, String jiraUrl, String jiraEmail,
+                                           String jiraToken, boolean allowCached) {
         if (accountId == null || accountId.isEmpty()) {
             log.warn("Jira account ID not provided");
-            return new ArrayList<>();
+            return Mono.just(new ArrayList<>());
         }
 
         if (jiraToken == null || jiraToken.isEmpty() || jiraToken.equals("YOUR_JIRA_TOKEN")) {
             log.warn("Jira credentials not configured");
-            return new ArrayList<>();
+            return Mono.just(new ArrayList<>());
         }
 
-        try {
-            log.info("Fetching Jira tasks for account: {}", accountId);
-
-            String auth = jiraEmail + ":" + jiraToken;
-            String encodedAuth = Base64.getEncoder()
-                    .encodeToString(auth.getBytes(StandardCharsets.UTF_8));
-
-            WebClient webClient = webClientBuilder
-                    .baseUrl(jiraUrl)
-                    .defaultHeader(HttpHeaders.AUTHORIZATION, "Basic " + encodedAuth)
-                    .defaultHeader(HttpHeaders.ACCEPT, MediaType.APPLICATION_JSON_VALUE)
-                    .build();
-
-            // JQL query to get user's active issues
-            String jql = String.format(
-                "assignee=%s AND status in ('In Progress', 'To Do', 'Open') ORDER BY updated DESC",
-                accountId
-            );
-
-            JsonNode response = webClient.get()
-                    .uri(uriBuilder -> uriBuilder
-                            .path("/rest/api/3/search")
-                            .queryParam("jql", jql)
-                            .queryParam("maxResults", "5")
-                            .queryParam("fields", "summary,status,priority")
-                            .build())
-                    .retrieve()
-                    .bodyToMono(JsonNode.class)
+        String cacheKey = cacheKey(accountId, jiraUrl);
+        CachedTasks cached = tasksCache.get(cacheKey);
+        if (cached != null && !isExpired(cached)) {
+            if (allowCached && isFresh(cached)) {
+                log.debug("Serving cached Jira tasks for account: {}", accountId);
+                recordLookup("fresh");
+                return Mono.just(cached.tasks());
+            }
+            if (allowCached) {
+                log.debug("Serving stale Jira tasks for account {} while revalidating", accountId);
+                recordLookup("stale");
+                revalidate(accountId, jiraUrl, jiraEmail, jiraToken, cached);
+                return Mono.just(cached.tasks());
+            }
+            return syncChanges(accountId, jiraUrl, jiraEmail, jiraToken, cached)
+                    .map(CachedTasks::tasks)
                     .onErrorResume(e -> {
-                        log.error("Error fetching Jira tasks: {}", e.getMessage());
-                        return Mono.just(null);
+                        log.error("Error refreshing Jira tasks: {}", e.getMessage());
+                        return Mono.empty();
                     })
-                    .block();
+                    .switchIfEmpty(Mono.fromSupplier(cached::tasks));
+        }
 
-            if (response == null || !response.has("issues")) {
-                return new ArrayList<>();
-            }
+        if (allowCached) {
+            recordLookup(cached == null ? "miss" : "expired");
+        }
+        return fetchAll(accountId, jiraUrl, jiraEmail, jiraToken)
+                .map(CachedTasks::tasks)
+                .onErrorResume(e -> {
+                    log.error("Error fetching Jira tasks: {}", e.getMessage());
+                    return Mono.empty();
+                })
+                .switchIfEmpty(Mono.fromSupplier(() -> cached != null ? cached.tasks() : new ArrayList<>()));
+    }
+
+    /**
+     * Bring a stale entry up to date in the background, at most one refresh per account at a time
+     */
+    private void revalidate(String accountId, String jiraUrl, String jiraEmail, String jiraToken, CachedTasks cached) {
+        String cacheKey = cacheKey(accountId, jiraUrl);
+        if (!revalidating.add(cacheKey)) {
+            return;
+        }
+        syncChanges(accountId, jiraUrl, jiraEmail, jiraToken, cached)
+                .doFinally(signal -> revalidating.remove(cacheKey))
+                .subscribe(refreshed -> { },
+                        e -> log.warn("Background Jira refresh failed for account {}: {}", accountId, e.getMessage()));
+    }
+
+    /**
+     * Fetch the account's most recently updated active issues and replace its cache entry
+     */
+    private Mono<CachedTasks> fetchAll(String accountId, String jiraUrl, String jiraEmail, String jiraToken) {
+        log.info("Fetching Jira tasks for account: {}", accountId);
 
-            List<String> tasks = new ArrayList<>();
-            JsonNode issues = response.get("issues");
+        // JQL query to get user's active issues
+        String jql = String.format("assignee=%s AND %s ORDER BY updated DESC", accountId, ACTIVE_STATUSES);
+        Instant syncedAt = Instant.now();
 
-            for (JsonNode issue : issues) {
-                String key = issue.get("key").asText();
-                String summary = issue.get("fields").get("summary").asText();
-                String status = issue.get("fields").get("status").get("name").asText();
-                
-                tasks.add(String.format("[%s] %s - %s", key, summary, status));
-            }
+        return search(jiraUrl, jql, MAX_TASKS, jiraEmail, jiraToken)
+                .filter(response -> response.has("issues"))
+                .map(response -> {
+                    Map<String, Issue> issues = new LinkedHashMap<>();
+                    for (JsonNode issue : response.get("issues")) {
+                        Issue parsed = parseIssue(issue);
+                        issues.put(parsed.key, parsed);
+                    }
+
+                    log.info("Found {} Jira tasks for account: {}", issues.size(), accountId);
+                    boolean truncated = response.path("total").asInt(0) > issues.size();
+                    CachedTasks fetched = new CachedTasks(issues, truncated, syncedAt);
+                    tasksCache.put(cacheKey(accountId, jiraUrl), fetched);
+                    recordRefresh("full");
+                    return fetched;
+                });
+    }
+
+    /**
+     * Apply the account's issues updated since the entry's last sync (with a minute of overlap)
+     * `assignee was` also matches issues reassigned away or closed, which are dropped. Falls back to
+     * a full fetch when there are too many changes or a truncated entry loses issues it cannot backfill.
+     */
+    private Mono<CachedTasks> syncChanges(String accountId, String jiraUrl, String jiraEmail, String jiraToken,
+                                          CachedTasks cached) {
+        // A relative bound avoids the JQL user's timezone, which absolute dates are read in
+        long minutes = Duration.between(cached.syncedAt, Instant.now()).plus(SYNC_OVERLAP).toMinutes() + 1;
+        String jql = String.format("assignee was %s AND updated >= -%dm ORDER BY updated DESC",
+                quote(accountId), minutes);
+        Instant syncedAt = Instant.now();
+
+        return search(jiraUrl, jql, MAX_CHANGES, jiraEmail, jiraToken)
+                .flatMap(response -> {
+                    JsonNode changed = response.path("issues");
+                    if (response.path("total").asInt(0) > changed.size()) {
+                        return fetchAll(accountId, jiraUrl, jiraEmail, jiraToken);
+                    }
+
+                    Map<String, Issue> issues = new LinkedHashMap<>(cached.issues);
+                    for (JsonNode issue : changed) {
+                        Issue parsed = parseIssue(issue);
+                        String assignee = issue.path("fields").path("assignee").path("accountId").asText(null);
+                        if (accountId.equals(assignee) && ACTIVE_STATUS_NAMES.contains(parsed.status)) {
+                            issues.put(parsed.key, parsed);
+                        } else {
+                            issues.remove(parsed.key);
+                        }
+                    }
+                    if (cached.truncated && issues.size() < MAX_TASKS) {
+                        return fetchAll(accountId, jiraUrl, jiraEmail, jiraToken);
+                    }
+
+                    log.debug("Applied {} changed Jira issues for account {}", changed.size(), accountId);
+                    CachedTasks synced = new CachedTasks(issues, cached.truncated || issues.size() > MAX_TASKS,
+                            syncedAt);
+                    tasksCache.put(cacheKey(accountId, jiraUrl), synced);
+                    recordRefresh("incremental");
+                    return Mono.just(synced);
+                });
+    }
+
+    private Mono<JsonNode> search(String jiraUrl, String jql, int maxResults, String jiraEmail, String jiraToken) {
+        return webClients.forBaseUrl(jiraUrl).get()
+                .uri(uriBuilder -> uriBuilder
+                        .path("/rest/api/3/search")
+                        .queryParam("jql", jql)
+                        .queryParam("maxResults", maxResults)
+                        .queryParam("fields", TASK_FIELDS)
+                        .build())
+                .header(HttpHeaders.AUTHORIZATION, basicAuth(jiraEmail, jiraToken))
+                .accept(MediaType.APPLICATION_JSON)
+                .retrieve()
+                .bodyToMono(JsonNode.class)
+                .transform(webClients::withResilience);
+    }
+
+    /**
+     * Fetch a team's active Jira tasks with one search and cache them per account
+     */
+    public Map<String, List<String>> refreshTeamActiveTasks(List<String> accountIds, String jiraUrl,
+                                                            String jiraEmail, String jiraToken) {
+        return teamActiveTasks(accountIds, jiraUrl, jiraEmail, jiraToken).block();
+    }
+
+    /**
+     * Active Jira tasks of several accounts from one `assignee in (...)` search, keyed by account id
+     * Pages of jira.team.page.size are read until every account has its tasks or the results run out
+     * (at most jira.team.max.pages). Only accounts the search fully covered are returned and cached:
+     * those that got their MAX_TASKS issues, or all accounts once paging reached the end of the results
+     * (including accounts with no active issues). When the page cap stops paging early, the remaining
+     * accounts are left out so callers fetch them on their own. Emits nothing when the search fails.
+     */
+    public Mono<Map<String, List<String>>> teamActiveTasks(List<String> accountIds, String jiraUrl,
+                                                          String jiraEmail, String jiraToken) {
+        List<String> accounts = accountIds.stream()
+                .filter(accountId -> accountId != null && !accountId.isEmpty())
+                .distinct()
+                .toList();
+        if (accounts.isEmpty() || jiraUrl == null || jiraToken == null || jiraToken.isEmpty()
+                || jiraToken.equals("YOUR_JIRA_TOKEN")) {
+            return Mono.empty();
+        }
+
+        log.info("Fetching Jira tasks for {} accounts in one search", accounts.size());
+        String jql = String.format("assignee in (%s) AND %s ORDER BY updated DESC",
+                accounts.stream().map(this::quote).collect(Collectors.joining(",")), ACTIVE_STATUSES);
+        Map<String, Map<String, Issue>> issuesByAccount = new LinkedHashMap<>();
+        accounts.forEach(accountId -> issuesByAccount.put(accountId, new LinkedHashMap<>()));
+        Instant syncedAt = Instant.now();
+        int[] pages = {1};
+        boolean[] exhausted = {false};
+
+        return searchPage(jiraUrl, jql, 0, jiraEmail, jiraToken)
+                .expand(page -> {
+                    int next = page.path("startAt").asInt(0) + page.path("issues").size();
+                    if (page.path("issues").isEmpty() || next >= page.path("total").asInt(0)) {
+                        exhausted[0] = true;
+                        return Mono.empty();
+                    }
+                    boolean complete = issuesByAccount.values().stream().allMatch(issues -> issues.size() >= MAX_TASKS);
+                    if (complete || pages[0] >= appConfig.getJiraTeamMaxPages()) {
+                        return Mono.empty();
+                    }
+                    pages[0]++;
+                    return searchPage(jiraUrl, jql, next, jiraEmail, jiraToken);
+                })
+                .doOnNext(page -> {
+                    for (JsonNode issue : page.path("issues")) {
+                        Map<String, Issue> issues = issuesByAccount.get(
+                                issue.path("fields").path("assignee").path("accountId").asText());
+                        if (issues != null && issues.size() < MAX_TASKS) {
+                            Issue parsed = parseIssue(issue);
+                            issues.put(parsed.key, parsed);
+                        }
+                    }
+                })
+                .then(Mono.fromSupplier(() -> {
+                    Map<String, List<String>> tasksByAccount = new LinkedHashMap<>();
+                    issuesByAccount.forEach((accountId, issues) -> {
+                        // An account that filled its share may have more active issues than were read
+                        boolean truncated = issues.size() >= MAX_TASKS;
+                        if (!truncated && !exhausted[0]) {
+                            return;
+                        }
+                        CachedTasks fetched = new CachedTasks(issues, truncated, syncedAt);
+                        tasksCache.put(cacheKey(accountId, jiraUrl), fetched);
+                        tasksByAccount.put(accountId, fetched.tasks());
+                    });
+                    if (tasksByAccount.size() < accounts.size()) {
+                        log.warn("Jira search for {} accounts stopped after {} pages, leaving {} accounts uncached",
+                                accounts.size(), pages[0], accounts.size() - tasksByAccount.size());
+                    }
+                    log.info("Found {} Jira tasks for {} accounts",
+                            tasksByAccount.values().stream().mapToInt(List::size).sum(), tasksByAccount.size());
+                    return tasksByAccount;
+                }))
+                .onErrorResume(e -> {
+                    log.error("Error fetching Jira tasks for {} accounts: {}", accounts.size(), e.getMessage());
+                    return Mono.empty();
+                });
+    }
+
+    /**
+     * One page of a JQL search; POST keeps long assignee lists out of the URL
+     */
+    private Mono<JsonNode> searchPage(String jiraUrl, String jql, int startAt, String jiraEmail, String jiraToken) {
+        return webClients.forBaseUrl(jiraUrl).post()
+                .uri("/rest/api/3/search")
+                .header(HttpHeaders.AUTHORIZATION, basicAuth(jiraEmail, jiraToken))
+                .contentType(MediaType.APPLICATION_JSON)
+                .accept(MediaType.APPLICATION_JSON)
+                .bodyValue(Map.of(
+                        "jql", jql,
+                        "startAt", startAt,
+                        "maxResults", appConfig.getJiraTeamPageSize(),
+                        "fields", List.of(TASK_FIELDS.split(","))))
+                .retrieve()
+                .bodyToMono(JsonNode.class)
+                .transform(webClients::withResilience);
+    }
+
+    private Issue parseIssue(JsonNode issue) {
+        String key = issue.get("key").asText();
+        String summary = issue.get("fields").get("summary").asText();
+        String status = issue.get("fields").get("status").get("name").asText();
+        return new Issue(key, status, String.format("[%s] %s - %s", key, summary, status),
+                parseTimestamp(issue.path("fields").path("updated").asText(null)));
+    }
+
+    private Instant parseTimestamp(String value) {
+        if (value == null) {
+            return Instant.EPOCH;
+        }
+        try {
+            return OffsetDateTime.parse(value, JIRA_TIMESTAMP).toInstant();
+        } catch (DateTimeParseException e) {
+            return Instant.EPOCH;
+        }
+    }
+
+    private String basicAuth(String jiraEmail, String jiraToken) {
+        String auth = jiraEmail + ":" + jiraToken;
+        return "Basic " + Base64.getEncoder().encodeToString(auth.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private String quote(String accountId) {
+        return "\"" + accountId.replace("\\", "\\\\").replace("\"", "\\\"") + "\"";
+    }
+
+    /**
+     * Whether the account's active tasks would be served from cache without asking Jira
+     */
+    public boolean isFresh(String accountId, String jiraUrl) {
+        return accountId != null && jiraUrl != null && isFresh(tasksCache.get(cacheKey(accountId, jiraUrl)));
+    }
+
+    private boolean isFresh(CachedTasks cached) {
+        return cached != null && cached.syncedAt.plusSeconds(appConfig.getJiraCacheTtlSeconds()).isAfter(Instant.now());
+    }
+
+    private boolean isExpired(CachedTasks cached) {
+        return !cached.syncedAt.plusSeconds(appConfig.getJiraCacheHardTtlSeconds()).isAfter(Instant.now());
+    }
+
+    private String cacheKey(String accountId, String jiraUrl) {
+        return jiraUrl + "|" + accountId;
+    }
+
+    private void recordLookup(String result) {
+        Counter.builder("jira.cache.lookups")
+                .tag("result", result)
+                .description("Jira task lookups by cache state (fresh, stale = served while revalidating, expired, miss)")
+                .register(meterRegistry)
+                .increment();
+    }
+
+    private void recordRefresh(String kind) {
+        Counter.builder("jira.cache.refreshes")
+                .tag("kind", kind)
+                .description("Jira task cache refreshes, full or incremental (issues updated since the last sync)")
+                .register(meterRegistry)
+                .increment();
+    }
+
+    /**
+     * Active issues known for one account and when they were last synced with Jira
+     */
+    private static class CachedTasks {
+        private final Map<String, Issue> issues;
+        private final boolean truncated; // Jira had more active issues than were read
+        private final Instant syncedAt;
+
+        CachedTasks(Map<String, Issue> issues, boolean truncated, Instant syncedAt) {
+            this.issues = Map.copyOf(issues);
+            this.truncated = truncated;
+            this.syncedAt = syncedAt;
+        }
+
+        /**
+         * The most recently updated issues, formatted for display
+         */
+        List<String> tasks() {
+            return issues.values().stream()
+                    .sorted(Comparator.comparing((Issue issue) -> issue.updated).reversed())
+                    .limit(MAX_TASKS)
+                    .map(issue -> issue.line)
+                    .collect(Collectors.toCollection(ArrayList::new));
+        }
+    }
 
-            log.info("Found {} Jira tasks for account: {}", tasks.size(), accountId);
-            return tasks;
+    private static class Issue {
+        private final String key;
+        private final String status;
+        private final String line;
+        private final Instant updated;
 
-        } catch (Exception e) {
-            log.error("Error fetching Jira tasks: {}", e.getMessage(), e);
-            return new ArrayList<>();
+        Issue(String key, String status, String line, Instant updated) {
+            this.key = key;
+            this.status = status;
+            this.line = line;
+            this.updated = updated;
         }
     }
 }
@@ -0,0 +1,225 @@
+package com.devsync.standupbot.service;
+
+import com.devsync.standupbot.config.AppConfig;
+import com.devsync.standupbot.exception.IntegrationException;
+import com.devsync.standupbot.util.FingerprintUtil;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Bounds concurrent LLM calls per API key
+ * Callers beyond the limit wait in a priority queue (interactive before background before backfill).
+ * Requests that could not finish before their deadline are rejected immediately so the caller
+ * can fall back instead of piling onto a provider that is already returning 429s.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class LlmConcurrencyLimiter {
+
+    private final AppConfig appConfig;
+    private final MeterRegistry meterRegistry;
+
+    private final Map<String, KeyLimiter> limiters = new ConcurrentHashMap<>();
+
+    /**
+     * Scheduling class of an LLM call, in dequeue order
+     */
+    public enum Priority {
+        INTERACTIVE,    // A user is waiting for the reply
+        BACKGROUND,     // Scheduled work such as team digests
+        BACKFILL        // Bulk regeneration of old summaries
+    }
+
+    /**
+     * Default deadline for a priority class when the caller did not set one
+     */
+    public Instant defaultDeadline(Priority priority) {
+        long millis = switch (priority) {
+            case INTERACTIVE -> appConfig.getAiLimiterInteractiveDeadlineMs();
+            case BACKGROUND -> appConfig.getAiLimiterBackgroundDeadlineMs();
+            case BACKFILL -> appConfig.getAiLimiterBackfillDeadlineMs();
+        };
+        return Instant.now().plusMillis(millis);
+    }
+
+    /**
+     * Acquire a slot for an LLM call on the given API key
+     *
+     * @throws IntegrationException if the queue is full or the deadline cannot be met
+     */
+    public Permit acquire(String apiKey, Priority priority, Instant deadline, String team) {
+        if (!Boolean.TRUE.equals(appConfig.getAiLimiterEnabled())) {
+            return new Permit(null);
+        }
+
+        Priority effectivePriority = priority != null ? priority : Priority.INTERACTIVE;
+        Instant effectiveDeadline = deadline != null ? deadline : defaultDeadline(effectivePriority);
+        String teamTag = team != null ? team : "none";
+        KeyLimiter limiter = limiters.computeIfAbsent(fingerprint(apiKey), this::createLimiter);
+
+        long enqueuedAt = System.nanoTime();
+        synchronized (limiter) {
+            if (limiter.inFlight < limiter.maxConcurrent && limiter.queue.isEmpty()) {
+                limiter.inFlight++;
+                recordWait(teamTag, effectivePriority, 0);
+                return new Permit(limiter);
+            }
+
+            // Estimate when this call would finish: everything queued ahead of it plus its own call
+            long ahead = limiter.queue.stream()
+                    .filter(w -> w.priority.ordinal() <= effectivePriority.ordinal())
+                    .count();
+            long estimatedMillis = (long) (((ahead / (double) limiter.maxConcurrent) + 1) * limiter.avgCallMillis);
+            long remainingMillis = Duration.between(Instant.now(), effectiveDeadline).toMillis();
+
+            if (estimatedMillis > remainingMillis) {
+                throw reject(limiter, teamTag, effectivePriority, "deadline",
+                        "estimated completion " + estimatedMillis + "ms exceeds deadline " + remainingMillis + "ms");
+            }
+            if (limiter.queue.size() >= appConfig.getAiLimiterQueueCapacity()) {
+                throw reject(limiter, teamTag, effectivePriority, "queue_full",
+                        "queue full (" + limiter.queue.size() + " waiting)");
+            }
+
+            Waiter waiter = new Waiter(effectivePriority, limiter.sequence++);
+            limiter.queue.add(waiter);
+
+            try {
+                while (true) {
+                    if (limiter.queue.peek() == waiter && limiter.inFlight < limiter.maxConcurrent) {
+                        limiter.queue.poll();
+                        limiter.inFlight++;
+                        // Let the next waiter check whether another slot is free
+                        limiter.notifyAll();
+                        recordWait(teamTag, effectivePriority, System.nanoTime() - enqueuedAt);
+                        return new Permit(limiter);
+                    }
+
+                    long waitMillis = Duration.between(Instant.now(), effectiveDeadline).toMillis();
+                    if (waitMillis <= 0) {
+                        limiter.queue.remove(waiter);
+                        limiter.notifyAll();
+                        throw reject(limiter, teamTag, effectivePriority, "timeout", "deadline passed while queued");
+                    }
+                    limiter.wait(waitMillis);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                limiter.queue.remove(waiter);
+                limiter.notifyAll();
+                throw reject(limiter, teamTag, effectivePriority, "interrupted", "interrupted while queued");
+            }
+        }
+    }
+
+    private KeyLimiter createLimiter(String keyFingerprint) {
+        KeyLimiter limiter = new KeyLimiter(appConfig.getAiLimiterMaxConcurrent());
+        Gauge.builder("ai.limiter.in.flight", limiter, l -> l.inFlight)
+                .tag("key", keyFingerprint)
+                .description("LLM calls currently running on an API key")
+                .register(meterRegistry);
+        Gauge.builder("ai.limiter.queue.depth", limiter, l -> l.queue.size())
+                .tag("key", keyFingerprint)
+                .description("LLM calls waiting for a slot on an API key")
+                .register(meterRegistry);
+        log.info("Created LLM concurrency limiter for key {} (max {} concurrent)",
+                keyFingerprint, limiter.maxConcurrent);
+        return limiter;
+    }
+
+    private IntegrationException reject(KeyLimiter limiter, String team, Priority priority,
+                                        String reason, String detail) {
+        Counter.builder("ai.limiter.rejected")
+                .tag("team", team)
+                .tag("priority", priority.name())
+                .tag("reason", reason)
+                .description("LLM calls rejected by the concurrency limiter")
+                .register(meterRegistry)
+                .increment();
+        log.warn("LLM call rejected for team {} ({}): {}", team, priority, detail);
+        return new IntegrationException("AI", "LLM call rejected: " + detail, true);
+    }
+
+    private void recordWait(String team, Priority priority, long waitNanos) {
+        Timer.builder("ai.limiter.queue.wait")
+                .tag("team", team)
+                .tag("priority", priority.name())
+                .description("Time LLM calls spent waiting for a concurrency slot")
+                .register(meterRegistry)
+                .record(Duration.ofNanos(waitNanos));
+    }
+
+    /**
+     * Short, non-reversible identifier for an API key (safe for logs and metric tags)
+     */
+    private String fingerprint(String apiKey) {
+        if (apiKey == null || apiKey.isEmpty()) {
+            return "none";
+        }
+        return FingerprintUtil.fingerprint(apiKey);
+    }
+
+    /**
+     * Slot held for the duration of one LLM call
+     */
+    public static class Permit implements AutoCloseable {
+        private final KeyLimiter limiter;
+        private final long startNanos = System.nanoTime();
+        private boolean released;
+
+        private Permit(KeyLimiter limiter) {
+            this.limiter = limiter;
+        }
+
+        @Override
+        public void close() {
+            if (limiter == null || released) {
+                return;
+            }
+            released = true;
+            long elapsedMillis = (System.nanoTime() - startNanos) / 1_000_000;
+            synchronized (limiter) {
+                limiter.inFlight--;
+                // Exponentially weighted average of call time, used for deadline estimates
+                limiter.avgCallMillis = limiter.avgCallMillis * 0.8 + elapsedMillis * 0.2;
+                limiter.notifyAll();
+            }
+        }
+    }
+
+    private static class KeyLimiter {
+        private final int maxConcurrent;
+        private final PriorityQueue<Waiter> queue = new PriorityQueue<>(
+                Comparator.comparingInt((Waiter w) -> w.priority.ordinal()).thenComparingLong(w -> w.sequence));
+        private int inFlight;
+        private long sequence;
+        private double avgCallMillis = 2000;
+
+        KeyLimiter(int maxConcurrent) {
+            this.maxConcurrent = Math.max(1, maxConcurrent);
+        }
+    }
+
+    private static class Waiter {
+        private final Priority priority;
+        private final long sequence;
+
+        Waiter(Priority priority, long sequence) {
+            this.priority = priority;
+            this.sequence = sequence;
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package com.devsync.standupbot.service;
+
+import com.devsync.standupbot.config.AppConfig;
+import com.devsync.standupbot.config.IntegrationWebClients;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Client for server-sent token streams from OpenAI and Gemini
+ * Emits the text fragments of a completion as they arrive. Base URLs come from configuration
+ * so the same code runs against a local SSE stub.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class LlmStreamingClient {
+
+    private static final ParameterizedTypeReference<ServerSentEvent<String>> SSE_TYPE =
+            new ParameterizedTypeReference<>() {};
+    private static final Duration STREAM_TIMEOUT = Duration.ofSeconds(30);
+
+    private final AppConfig appConfig;
+    private final IntegrationWebClients webClients;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * Stream an OpenAI chat completion (stream=true), emitting each delta's content
+     */
+    public Flux<String> streamOpenAi(String systemPrompt, String userPrompt, String apiKey, String model) {
+        List<Map<String, String>> messages = new ArrayList<>();
+        if (systemPrompt != null) {
+            messages.add(Map.of("role", "system", "content", systemPrompt));
+        }
+        messages.add(Map.of("role", "user", "content", userPrompt));
+
+        Map<String, Object> body = new HashMap<>();
+        body.put("model", model);
+        body.put("messages", messages);
+        body.put("max_tokens", appConfig.getOpenaiMaxTokens());
+        body.put("temperature", 0.7);
+        body.put("stream", true);
+
+        return webClients.forBaseUrl(appConfig.getOpenaiBaseUrl())
+                .post()
+                .uri("/chat/completions")
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + apiKey)
+                .contentType(MediaType.APPLICATION_JSON)
+                .accept(MediaType.TEXT_EVENT_STREAM)
+                .bodyValue(body)
+                .retrieve()
+                .bodyToFlux(SSE_TYPE)
+                .map(event -> event.data() != null ? event.data() : "")
+                .takeWhile(data -> !"[DONE]".equals(data.trim()))
+                .map(data -> extractText(data, "/choices/0/delta/content"))
+                .filter(text -> !text.isEmpty())
+                .timeout(STREAM_TIMEOUT);
+    }
+
+    /**
+     * Stream a Gemini streamGenerateContent response (alt=sse), emitting each candidate's text
+     */
+    public Flux<String> streamGemini(String prompt, String apiKey, String model) {
+        Map<String, Object> body = Map.of(
+                "contents", List.of(Map.of("parts", List.of(Map.of("text", prompt)))));
+
+        return webClients.forBaseUrl(appConfig.getGeminiBaseUrl())
+                .post()
+                .uri(uriBuilder -> uriBuilder
+                        .path("/models/{model}:streamGenerateContent")
+                        .queryParam("alt", "sse")
+                        .queryParam("key", apiKey)
+                        .build(model))
+                .contentType(MediaType.APPLICATION_JSON)
+                .accept(MediaType.TEXT_EVENT_STREAM)
+                .bodyValue(body)
+                .retrieve()
+                .bodyToFlux(SSE_TYPE)
+                .map(event -> event.data() != null ? event.data() : "")
+                .map(data -> extractText(data, "/candidates/0/content/parts/0/text"))
+                .filter(text -> !text.isEmpty())
+                .timeout(STREAM_TIMEOUT);
+    }
+
+    private String extractText(String data, String pointer) {
+        if (data.isBlank()) {
+            return "";
+        }
+        try {
+            JsonNode node = objectMapper.readTree(data).at(pointer);
+            return node.isMissingNode() || node.isNull() ? "" : node.asText();
+        } catch (Exception e) {
+            log.debug("Skipping unparseable stream event: {}", e.getMessage());
+            return "";
+        }
+    }
+}
@@ -0,0 +1,280 @@
+package com.devsync.standupbot.service;
+
+import com.devsync.standupbot.dto.LlmCompletion;
+import com.devsync.standupbot.dto.SummaryRequest;
+import com.devsync.standupbot.exception.IntegrationException;
+import com.devsync.standupbot.util.StandupTextUtil;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * In-process extractive summarizer that builds a standup summary without calling an LLM
+ * Ranks the sentences of each answer (action verbs, ticket keys, overlap with commit and Jira
+ * context), detects blockers by keyword and appends commit and Jira context. Used for short
+ * standups (see SummaryRoutingPolicy), for teams whose model is "local", and as the fallback
+ * when no provider is reachable.
+ */
+@Component
+@Order(Ordered.LOWEST_PRECEDENCE)
+public class LocalSummaryProvider implements SummaryProvider {
+
+    private static final int MAX_SENTENCES = 3;
+    private static final int MAX_SENTENCE_CHARS = 160;
+    private static final int MAX_JIRA_TASKS = 3;
+
+    private static final Pattern SENTENCE_SPLIT = Pattern.compile("(?<=[.!?])\\s+|\\s*\\n+\\s*|;\\s*");
+    private static final Pattern LIST_MARKER = Pattern.compile("^([\\-•*]|\\d+[.)])\\s*");
+    private static final Pattern WORD = Pattern.compile("[^a-z0-9]+");
+    private static final Pattern TICKET_KEY = Pattern.compile("\\b[A-Z][A-Z0-9]+-\\d+\\b");
+    private static final Pattern ACTION_VERB = Pattern.compile(
+            "\\b(fix(ed|ing)?|implement(ed|ing)?|add(ed|ing)?|ship(ped|ping)?|merg(ed|ing)|deploy(ed|ing)?|"
+            + "releas(ed|ing)|review(ed|ing)?|refactor(ed|ing)?|complet(ed|ing)|finish(ed|ing)?|built|building|"
+            + "migrat(ed|ing)|test(ed|ing)|debug(ged|ging)?|design(ed|ing)|investigat(ed|ing)|resolv(ed|ing))\\b",
+            Pattern.CASE_INSENSITIVE);
+    private static final Pattern BLOCKER_KEYWORD = Pattern.compile(
+            "\\b(blocked|blocker|blocking|stuck|waiting (on|for)|depends on|dependent on|can't|cannot|"
+            + "unable to|need(s)? help|need(s)? access|pending approval)\\b",
+            Pattern.CASE_INSENSITIVE);
+    private static final Pattern MERGE_COMMIT = Pattern.compile("^merge (pull request|branch|remote-tracking branch)\\b.*",
+            Pattern.CASE_INSENSITIVE);
+
+    @Override
+    public String name() {
+        return "local";
+    }
+
+    @Override
+    public boolean acceptsKey(String apiKey) {
+        return true;
+    }
+
+    @Override
+    public boolean supportsModel(String model) {
+        return model != null && model.startsWith("local");
+    }
+
+    @Override
+    public String defaultModel() {
+        return "local";
+    }
+
+    @Override
+    public boolean isRemote() {
+        return false;
+    }
+
+    @Override
+    public LlmCompletion summarize(SummaryRequest request, String apiKey, String model) {
+        String text = buildSummary(request);
+        return LlmCompletion.builder()
+                .text(text)
+                .completionTokens(PromptBuilder.estimateTokens(text))
+                .estimatedUsage(true)
+                .build();
+    }
+
+    @Override
+    public Flux<String> streamSummary(SummaryRequest request, String apiKey, String model) {
+        return Flux.just(summarize(request, apiKey, model).getText());
+    }
+
+    @Override
+    public LlmCompletion complete(String systemPrompt, String prompt, String apiKey, String model) {
+        throw new IntegrationException("AI", "local provider does not support free-form prompts", false);
+    }
+
+    /**
+     * Sentences of a free-text answer, with list markers removed
+     */
+    static List<String> sentences(String text) {
+        List<String> sentences = new ArrayList<>();
+        if (text == null || text.isBlank()) {
+            return sentences;
+        }
+        for (String part : SENTENCE_SPLIT.split(text.trim())) {
+            String sentence = LIST_MARKER.matcher(part.trim()).replaceFirst("").trim();
+            if (!sentence.isEmpty()) {
+                sentences.add(sentence);
+            }
+        }
+        return sentences;
+    }
+
+    private String buildSummary(SummaryRequest request) {
+        Set<String> contextTerms = contextTerms(request);
+        StringBuilder summary = new StringBuilder();
+        summary.append("📋 **Daily Standup Summary**\n\n");
+
+        summary.append("✅ **Completed Yesterday:**\n");
+        appendBullets(summary, topSentences(request.getYesterdayWork(), contextTerms));
+        summary.append("\n");
+
+        summary.append("🎯 **Plan for Today:**\n");
+        appendBullets(summary, topSentences(request.getTodayPlan(), contextTerms));
+        summary.append("\n");
+
+        if (StandupTextUtil.hasBlockers(request.getBlockers())) {
+            summary.append("⚠️ **Blockers:**\n");
+            appendBullets(summary, topSentences(request.getBlockers(), contextTerms));
+        } else {
+            List<String> implied = new ArrayList<>();
+            implied.addAll(blockerSentences(request.getYesterdayWork()));
+            implied.addAll(blockerSentences(request.getTodayPlan()));
+            if (implied.isEmpty()) {
+                summary.append("✨ **No blockers reported**\n");
+            } else {
+                summary.append("⚠️ **Possible blockers:**\n");
+                appendBullets(summary, implied.stream().limit(MAX_SENTENCES).toList());
+            }
+        }
+
+        String activity = commitActivity(request.getGithubCommits());
+        List<String> tasks = request.getJiraTasks() != null ? request.getJiraTasks() : List.of();
+        if (activity != null || !tasks.isEmpty()) {
+            summary.append("\n");
+        }
+        if (activity != null) {
+            summary.append("🔧 **Activity:** ").append(activity).append("\n");
+        }
+        if (!tasks.isEmpty()) {
+            summary.append("🎫 **Jira:** ")
+                    .append(tasks.stream().limit(MAX_JIRA_TASKS).map(this::clip).collect(Collectors.joining("; ")));
+            if (tasks.size() > MAX_JIRA_TASKS) {
+                summary.append(" (+").append(tasks.size() - MAX_JIRA_TASKS).append(" more)");
+            }
+            summary.append("\n");
+        }
+
+        return summary.toString();
+    }
+
+    /**
+     * Highest-scoring sentences of an answer, kept in their original order
+     */
+    private List<String> topSentences(String text, Set<String> contextTerms) {
+        List<String> sentences = sentences(text);
+        if (sentences.size() <= MAX_SENTENCES) {
+            return sentences.stream().map(this::clip).toList();
+        }
+        double[] scores = sentences.stream().mapToDouble(sentence -> score(sentence, contextTerms)).toArray();
+        return IntStream.range(0, sentences.size())
+                .boxed()
+                .sorted(Comparator.comparingDouble((Integer i) -> -scores[i]).thenComparingInt(i -> i))
+                .limit(MAX_SENTENCES)
+                .sorted()
+                .map(i -> clip(sentences.get(i)))
+                .toList();
+    }
+
+    private double score(String sentence, Set<String> contextTerms) {
+        double score = 0;
+        if (ACTION_VERB.matcher(sentence).find()) {
+            score += 2;
+        }
+        if (TICKET_KEY.matcher(sentence).find()) {
+            score += 1.5;
+        }
+        if (BLOCKER_KEYWORD.matcher(sentence).find()) {
+            score += 1;
+        }
+        List<String> words = words(sentence);
+        long overlap = words.stream().filter(contextTerms::contains).count();
+        score += Math.min(3, overlap * 0.5);
+        if (words.size() < 3 || words.size() > 40) {
+            score -= 1;
+        }
+        return score;
+    }
+
+    private List<String> blockerSentences(String text) {
+        return sentences(text).stream()
+                .filter(sentence -> BLOCKER_KEYWORD.matcher(sentence).find())
+                .map(this::clip)
+                .toList();
+    }
+
+    /**
+     * Words from commit messages and Jira tasks, used to favour sentences about tracked work
+     */
+    private Set<String> contextTerms(SummaryRequest request) {
+        Set<String> terms = new HashSet<>();
+        List<String> context = new ArrayList<>();
+        if (request.getGithubCommits() != null) {
+            context.addAll(request.getGithubCommits());
+        }
+        if (request.getJiraTasks() != null) {
+            context.addAll(request.getJiraTasks());
+        }
+        for (String item : context) {
+            words(item).stream().filter(word -> word.length() > 3).forEach(terms::add);
+        }
+        return terms;
+    }
+
+    /**
+     * "5 commits in org/api (3), org/web (2)", skipping merge commits
+     */
+    private String commitActivity(List<String> commits) {
+        if (commits == null || commits.isEmpty()) {
+            return null;
+        }
+        Map<String, Integer> perRepo = new LinkedHashMap<>();
+        int total = 0;
+        for (String commit : commits) {
+            if (commit == null) {
+                continue;
+            }
+            int separator = commit.indexOf(": ");
+            String message = separator > 0 ? commit.substring(separator + 2) : commit;
+            if (MERGE_COMMIT.matcher(message.trim()).matches()) {
+                continue;
+            }
+            String repo = separator > 0 ? commit.substring(0, separator) : "other";
+            perRepo.merge(repo, 1, Integer::sum);
+            total++;
+        }
+        if (total == 0) {
+            return null;
+        }
+        String repos = perRepo.entrySet().stream()
+                .map(entry -> entry.getKey() + " (" + entry.getValue() + ")")
+                .collect(Collectors.joining(", "));
+        return total + (total == 1 ? " commit" : " commits") + " in " + repos;
+    }
+
+    private void appendBullets(StringBuilder summary, List<String> sentences) {
+        if (sentences.isEmpty()) {
+            summary.append("• _No information provided_\n");
+            return;
+        }
+        sentences.forEach(sentence -> summary.append("• ").append(sentence).append("\n"));
+    }
+
+    private List<String> words(String text) {
+        List<String> words = new ArrayList<>();
+        for (String word : WORD.split(text.toLowerCase(Locale.ROOT))) {
+            if (!word.isEmpty()) {
+                words.add(word);
+            }
+        }
+        return words;
+    }
+
+    private String clip(String text) {
+        return text.length() <= MAX_SENTENCE_CHARS ? text : text.substring(0, MAX_SENTENCE_CHARS) + "…";
+    }
+}
@@ -0,0 +1,127 @@
+package com.devsync.standupbot.service;
+
+import com.devsync.standupbot.config.AppConfig;
+import com.devsync.standupbot.dto.LlmCompletion;
+import com.devsync.standupbot.dto.SummaryRequest;
+import com.theokanning.openai.client.OpenAiApi;
+import com.theokanning.openai.completion.chat.ChatCompletionRequest;
+import com.theokanning.openai.completion.chat.ChatCompletionResult;
+import com.theokanning.openai.completion.chat.ChatMessage;
+import com.theokanning.openai.service.OpenAiService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import okhttp3.OkHttpClient;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import retrofit2.Retrofit;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Summary provider backed by OpenAI chat completions
+ */
+@Component
+@Order(1)
+@RequiredArgsConstructor
+@Slf4j
+public class OpenAiSummaryProvider implements SummaryProvider {
+
+    private static final Duration PROVIDER_TIMEOUT = Duration.ofSeconds(30);
+
+    private final AppConfig appConfig;
+    private final PromptBuilder promptBuilder;
+    private final LlmStreamingClient streamingClient;
+
+    @Override
+    public String name() {
+        return "openai";
+    }
+
+    @Override
+    public boolean acceptsKey(String apiKey) {
+        return apiKey != null && !apiKey.isBlank() && !apiKey.startsWith("AIza")
+                && !apiKey.equals("YOUR_OPENAI_API_KEY");
+    }
+
+    @Override
+    public boolean supportsModel(String model) {
+        return model != null && (model.startsWith("gpt-") || model.startsWith("o1") || model.startsWith("o3"));
+    }
+
+    @Override
+    public String defaultModel() {
+        return appConfig.getOpenaiModel() != null ? appConfig.getOpenaiModel() : "gpt-4";
+    }
+
+    @Override
+    public String cheapModel() {
+        return appConfig.getAiBudgetCheapOpenaiModel();
+    }
+
+    @Override
+    public LlmCompletion summarize(SummaryRequest request, String apiKey, String model) {
+        log.info("Generating AI summary for standup using OpenAI");
+        String prompt = promptBuilder.buildStandupPrompt(request, PromptBuilder.Style.MARKDOWN);
+        return complete(SUMMARY_SYSTEM_PROMPT, prompt, apiKey, model);
+    }
+
+    @Override
+    public Flux<String> streamSummary(SummaryRequest request, String apiKey, String model) {
+        String prompt = promptBuilder.buildStandupPrompt(request, PromptBuilder.Style.MARKDOWN);
+        return streamingClient.streamOpenAi(SUMMARY_SYSTEM_PROMPT, prompt, apiKey, model);
+    }
+
+    @Override
+    public LlmCompletion complete(String systemPrompt, String prompt, String apiKey, String model) {
+        OpenAiService service = openAiService(apiKey);
+        try {
+            List<ChatMessage> messages = new ArrayList<>();
+            if (systemPrompt != null) {
+                messages.add(new ChatMessage("system", systemPrompt));
+            }
+            messages.add(new ChatMessage("user", prompt));
+
+            ChatCompletionRequest completionRequest = ChatCompletionRequest.builder()
+                    .model(model)
+                    .messages(messages)
+                    .maxTokens(appConfig.getOpenaiMaxTokens())
+                    .temperature(0.7)
+                    .build();
+
+            ChatCompletionResult result = service.createChatCompletion(completionRequest);
+            String text = result.getChoices().get(0).getMessage().getContent();
+            if (result.getUsage() == null) {
+                return LlmCompletion.builder()
+                        .text(text)
+                        .promptTokens(PromptBuilder.estimateTokens(systemPrompt) + PromptBuilder.estimateTokens(prompt))
+                        .completionTokens(PromptBuilder.estimateTokens(text))
+                        .estimatedUsage(true)
+                        .build();
+            }
+            return LlmCompletion.builder()
+                    .text(text)
+                    .promptTokens(result.getUsage().getPromptTokens())
+                    .completionTokens(result.getUsage().getCompletionTokens())
+                    .build();
+        } finally {
+            service.shutdownExecutor();
+        }
+    }
+
+    /**
+     * OpenAI client bound to openai.base.url (the library default is always api.openai.com)
+     * The client's endpoint paths are absolute (/v1/...), so only scheme, host and port are taken from it.
+     */
+    private OpenAiService openAiService(String apiKey) {
+        OkHttpClient client = OpenAiService.defaultClient(apiKey, PROVIDER_TIMEOUT);
+        String baseUrl = appConfig.getOpenaiBaseUrl();
+        Retrofit retrofit = OpenAiService.defaultRetrofit(client, OpenAiService.defaultObjectMapper())
+                .newBuilder()
+                .baseUrl(baseUrl.endsWith("/") ? baseUrl : baseUrl + "/")
+                .build();
+        return new OpenAiService(retrofit.create(OpenAiApi.class), client.dispatcher().executorService());
+    }
+}
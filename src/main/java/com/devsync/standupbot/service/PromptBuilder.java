@@ -0,0 +1,306 @@
+package com.devsync.standupbot.service;
+
+import com.devsync.standupbot.config.AppConfig;
+import com.devsync.standupbot.dto.SummaryRequest;
+import com.devsync.standupbot.util.StandupTextUtil;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * Builds token-budgeted standup prompts shared by every AI provider
+ * Commits are grouped by repository with merge commits and repeated messages dropped, and the
+ * commit, Jira and calendar context is trimmed (round-robin, so no section starves the others)
+ * to fit the team's input budget. The standup answers themselves are always kept.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class PromptBuilder {
+
+    private static final String INTRO =
+            "Generate a concise, professional standup summary based on the following information:\n\n";
+    private static final String INSTRUCTIONS =
+            "Create a brief, engaging summary in 3-5 bullet points that highlights key accomplishments, "
+            + "plans, and any blockers. Use emojis where appropriate to make it more readable.";
+    private static final Pattern MERGE_COMMIT = Pattern.compile(
+            "^merge (pull request|branch|remote-tracking branch|tag|commit|'|\").*",
+            Pattern.CASE_INSENSITIVE);
+    private static final Pattern TRAILING_PR_NUMBER = Pattern.compile("\\s*\\(#\\d+\\)$");
+
+    private final AppConfig appConfig;
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * Prompt layout: markdown headings (OpenAI) or plain labels (Gemini)
+     */
+    public enum Style {
+        MARKDOWN,
+        PLAIN
+    }
+
+    /**
+     * Build the standup prompt for a request, trimmed to its input budget
+     */
+    public String buildStandupPrompt(SummaryRequest request, Style style) {
+        long start = System.nanoTime();
+        int maxFieldChars = appConfig.getAiPromptMaxFieldChars();
+
+        StringBuilder fixed = new StringBuilder(INTRO);
+        appendField(fixed, style, "What I did yesterday", truncate(request.getYesterdayWork(), maxFieldChars));
+        appendField(fixed, style, "What I plan to do today", truncate(request.getTodayPlan(), maxFieldChars));
+        if (StandupTextUtil.hasBlockers(request.getBlockers())) {
+            appendField(fixed, style, "Blockers", truncate(request.getBlockers(), maxFieldChars));
+        }
+
+        List<Section> sections = List.of(
+                new Section("commits", "Recent GitHub commits", groupCommits(request.getGithubCommits())),
+                new Section("jira", "Active Jira tasks", singleGroup(request.getJiraTasks())),
+                new Section("calendar", "Upcoming meetings", singleGroup(request.getCalendarEvents())));
+
+        int budget = request.getMaxInputTokens() != null
+                ? request.getMaxInputTokens() : appConfig.getAiPromptMaxInputTokens();
+        int remaining = budget - estimateTokens(fixed.toString()) - estimateTokens(INSTRUCTIONS);
+        selectWithinBudget(sections, remaining);
+
+        StringBuilder prompt = fixed;
+        for (Section section : sections) {
+            appendSection(prompt, style, section);
+        }
+        prompt.append(INSTRUCTIONS);
+
+        String result = prompt.toString();
+        recordMetrics(style, result, sections, System.nanoTime() - start);
+        return result;
+    }
+
+    /**
+     * Rough token estimate: ~4 ASCII characters per token, one token per other character (emoji, CJK)
+     */
+    public static int estimateTokens(String text) {
+        if (text == null || text.isEmpty()) {
+            return 0;
+        }
+        int ascii = 0;
+        int other = 0;
+        for (int i = 0; i < text.length(); i++) {
+            if (text.charAt(i) < 128) {
+                ascii++;
+            } else {
+                other++;
+            }
+        }
+        return (ascii + 3) / 4 + other;
+    }
+
+    /**
+     * Group "repo: message" commits by repository, keeping the first line of each message and
+     * dropping merge commits and messages already seen in the same repository
+     */
+    private Map<String, List<String>> groupCommits(List<String> commits) {
+        Map<String, List<String>> byRepo = new LinkedHashMap<>();
+        if (commits == null) {
+            return byRepo;
+        }
+
+        Set<String> seen = new HashSet<>();
+        for (String commit : commits) {
+            if (commit == null || commit.isBlank()) {
+                continue;
+            }
+            int separator = commit.indexOf(": ");
+            String repo = separator > 0 ? commit.substring(0, separator).trim() : "";
+            String message = (separator > 0 ? commit.substring(separator + 2) : commit).trim();
+            int newline = message.indexOf('\n');
+            if (newline >= 0) {
+                message = message.substring(0, newline).trim();
+            }
+
+            if (message.isEmpty() || MERGE_COMMIT.matcher(message).matches()) {
+                continue;
+            }
+            String normalized = TRAILING_PR_NUMBER.matcher(message).replaceFirst("")
+                    .replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
+            if (seen.add(repo + "\u0000" + normalized)) {
+                byRepo.computeIfAbsent(repo, r -> new ArrayList<>()).add(message);
+            }
+        }
+        return byRepo;
+    }
+
+    private Map<String, List<String>> singleGroup(List<String> items) {
+        Map<String, List<String>> group = new LinkedHashMap<>();
+        if (items == null) {
+            return group;
+        }
+        Set<String> seen = new HashSet<>();
+        for (String item : items) {
+            if (item != null && !item.isBlank() && seen.add(item.trim().toLowerCase(Locale.ROOT))) {
+                group.computeIfAbsent("", g -> new ArrayList<>()).add(item.trim());
+            }
+        }
+        return group;
+    }
+
+    /**
+     * Take one item from each section in turn while it still fits the remaining token budget
+     */
+    private void selectWithinBudget(List<Section> sections, int remaining) {
+        boolean progress = true;
+        while (progress) {
+            progress = false;
+            for (Section section : sections) {
+                Item next = section.nextCandidate();
+                if (next == null) {
+                    continue;
+                }
+                int cost = estimateTokens(next.text) + 1;
+                if (section.selectedCount() == 0) {
+                    cost += estimateTokens(section.title) + 2;
+                }
+                if (!section.hasSelected(next.group)) {
+                    cost += estimateTokens(next.group) + 1;
+                }
+                if (cost > remaining) {
+                    section.exhausted = true;
+                    continue;
+                }
+                section.select(next);
+                remaining -= cost;
+                progress = true;
+            }
+        }
+    }
+
+    private void appendField(StringBuilder prompt, Style style, String label, String value) {
+        if (style == Style.MARKDOWN) {
+            prompt.append("**").append(label).append(":**\n").append(value).append("\n\n");
+        } else {
+            prompt.append(label).append(": ").append(value).append("\n\n");
+        }
+    }
+
+    private void appendSection(StringBuilder prompt, Style style, Section section) {
+        if (section.selectedCount() == 0) {
+            return;
+        }
+        prompt.append(style == Style.MARKDOWN ? "**" + section.title + ":**" : section.title + ":").append("\n");
+        section.selected.forEach((group, items) -> {
+            prompt.append("- ");
+            if (!group.isEmpty()) {
+                prompt.append(group).append(": ");
+            }
+            prompt.append(String.join("; ", items)).append("\n");
+        });
+        if (section.droppedCount() > 0) {
+            prompt.append("- (").append(section.droppedCount()).append(" more omitted)\n");
+        }
+        prompt.append("\n");
+    }
+
+    private void recordMetrics(Style style, String prompt, List<Section> sections, long buildNanos) {
+        String styleTag = style.name().toLowerCase(Locale.ROOT);
+        DistributionSummary.builder("ai.prompt.size")
+                .baseUnit("characters")
+                .tag("style", styleTag)
+                .description("Size of standup prompts sent to AI providers")
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(prompt.length());
+        DistributionSummary.builder("ai.prompt.tokens")
+                .baseUnit("tokens")
+                .tag("style", styleTag)
+                .description("Estimated input tokens of standup prompts")
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(estimateTokens(prompt));
+        Timer.builder("ai.prompt.build")
+                .tag("style", styleTag)
+                .description("Time spent assembling standup prompts")
+                .register(meterRegistry)
+                .record(Duration.ofNanos(buildNanos));
+
+        for (Section section : sections) {
+            if (section.droppedCount() > 0) {
+                Counter.builder("ai.prompt.trimmed.items")
+                        .tag("section", section.name)
+                        .description("Context items dropped to fit the prompt token budget")
+                        .register(meterRegistry)
+                        .increment(section.droppedCount());
+                log.debug("Prompt budget dropped {} {} item(s)", section.droppedCount(), section.name);
+            }
+        }
+    }
+
+    private String truncate(String text, int maxChars) {
+        if (text == null) {
+            return "";
+        }
+        return text.length() <= maxChars ? text : text.substring(0, maxChars) + "…";
+    }
+
+    private static class Item {
+        private final String group;
+        private final String text;
+
+        Item(String group, String text) {
+            this.group = group;
+            this.text = text;
+        }
+    }
+
+    /**
+     * One context section: all candidate items in order, and the ones that fit the budget
+     */
+    private static class Section {
+        private final String name;
+        private final String title;
+        private final List<Item> candidates = new ArrayList<>();
+        private final Map<String, List<String>> selected = new LinkedHashMap<>();
+        private int position;
+        private int selectedCount;
+        private boolean exhausted;
+
+        Section(String name, String title, Map<String, List<String>> groups) {
+            this.name = name;
+            this.title = title;
+            groups.forEach((group, items) -> items.forEach(item -> candidates.add(new Item(group, item))));
+        }
+
+        Item nextCandidate() {
+            return exhausted || position >= candidates.size() ? null : candidates.get(position);
+        }
+
+        boolean hasSelected(String group) {
+            return selected.containsKey(group);
+        }
+
+        void select(Item item) {
+            selected.computeIfAbsent(item.group, g -> new ArrayList<>()).add(item.text);
+            selectedCount++;
+            position++;
+        }
+
+        int selectedCount() {
+            return selectedCount;
+        }
+
+        int droppedCount() {
+            return candidates.size() - selectedCount;
+        }
+    }
+}
@@ -0,0 +1,210 @@
+package com.devsync.standupbot.service;
+
+import com.devsync.standupbot.config.AppConfig;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Per-provider circuit breaker for LLM calls
+ * Trips when the share of failed or slow calls in a sliding window crosses the configured rate,
+ * rejects calls while open, and lets a single trial call through once the open period ends.
+ * Also keeps recent latencies so callers can hedge at the provider's p95.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ProviderCircuitBreaker {
+
+    private static final int LATENCY_SAMPLES = 100;
+    private static final int MIN_LATENCY_SAMPLES = 20;
+
+    private final AppConfig appConfig;
+    private final MeterRegistry meterRegistry;
+
+    private final Map<String, Breaker> breakers = new ConcurrentHashMap<>();
+
+    public enum State {
+        CLOSED,
+        OPEN,
+        HALF_OPEN
+    }
+
+    /**
+     * Whether a call to the provider may proceed right now
+     */
+    public boolean allowRequest(String provider) {
+        Breaker breaker = breaker(provider);
+        synchronized (breaker) {
+            switch (breaker.state) {
+                case CLOSED:
+                    return true;
+                case OPEN:
+                    if (System.currentTimeMillis() - breaker.openedAt >= appConfig.getAiBreakerOpenMs()) {
+                        transition(provider, breaker, State.HALF_OPEN);
+                        breaker.trialInFlight = true;
+                        breaker.trialStartedAt = System.currentTimeMillis();
+                        return true;
+                    }
+                    return false;
+                case HALF_OPEN:
+                default:
+                    // A trial that never reported back (e.g. rejected by the limiter) is replaced after one open period
+                    boolean trialStale = System.currentTimeMillis() - breaker.trialStartedAt >= appConfig.getAiBreakerOpenMs();
+                    if (!breaker.trialInFlight || trialStale) {
+                        breaker.trialInFlight = true;
+                        breaker.trialStartedAt = System.currentTimeMillis();
+                        return true;
+                    }
+                    return false;
+            }
+        }
+    }
+
+    /**
+     * Record a successful call and its latency (slow calls count against the breaker)
+     */
+    public void recordSuccess(String provider, long latencyMillis) {
+        record(provider, latencyMillis, latencyMillis >= appConfig.getAiBreakerSlowCallMs());
+    }
+
+    /**
+     * Record a failed call
+     */
+    public void recordFailure(String provider, long latencyMillis) {
+        record(provider, latencyMillis, true);
+    }
+
+    /**
+     * Current state of a provider's breaker
+     */
+    public State getState(String provider) {
+        Breaker breaker = breaker(provider);
+        synchronized (breaker) {
+            return breaker.state;
+        }
+    }
+
+    /**
+     * 95th percentile latency of recent calls, or -1 if there are too few samples
+     */
+    public long p95Millis(String provider) {
+        Breaker breaker = breaker(provider);
+        synchronized (breaker) {
+            int samples = Math.min(breaker.latencyCount, LATENCY_SAMPLES);
+            if (samples < MIN_LATENCY_SAMPLES) {
+                return -1;
+            }
+            long[] sorted = Arrays.copyOf(breaker.latencies, samples);
+            Arrays.sort(sorted);
+            return sorted[(int) Math.ceil(samples * 0.95) - 1];
+        }
+    }
+
+    /**
+     * State of every breaker, for the actuator endpoint
+     */
+    public Map<String, Map<String, Object>> snapshot() {
+        Map<String, Map<String, Object>> result = new TreeMap<>();
+        breakers.forEach((provider, breaker) -> {
+            Map<String, Object> details = new LinkedHashMap<>();
+            synchronized (breaker) {
+                int calls = Math.min(breaker.outcomeCount, breaker.outcomes.length);
+                details.put("state", breaker.state.name());
+                details.put("windowCalls", calls);
+                details.put("failureRate", calls == 0 ? 0.0 : badCalls(breaker) / (double) calls);
+                details.put("openedAt", breaker.openedAt > 0 ? Instant.ofEpochMilli(breaker.openedAt).toString() : null);
+            }
+            details.put("p95Millis", p95Millis(provider));
+            result.put(provider, details);
+        });
+        return result;
+    }
+
+    private void record(String provider, long latencyMillis, boolean bad) {
+        Breaker breaker = breaker(provider);
+        synchronized (breaker) {
+            breaker.latencies[breaker.latencyCount % LATENCY_SAMPLES] = latencyMillis;
+            breaker.latencyCount++;
+
+            if (breaker.state == State.HALF_OPEN) {
+                breaker.trialInFlight = false;
+                if (bad) {
+                    breaker.openedAt = System.currentTimeMillis();
+                    transition(provider, breaker, State.OPEN);
+                } else {
+                    breaker.outcomeCount = 0;
+                    transition(provider, breaker, State.CLOSED);
+                }
+                return;
+            }
+
+            breaker.outcomes[breaker.outcomeCount % breaker.outcomes.length] = bad;
+            breaker.outcomeCount++;
+
+            int calls = Math.min(breaker.outcomeCount, breaker.outcomes.length);
+            if (breaker.state == State.CLOSED && calls >= appConfig.getAiBreakerMinCalls()) {
+                double failureRate = badCalls(breaker) / (double) calls;
+                if (failureRate >= appConfig.getAiBreakerFailureRate()) {
+                    breaker.openedAt = System.currentTimeMillis();
+                    transition(provider, breaker, State.OPEN);
+                    log.warn("Circuit breaker for {} opened: {}% of last {} calls failed or were slow",
+                            provider, Math.round(failureRate * 100), calls);
+                }
+            }
+        }
+    }
+
+    private int badCalls(Breaker breaker) {
+        int calls = Math.min(breaker.outcomeCount, breaker.outcomes.length);
+        int bad = 0;
+        for (int i = 0; i < calls; i++) {
+            if (breaker.outcomes[i]) {
+                bad++;
+            }
+        }
+        return bad;
+    }
+
+    private void transition(String provider, Breaker breaker, State state) {
+        if (breaker.state != state) {
+            log.info("Circuit breaker for {}: {} -> {}", provider, breaker.state, state);
+            breaker.state = state;
+        }
+    }
+
+    private Breaker breaker(String provider) {
+        return breakers.computeIfAbsent(provider, name -> {
+            Breaker breaker = new Breaker(appConfig.getAiBreakerWindowSize());
+            Gauge.builder("ai.provider.breaker.state", breaker, b -> b.state.ordinal())
+                    .tag("provider", name)
+                    .description("Circuit breaker state (0=closed, 1=open, 2=half-open)")
+                    .register(meterRegistry);
+            return breaker;
+        });
+    }
+
+    private static class Breaker {
+        private final boolean[] outcomes;
+        private final long[] latencies = new long[LATENCY_SAMPLES];
+        private int outcomeCount;
+        private int latencyCount;
+        private State state = State.CLOSED;
+        private long openedAt;
+        private boolean trialInFlight;
+        private long trialStartedAt;
+
+        Breaker(int windowSize) {
+            this.outcomes = new boolean[Math.max(1, windowSize)];
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package com.devsync.standupbot.service;
+
+import com.devsync.standupbot.dto.LlmCompletion;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Latency, token usage and error metrics per summary provider and model
+ * Lets providers be compared under the same load.
+ */
+@Component
+@RequiredArgsConstructor
+public class ProviderMetrics {
+
+    private final MeterRegistry meterRegistry;
+
+    public void recordSuccess(String provider, String model, long elapsedNanos, LlmCompletion completion) {
+        latency(provider, model, "success").record(Duration.ofNanos(elapsedNanos));
+        String source = completion.isEstimatedUsage() ? "estimated" : "reported";
+        tokens(provider, model, "prompt", source, completion.getPromptTokens());
+        tokens(provider, model, "completion", source, completion.getCompletionTokens());
+    }
+
+    public void recordFailure(String provider, String model, long elapsedNanos, Throwable error) {
+        latency(provider, model, "failure").record(Duration.ofNanos(elapsedNanos));
+        Counter.builder("ai.provider.errors")
+                .tag("provider", provider)
+                .tag("model", model)
+                .tag("reason", reason(error))
+                .description("Failed summary provider calls")
+                .register(meterRegistry)
+                .increment();
+    }
+
+    private Timer latency(String provider, String model, String outcome) {
+        return Timer.builder("ai.provider.latency")
+                .tag("provider", provider)
+                .tag("model", model)
+                .tag("outcome", outcome)
+                .description("Summary provider call latency")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    private void tokens(String provider, String model, String type, String source, long count) {
+        if (count <= 0) {
+            return;
+        }
+        Counter.builder("ai.provider.tokens")
+                .tag("provider", provider)
+                .tag("model", model)
+                .tag("type", type)
+                .tag("source", source)
+                .description("Tokens consumed by summary provider calls")
+                .register(meterRegistry)
+                .increment(count);
+    }
+
+    private String reason(Throwable error) {
+        String message = error.getMessage() != null ? error.getMessage() : "";
+        if (message.contains("429") || message.toLowerCase().contains("rate limit")) {
+            return "rate_limited";
+        }
+        if (error instanceof TimeoutException || message.toLowerCase().contains("timeout")
+                || message.toLowerCase().contains("timed out")) {
+            return "timeout";
+        }
+        return error.getClass().getSimpleName();
+    }
+}
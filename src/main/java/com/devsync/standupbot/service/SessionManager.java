@@ -8,6 +8,7 @@ import org.springframework.stereotype.Service;
 import java.time.LocalDateTime;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Future;
 
 /**
  * Manages user sessions for multi-step conversations
@@ -88,6 +89,7 @@ public class SessionManager {
     public void resetSession(String zohoUserId) {
         UserSession session = sessions.get(zohoUserId);
         if (session != null) {
+            cancelPendingWork(session);
             session.reset();
             log.info("Session reset for user: {}", zohoUserId);
         }
@@ -97,7 +99,10 @@ public class SessionManager {
      * Clear session completely
      */
     public void clearSession(String zohoUserId) {
-        sessions.remove(zohoUserId);
+        UserSession session = sessions.remove(zohoUserId);
+        if (session != null) {
+            cancelPendingWork(session);
+        }
         log.info("Session cleared for user: {}", zohoUserId);
     }
     
@@ -137,6 +142,7 @@ public class SessionManager {
             UserSession session = entry.getValue();
             if (session.getLastActivity().plusMinutes(SESSION_TIMEOUT_MINUTES).isBefore(now)) {
                 sessions.remove(entry.getKey());
+                cancelPendingWork(session);
                 removed++;
                 log.info("Expired session removed for user: {}", entry.getKey());
             }
@@ -146,4 +152,19 @@ public class SessionManager {
             log.info("Cleaned up {} expired sessions", removed);
         }
     }
+    
+    /**
+     * Cancel background work (e.g. a speculative AI summary) still running for a session being discarded
+     */
+    private void cancelPendingWork(UserSession session) {
+        if (session.getData() == null) {
+            return;
+        }
+        for (Object value : session.getData().values()) {
+            if (value instanceof Future<?> future && !future.isDone()) {
+                future.cancel(true);
+                log.debug("Cancelled pending work of session for user: {}", session.getZohoUserId());
+            }
+        }
+    }
 }
@@ -0,0 +1,150 @@
+package com.devsync.standupbot.service;
+
+import com.devsync.standupbot.config.AppConfig;
+import com.devsync.standupbot.dto.SummaryRequest;
+import com.devsync.standupbot.util.StandupTextUtil;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.regex.Pattern;
+
+/**
+ * Service for standup summaries generated speculatively while the user answers the blockers question
+ * The summary is started with no blockers as soon as today's plan is known. If the user then reports
+ * no blockers the speculative text is used as is; otherwise the blockers are patched into it locally
+ * instead of making a second LLM call.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class SpeculativeSummaryService {
+
+    // A line that says only "no blockers" (bullets, emoji and markdown aside); lines with other words are kept
+    private static final Pattern NO_BLOCKERS_LINE = Pattern.compile(
+            "(?im)^[^\\p{L}\\p{N}\\n]*(no blockers( reported)?|blockers?[^\\p{L}\\p{N}\\n]*(none|n/a))"
+                    + "[^\\p{L}\\p{N}\\n]*(\\n|$)");
+
+    private final AppConfig appConfig;
+    private final AIService aiService;
+    private final MeterRegistry meterRegistry;
+
+    private ExecutorService executor;
+
+    @PostConstruct
+    void init() {
+        // Speculation is optional: when every thread and queue slot is taken, start() skips it
+        int maxConcurrent = appConfig.getAiSummarySpeculativeMaxConcurrent();
+        ThreadPoolExecutor pool = new ThreadPoolExecutor(maxConcurrent, maxConcurrent, 60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(maxConcurrent), runnable -> {
+                    Thread thread = new Thread(runnable, "ai-speculative");
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        pool.allowCoreThreadTimeOut(true);
+        executor = pool;
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    public boolean isEnabled() {
+        return Boolean.TRUE.equals(appConfig.getAiSummarySpeculativeEnabled());
+    }
+
+    /**
+     * Start summarizing a standup whose blockers are not known yet
+     * Returns null when the speculative pool is full; cancelling the future interrupts the summary.
+     */
+    public Future<String> start(SummaryRequest request) {
+        request.setBlockers(null);
+        log.debug("Starting speculative AI summary for team {}", request.getTeamId());
+        try {
+            return executor.submit(() -> aiService.generateStandupSummary(request));
+        } catch (RejectedExecutionException e) {
+            log.debug("Speculative AI summary pool is full, skipping speculation");
+            record("skipped");
+            return null;
+        }
+    }
+
+    /**
+     * Final summary from a speculative run, or empty when it failed or did not finish in time
+     */
+    public Optional<String> resolve(Future<String> speculation, String blockers) {
+        String summary;
+        try {
+            summary = speculation.get(appConfig.getAiSummarySpeculativeWaitSeconds(), TimeUnit.SECONDS);
+        } catch (TimeoutException e) {
+            log.warn("Speculative AI summary did not finish in time, generating a fresh one");
+            speculation.cancel(true);
+            record("timed_out");
+            return Optional.empty();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return Optional.empty();
+        } catch (CancellationException e) {
+            return Optional.empty();
+        } catch (ExecutionException e) {
+            log.warn("Speculative AI summary failed: {}", e.getCause().getMessage());
+            record("failed");
+            return Optional.empty();
+        }
+
+        if (!StandupTextUtil.hasBlockers(blockers)) {
+            record("used");
+            return Optional.of(summary);
+        }
+        record("patched");
+        return Optional.of(withBlockers(summary, blockers));
+    }
+
+    /**
+     * Record the time from the blockers answer to a ready summary, tagged by how it was produced
+     */
+    public void recordSubmitLatency(String path, long startNanos) {
+        Timer.builder("ai.summary.submit.latency")
+                .tag("path", path)
+                .description("Time from standup submit to AI summary (speculative, patched or fresh)")
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Swap the "no blockers" line of a summary for the reported blockers
+     */
+    private String withBlockers(String summary, String blockers) {
+        StringBuilder patched = new StringBuilder(NO_BLOCKERS_LINE.matcher(summary).replaceAll("").stripTrailing());
+        patched.append("\n\n⚠️ **Blockers:**\n");
+        List<String> sentences = LocalSummaryProvider.sentences(blockers);
+        sentences.forEach(sentence -> patched.append("• ").append(sentence).append("\n"));
+        return patched.toString();
+    }
+
+    private void record(String outcome) {
+        Counter.builder("ai.summary.speculative")
+                .tag("outcome", outcome)
+                .description("Speculative standup summaries by outcome (used, patched, timed_out, failed, skipped)")
+                .register(meterRegistry)
+                .increment();
+    }
+}
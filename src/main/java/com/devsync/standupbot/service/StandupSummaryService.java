@@ -0,0 +1,141 @@
+package com.devsync.standupbot.service;
+
+import com.devsync.standupbot.config.AppConfig;
+import com.devsync.standupbot.dto.SummaryRequest;
+import com.devsync.standupbot.model.Standup;
+import com.devsync.standupbot.model.Team;
+import com.devsync.standupbot.repository.StandupRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Service for standup AI summaries that are generated on first view
+ * In lazy mode a standup is saved without a summary; the first viewer triggers generation and the
+ * result is memoized on the row. Concurrent viewers of the same standup share one in-flight call.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class StandupSummaryService {
+
+    private final AppConfig appConfig;
+    private final AIService aiService;
+    private final StandupRepository standupRepository;
+    private final MeterRegistry meterRegistry;
+
+    private final Map<Long, CompletableFuture<String>> inFlight = new ConcurrentHashMap<>();
+
+    /**
+     * Whether summaries are deferred until someone views them
+     */
+    public boolean isLazy() {
+        return Boolean.TRUE.equals(appConfig.getAiSummaryLazyEnabled());
+    }
+
+    /**
+     * Summary inputs for a standup row, using its team's provider settings
+     */
+    public SummaryRequest toSummaryRequest(Standup standup, LlmConcurrencyLimiter.Priority priority) {
+        Team team = standup.getUser().getTeam();
+        return SummaryRequest.builder()
+                .yesterdayWork(standup.getYesterdayWork())
+                .todayPlan(standup.getTodayPlan())
+                .blockers(standup.getBlockers())
+                .githubCommits(lines(standup.getGithubCommits()))
+                .jiraTasks(lines(standup.getJiraTasks()))
+                .calendarEvents(lines(standup.getCalendarEvents()))
+                .apiKey(team != null ? team.getOpenaiApiKey() : null)
+                .model(team != null ? team.getOpenaiModel() : null)
+                .teamId(team != null ? team.getId() : null)
+                .maxInputTokens(team != null ? team.getAiInputTokenBudget() : null)
+                .priority(priority)
+                .build();
+    }
+
+    /**
+     * Return the standup's summary, generating and memoizing it on first request
+     */
+    public String getSummary(Standup standup) {
+        if (standup.getAiSummary() != null) {
+            record("memoized");
+            return standup.getAiSummary();
+        }
+
+        CompletableFuture<String> generation = new CompletableFuture<>();
+        CompletableFuture<String> existing = inFlight.putIfAbsent(standup.getId(), generation);
+        if (existing != null) {
+            record("joined");
+            return await(standup, existing);
+        }
+
+        try {
+            // Another viewer may have finished between our entity load and taking the slot
+            Optional<String> stored = standupRepository.findAiSummaryById(standup.getId());
+            String summary = stored.isPresent() ? stored.get() : generateAndStore(standup);
+            generation.complete(summary);
+            standup.setAiSummary(summary);
+            return summary;
+        } catch (RuntimeException e) {
+            generation.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(standup.getId(), generation);
+        }
+    }
+
+    private String generateAndStore(Standup standup) {
+        record("generated");
+        log.info("Generating on-view AI summary for standup {}", standup.getId());
+        String summary = aiService.generateStandupSummary(
+                toSummaryRequest(standup, LlmConcurrencyLimiter.Priority.INTERACTIVE));
+
+        if (standupRepository.memoizeSummary(standup.getId(), summary, AIService.isFallbackSummary(summary)) == 0) {
+            // Lost the race to another instance; keep the stored summary so every viewer sees the same text
+            return standupRepository.findAiSummaryById(standup.getId()).orElse(summary);
+        }
+        return summary;
+    }
+
+    private String await(Standup standup, CompletableFuture<String> generation) {
+        try {
+            String summary = generation.get(appConfig.getAiSummaryLazyWaitSeconds(), TimeUnit.SECONDS);
+            standup.setAiSummary(summary);
+            return summary;
+        } catch (TimeoutException e) {
+            return "⏳ The AI summary is still being generated. Please try again in a moment.";
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for AI summary", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("AI summary generation failed: " + e.getCause().getMessage(), e.getCause());
+        }
+    }
+
+    private void record(String result) {
+        Counter.builder("ai.summary.lazy.requests")
+                .tag("result", result)
+                .description("On-view summary requests by outcome (memoized, generated, joined)")
+                .register(meterRegistry)
+                .increment();
+    }
+
+    private List<String> lines(String text) {
+        if (text == null || text.isBlank()) {
+            return List.of();
+        }
+        return Arrays.stream(text.split("\n")).filter(line -> !line.isBlank()).toList();
+    }
+}
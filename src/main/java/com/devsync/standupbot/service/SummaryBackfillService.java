@@ -0,0 +1,211 @@
+package com.devsync.standupbot.service;
+
+import com.devsync.standupbot.config.AppConfig;
+import com.devsync.standupbot.model.BackfillCheckpoint;
+import com.devsync.standupbot.model.Standup;
+import com.devsync.standupbot.repository.BackfillCheckpointRepository;
+import com.devsync.standupbot.repository.StandupRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Service regenerating standup summaries that were saved from the fallback path
+ * Walks flagged rows in id order in batches, paced to ai.backfill.rate.per.minute at backfill
+ * priority, and checkpoints the last handled id so a restart resumes where it stopped.
+ * Scheduled runs go to a dedicated thread, so the hours-long paced loop never holds a scheduler thread.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class SummaryBackfillService {
+
+    static final String JOB_NAME = "standup-ai-summary";
+
+    // Consecutive fallbacks usually mean the provider is down; stop instead of burning the window
+    private static final int MAX_CONSECUTIVE_FAILURES = 5;
+
+    private final AppConfig appConfig;
+    private final AIService aiService;
+    private final StandupSummaryService standupSummaryService;
+    private final StandupRepository standupRepository;
+    private final BackfillCheckpointRepository checkpointRepository;
+    private final MeterRegistry meterRegistry;
+
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    private ExecutorService executor;
+
+    @PostConstruct
+    void init() {
+        executor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "summary-backfill");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * Start a backfill run on the backfill thread and return at once
+     */
+    public void startBackfill(Duration window) {
+        executor.execute(() -> {
+            try {
+                runBackfill(window);
+            } catch (Exception e) {
+                log.error("Error during AI summary backfill: {}", e.getMessage(), e);
+            }
+        });
+    }
+
+    /**
+     * Regenerate fallback summaries until none are left or the window closes
+     *
+     * @return number of summaries replaced in this run
+     */
+    public int runBackfill(Duration window) {
+        if (!running.compareAndSet(false, true)) {
+            log.info("Summary backfill already running, skipping");
+            return 0;
+        }
+        try {
+            return backfill(System.nanoTime() + window.toNanos());
+        } finally {
+            running.set(false);
+        }
+    }
+
+    private int backfill(long deadlineNanos) {
+        BackfillCheckpoint checkpoint = checkpointRepository.findById(JOB_NAME)
+                .orElseGet(() -> BackfillCheckpoint.builder()
+                        .jobName(JOB_NAME)
+                        .lastId(0L)
+                        .processedCount(0L)
+                        .failedCount(0L)
+                        .legacyScanDone(false)
+                        .build());
+
+        if (!Boolean.TRUE.equals(checkpoint.getLegacyScanDone())) {
+            int flagged = standupRepository.flagLegacyFallbackSummaries(
+                    AIService.FALLBACK_NOTE, AIService.LEGACY_FALLBACK_NOTE);
+            log.info("Flagged {} fallback summaries written before the backfill flag existed", flagged);
+            checkpoint.setLegacyScanDone(true);
+            checkpoint = checkpointRepository.save(checkpoint);
+        }
+
+        log.info("Summary backfill starting after standup {} ({} fallback summaries pending)",
+                checkpoint.getLastId(), standupRepository.countByAiSummaryFallbackTrue());
+
+        int batchSize = appConfig.getAiBackfillBatchSize();
+        long intervalNanos = TimeUnit.MINUTES.toNanos(1) / Math.max(1, appConfig.getAiBackfillRatePerMinute());
+        long nextCallAt = System.nanoTime();
+        int replaced = 0;
+        int consecutiveFailures = 0;
+
+        while (System.nanoTime() < deadlineNanos) {
+            List<Long> ids = standupRepository.findFallbackSummaryIds(checkpoint.getLastId(), PageRequest.of(0, batchSize));
+            if (ids.isEmpty()) {
+                // End of the pass; rows that failed again are retried from the start next window
+                checkpoint.setLastId(0L);
+                checkpointRepository.save(checkpoint);
+                log.info("Summary backfill pass complete");
+                break;
+            }
+
+            for (Standup standup : standupRepository.findWithTeamByIdIn(ids)) {
+                if (System.nanoTime() >= deadlineNanos) {
+                    log.info("Summary backfill window closed at standup {}", checkpoint.getLastId());
+                    return replaced;
+                }
+                if (!pace(nextCallAt)) {
+                    return replaced;
+                }
+                nextCallAt = System.nanoTime() + intervalNanos;
+
+                boolean success = regenerate(standup);
+                checkpoint.setLastId(standup.getId());
+                if (success) {
+                    replaced++;
+                    consecutiveFailures = 0;
+                    checkpoint.setProcessedCount(checkpoint.getProcessedCount() + 1);
+                } else {
+                    consecutiveFailures++;
+                    checkpoint.setFailedCount(checkpoint.getFailedCount() + 1);
+                }
+                checkpoint = checkpointRepository.save(checkpoint);
+
+                if (consecutiveFailures >= MAX_CONSECUTIVE_FAILURES) {
+                    log.warn("Summary backfill stopping after {} consecutive failures at standup {}",
+                            consecutiveFailures, standup.getId());
+                    return replaced;
+                }
+            }
+        }
+        log.info("Summary backfill replaced {} summaries", replaced);
+        return replaced;
+    }
+
+    /**
+     * Regenerate one summary with a remote provider; false if none was available again
+     */
+    private boolean regenerate(Standup standup) {
+        try {
+            // Only LLM text replaces a fallback; short standups would otherwise be routed back to the local summarizer
+            Optional<String> summary = aiService.generateRemoteSummary(
+                    standupSummaryService.toSummaryRequest(standup, LlmConcurrencyLimiter.Priority.BACKFILL));
+            if (summary.isEmpty()) {
+                record("failed");
+                return false;
+            }
+            record(standupRepository.replaceFallbackSummary(standup.getId(), summary.get()) > 0 ? "replaced" : "skipped");
+            return true;
+        } catch (Exception e) {
+            log.warn("Summary backfill failed for standup {}: {}", standup.getId(), e.getMessage());
+            record("failed");
+            return false;
+        }
+    }
+
+    /**
+     * Wait until the next call is allowed by the rate limit; false if interrupted
+     */
+    private boolean pace(long nextCallAt) {
+        long waitNanos = nextCallAt - System.nanoTime();
+        if (waitNanos <= 0) {
+            return true;
+        }
+        try {
+            TimeUnit.NANOSECONDS.sleep(waitNanos);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private void record(String result) {
+        Counter.builder("ai.backfill.summaries")
+                .tag("result", result)
+                .description("Backfilled standup summaries by result (replaced, skipped, failed)")
+                .register(meterRegistry)
+                .increment();
+    }
+}
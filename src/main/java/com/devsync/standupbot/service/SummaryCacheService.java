@@ -0,0 +1,274 @@
+package com.devsync.standupbot.service;
+
+import com.devsync.standupbot.config.AppConfig;
+import com.devsync.standupbot.model.AiSummaryCacheEntry;
+import com.devsync.standupbot.repository.AiSummaryCacheRepository;
+import com.devsync.standupbot.util.StandupTextUtil;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Content-addressed cache for AI standup summaries
+ * Summaries are keyed by a SHA-256 of the normalized prompt inputs plus the model, held in a
+ * bounded in-memory LRU and backed by the ai_summary_cache table. A hit skips the LLM call.
+ */
+@Service
+@Slf4j
+public class SummaryCacheService {
+
+    private final AppConfig appConfig;
+    private final AiSummaryCacheRepository cacheRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    private final Map<String, CachedSummary> memoryCache;
+
+    private final Counter memoryHits;
+    private final Counter persistentHits;
+    private final Counter misses;
+    private final Counter savedCalls;
+    private final Timer savedLatency;
+
+    public SummaryCacheService(AppConfig appConfig, AiSummaryCacheRepository cacheRepository,
+                               PlatformTransactionManager transactionManager, MeterRegistry meterRegistry) {
+        this.appConfig = appConfig;
+        this.cacheRepository = cacheRepository;
+
+        // Cache writes run in their own transaction so a failure never rolls back the caller's standup save
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+
+        int maxEntries = appConfig.getAiCacheMaxEntries() != null ? appConfig.getAiCacheMaxEntries() : 1000;
+        this.memoryCache = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CachedSummary> eldest) {
+                return size() > maxEntries;
+            }
+        };
+
+        this.memoryHits = Counter.builder("ai.summary.cache.requests")
+                .tag("result", "hit").tag("tier", "memory")
+                .description("AI summary cache lookups")
+                .register(meterRegistry);
+        this.persistentHits = Counter.builder("ai.summary.cache.requests")
+                .tag("result", "hit").tag("tier", "database")
+                .description("AI summary cache lookups")
+                .register(meterRegistry);
+        this.misses = Counter.builder("ai.summary.cache.requests")
+                .tag("result", "miss").tag("tier", "none")
+                .description("AI summary cache lookups")
+                .register(meterRegistry);
+        this.savedCalls = Counter.builder("ai.summary.cache.saved.calls")
+                .description("LLM calls skipped because of a cache hit")
+                .register(meterRegistry);
+        this.savedLatency = Timer.builder("ai.summary.cache.saved.latency")
+                .description("Original generation latency avoided by cache hits")
+                .register(meterRegistry);
+
+        Gauge.builder("ai.summary.cache.hit.ratio", this, SummaryCacheService::getHitRatio)
+                .description("Fraction of AI summary lookups served from cache")
+                .register(meterRegistry);
+        Gauge.builder("ai.summary.cache.size", this, cache -> cache.memorySize())
+                .description("Entries held in the in-memory summary cache")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Build the content-addressed cache key for a set of summary inputs
+     */
+    public String buildKey(String yesterdayWork, String todayPlan, String blockers,
+                           List<String> githubCommits, List<String> jiraTasks,
+                           List<String> calendarEvents, String model) {
+        StringBuilder material = new StringBuilder();
+        material.append("model=").append(normalize(model)).append('\u0000');
+        material.append("yesterday=").append(normalize(yesterdayWork)).append('\u0000');
+        material.append("today=").append(normalize(todayPlan)).append('\u0000');
+        material.append("blockers=").append(normalizeBlockers(blockers)).append('\u0000');
+        appendList(material, "commits", githubCommits);
+        appendList(material, "jira", jiraTasks);
+        appendList(material, "calendar", calendarEvents);
+
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(material.toString().getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    /**
+     * Look up a cached summary, checking memory first and then the persistent table
+     */
+    public Optional<String> lookup(String cacheKey) {
+        if (!Boolean.TRUE.equals(appConfig.getAiCacheEnabled())) {
+            return Optional.empty();
+        }
+
+        CachedSummary cached;
+        synchronized (memoryCache) {
+            cached = memoryCache.get(cacheKey);
+        }
+        if (cached != null) {
+            memoryHits.increment();
+            recordSaving(cached.generationMillis);
+            log.debug("AI summary cache hit (memory) for key {}", cacheKey);
+            return Optional.of(cached.summary);
+        }
+
+        if (Boolean.TRUE.equals(appConfig.getAiCachePersistentEnabled())) {
+            try {
+                Optional<AiSummaryCacheEntry> entry = cacheRepository.findByCacheKey(cacheKey);
+                if (entry.isPresent()) {
+                    AiSummaryCacheEntry hit = entry.get();
+                    long generationMillis = hit.getGenerationMillis() != null ? hit.getGenerationMillis() : 0L;
+                    putInMemory(cacheKey, new CachedSummary(hit.getSummary(), generationMillis));
+                    transactionTemplate.executeWithoutResult(status ->
+                            cacheRepository.recordHit(cacheKey, LocalDateTime.now()));
+                    persistentHits.increment();
+                    recordSaving(generationMillis);
+                    log.debug("AI summary cache hit (database) for key {}", cacheKey);
+                    return Optional.of(hit.getSummary());
+                }
+            } catch (Exception e) {
+                log.warn("AI summary cache lookup failed, continuing without cache: {}", e.getMessage());
+            }
+        }
+
+        misses.increment();
+        return Optional.empty();
+    }
+
+    /**
+     * Store a freshly generated summary in both cache tiers
+     */
+    public void store(String cacheKey, String model, String summary, long generationMillis) {
+        if (!Boolean.TRUE.equals(appConfig.getAiCacheEnabled()) || summary == null || summary.isBlank()) {
+            return;
+        }
+
+        putInMemory(cacheKey, new CachedSummary(summary, generationMillis));
+
+        if (Boolean.TRUE.equals(appConfig.getAiCachePersistentEnabled())) {
+            try {
+                transactionTemplate.executeWithoutResult(status -> {
+                    if (cacheRepository.findByCacheKey(cacheKey).isEmpty()) {
+                        cacheRepository.save(AiSummaryCacheEntry.builder()
+                                .cacheKey(cacheKey)
+                                .model(model)
+                                .summary(summary)
+                                .generationMillis(generationMillis)
+                                .build());
+                    }
+                });
+            } catch (Exception e) {
+                // Most likely a concurrent insert of the same key - the memory tier already has it
+                log.debug("Could not persist AI summary cache entry {}: {}", cacheKey, e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Fraction of lookups served from either cache tier
+     */
+    public double getHitRatio() {
+        double hits = memoryHits.count() + persistentHits.count();
+        double total = hits + misses.count();
+        return total == 0 ? 0.0 : hits / total;
+    }
+
+    /**
+     * Purge persisted entries older than the configured TTL (runs daily at 03:00)
+     */
+    @Scheduled(cron = "0 0 3 * * *")
+    public void purgeExpiredEntries() {
+        if (!Boolean.TRUE.equals(appConfig.getAiCachePersistentEnabled())) {
+            return;
+        }
+        try {
+            LocalDateTime cutoff = LocalDateTime.now().minusDays(appConfig.getAiCacheTtlDays());
+            Integer removed = transactionTemplate.execute(status -> cacheRepository.deleteOlderThan(cutoff));
+            if (removed != null && removed > 0) {
+                log.info("Purged {} expired AI summary cache entries", removed);
+            }
+        } catch (Exception e) {
+            log.warn("Failed to purge AI summary cache: {}", e.getMessage());
+        }
+    }
+
+    private int memorySize() {
+        synchronized (memoryCache) {
+            return memoryCache.size();
+        }
+    }
+
+    private void putInMemory(String cacheKey, CachedSummary cachedSummary) {
+        synchronized (memoryCache) {
+            memoryCache.put(cacheKey, cachedSummary);
+        }
+    }
+
+    private void recordSaving(long generationMillis) {
+        savedCalls.increment();
+        if (generationMillis > 0) {
+            savedLatency.record(Duration.ofMillis(generationMillis));
+        }
+    }
+
+    private void appendList(StringBuilder material, String label, List<String> values) {
+        material.append(label).append('=');
+        if (values != null) {
+            for (String value : values) {
+                String normalized = normalize(value);
+                if (!normalized.isEmpty()) {
+                    material.append(normalized).append('\u0001');
+                }
+            }
+        }
+        material.append('\u0000');
+    }
+
+    /**
+     * Normalize free text so trivially different submissions share a key
+     */
+    private String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        return text.trim().replaceAll("\\s+", " ").toLowerCase();
+    }
+
+    private String normalizeBlockers(String blockers) {
+        return StandupTextUtil.hasBlockers(blockers) ? normalize(blockers) : "";
+    }
+
+    /**
+     * In-memory cache value
+     */
+    private static class CachedSummary {
+        private final String summary;
+        private final long generationMillis;
+
+        CachedSummary(String summary, long generationMillis) {
+            this.summary = summary;
+            this.generationMillis = generationMillis;
+        }
+    }
+}
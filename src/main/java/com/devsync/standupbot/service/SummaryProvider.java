@@ -0,0 +1,59 @@
+package com.devsync.standupbot.service;
+
+import com.devsync.standupbot.dto.LlmCompletion;
+import com.devsync.standupbot.dto.SummaryRequest;
+import reactor.core.publisher.Flux;
+
+/**
+ * Pluggable backend for standup summaries and free-form prompts
+ * Implementations are Spring beans; SummaryProviderRegistry picks one per team from the team's
+ * API key and model, so adding a faster or cheaper provider is a new bean plus configuration.
+ */
+public interface SummaryProvider {
+
+    String SUMMARY_SYSTEM_PROMPT =
+            "You are a helpful assistant that creates concise, professional standup summaries for software developers.";
+
+    /**
+     * Short provider name, used for metrics, circuit breakers and logs
+     */
+    String name();
+
+    /**
+     * Whether this provider can authenticate with the given key
+     */
+    boolean acceptsKey(String apiKey);
+
+    /**
+     * Whether the model name belongs to this provider
+     */
+    boolean supportsModel(String model);
+
+    /**
+     * Model used when the configured one belongs to another provider
+     */
+    String defaultModel();
+
+    /**
+     * Cheaper model used when a team nears its daily token budget
+     */
+    default String cheapModel() {
+        return defaultModel();
+    }
+
+    /**
+     * Whether calls leave the process (remote calls go through the limiter and circuit breaker)
+     */
+    default boolean isRemote() {
+        return true;
+    }
+
+    LlmCompletion summarize(SummaryRequest request, String apiKey, String model);
+
+    /**
+     * Stream a standup summary as text fragments
+     */
+    Flux<String> streamSummary(SummaryRequest request, String apiKey, String model);
+
+    LlmCompletion complete(String systemPrompt, String prompt, String apiKey, String model);
+}
@@ -0,0 +1,59 @@
+package com.devsync.standupbot.service;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Chooses the summary provider and model for an API key / model pair (typically a team's
+ * openaiApiKey and openaiModel)
+ * A model that names a provider wins when that provider accepts the key; otherwise the first
+ * provider (in @Order) that accepts the key is used with its default model.
+ */
+@Component
+@RequiredArgsConstructor
+public class SummaryProviderRegistry {
+
+    private final List<SummaryProvider> providers;
+
+    public Selection select(String apiKey, String model) {
+        for (SummaryProvider provider : providers) {
+            if (provider.supportsModel(model) && provider.acceptsKey(apiKey)) {
+                return new Selection(provider, model);
+            }
+        }
+        for (SummaryProvider provider : providers) {
+            if (provider.acceptsKey(apiKey)) {
+                return new Selection(provider, provider.defaultModel());
+            }
+        }
+        return new Selection(local(), "local");
+    }
+
+    /**
+     * The in-process provider used as the last resort
+     */
+    public SummaryProvider local() {
+        return providers.stream()
+                .filter(provider -> !provider.isRemote())
+                .findFirst()
+                .orElseThrow(() -> new IllegalStateException("No local summary provider registered"));
+    }
+
+    public List<String> providerNames() {
+        return providers.stream().map(SummaryProvider::name).toList();
+    }
+
+    /**
+     * A provider together with the model to call it with
+     */
+    @Getter
+    @AllArgsConstructor
+    public static class Selection {
+        private final SummaryProvider provider;
+        private final String model;
+    }
+}
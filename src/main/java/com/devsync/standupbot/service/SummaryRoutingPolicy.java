@@ -0,0 +1,50 @@
+package com.devsync.standupbot.service;
+
+import com.devsync.standupbot.config.AppConfig;
+import com.devsync.standupbot.dto.SummaryRequest;
+import com.devsync.standupbot.util.StandupTextUtil;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * Decides whether a standup is small enough to summarize locally instead of calling an LLM
+ * Short, simple answers (below ai.local.max.chars and ai.local.max.sentences) gain little from
+ * an LLM round trip, so the LLM is reserved for longer entries.
+ */
+@Component
+@RequiredArgsConstructor
+public class SummaryRoutingPolicy {
+
+    private final AppConfig appConfig;
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * Whether the request should be handled by the local summarizer
+     */
+    public boolean preferLocal(SummaryRequest request) {
+        boolean local = Boolean.TRUE.equals(appConfig.getAiLocalRoutingEnabled()) && isSimple(request);
+        Counter.builder("ai.summary.route")
+                .tag("route", local ? "local" : "llm")
+                .description("Standup summaries by routing decision")
+                .register(meterRegistry)
+                .increment();
+        return local;
+    }
+
+    private boolean isSimple(SummaryRequest request) {
+        int chars = length(request.getYesterdayWork()) + length(request.getTodayPlan());
+        int sentences = LocalSummaryProvider.sentences(request.getYesterdayWork()).size()
+                + LocalSummaryProvider.sentences(request.getTodayPlan()).size();
+        if (StandupTextUtil.hasBlockers(request.getBlockers())) {
+            chars += length(request.getBlockers());
+            sentences += LocalSummaryProvider.sentences(request.getBlockers()).size();
+        }
+        return chars <= appConfig.getAiLocalMaxChars() && sentences <= appConfig.getAiLocalMaxSentences();
+    }
+
+    private int length(String text) {
+        return text != null ? text.trim().length() : 0;
+    }
+}
@@ -0,0 +1,17 @@
+package com.devsync.standupbot.service;
+
+/**
+ * Destination for a summary that is shown while it is being generated
+ */
+public interface SummaryStream {
+
+    /**
+     * Show the text generated so far (the whole text, not just the newest part)
+     */
+    void update(String textSoFar);
+
+    /**
+     * Show the final summary in place of any partial text
+     */
+    void complete(String summary);
+}
@@ -0,0 +1,210 @@
+package com.devsync.standupbot.service;
+
+import com.devsync.standupbot.config.AppConfig;
+import com.devsync.standupbot.dto.LlmCompletion;
+import com.devsync.standupbot.model.Team;
+import com.devsync.standupbot.repository.TeamRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Per-team LLM budgets: daily token usage and per-request latency
+ * A team past ai.budget.cheap.threshold of its daily tokens is stepped down to its provider's
+ * cheaper model, and to the local summarizer once the budget is spent. A provider whose recent
+ * p95 latency exceeds the team's latency budget is stepped down one more level. Usage is kept
+ * in memory per instance and resets at midnight.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class TeamAiBudgetService {
+
+    private static final Duration LIMITS_TTL = Duration.ofMinutes(1);
+
+    public enum Level {
+        FULL,
+        CHEAP,
+        LOCAL
+    }
+
+    private final AppConfig appConfig;
+    private final TeamRepository teamRepository;
+    private final ProviderCircuitBreaker circuitBreaker;
+    private final MeterRegistry meterRegistry;
+
+    private final Map<Long, TeamUsage> usage = new ConcurrentHashMap<>();
+
+    /**
+     * Service level for a team's next call to the given provider
+     */
+    public Level levelFor(Long teamId, String provider) {
+        if (teamId == null) {
+            return Level.FULL;
+        }
+        TeamUsage team = usage(teamId);
+        Level level = tokenLevel(team);
+        String reason = "tokens";
+
+        long latencyBudget = team.latencyBudgetMillis;
+        if (level != Level.LOCAL && latencyBudget > 0 && circuitBreaker.p95Millis(provider) > latencyBudget) {
+            level = level == Level.FULL ? Level.CHEAP : Level.LOCAL;
+            reason = "latency";
+        }
+
+        if (level != Level.FULL) {
+            log.debug("Team {} AI calls degraded to {} ({})", teamId, level, reason);
+            Counter.builder("ai.team.budget.degraded")
+                    .tag("team", teamId.toString())
+                    .tag("level", level.name().toLowerCase())
+                    .tag("reason", reason)
+                    .description("AI calls served at a reduced level because of a team budget")
+                    .register(meterRegistry)
+                    .increment();
+        }
+        return level;
+    }
+
+    /**
+     * Per-request latency budget for the team in milliseconds, 0 if none
+     */
+    public long latencyBudgetMillis(Long teamId) {
+        return teamId != null ? usage(teamId).latencyBudgetMillis : 0;
+    }
+
+    /**
+     * Count a completion's prompt and completion tokens against the team's daily budget
+     */
+    public void recordUsage(Long teamId, LlmCompletion completion) {
+        if (teamId == null || completion == null) {
+            return;
+        }
+        usage(teamId).add(completion.getPromptTokens() + completion.getCompletionTokens());
+    }
+
+    /**
+     * Count a request that ran past the team's latency budget
+     */
+    public void recordLatencyBudgetExceeded(Long teamId) {
+        Counter.builder("ai.team.latency.budget.exceeded")
+                .tag("team", teamId.toString())
+                .description("AI requests answered locally because the provider exceeded the team's latency budget")
+                .register(meterRegistry)
+                .increment();
+    }
+
+    /**
+     * Budget usage of every active team
+     */
+    public List<Map<String, Object>> snapshot() {
+        return teamRepository.findByActiveTrue().stream().map(this::snapshot).toList();
+    }
+
+    /**
+     * Budget usage of one team
+     */
+    public Map<String, Object> snapshot(Team team) {
+        TeamUsage teamUsage = usage(team.getId());
+        long used = teamUsage.usedToday();
+        Map<String, Object> details = new LinkedHashMap<>();
+        details.put("teamId", team.getId());
+        details.put("teamName", team.getTeamName());
+        details.put("day", LocalDate.now().toString());
+        details.put("tokensUsed", used);
+        details.put("dailyTokenBudget", teamUsage.dailyTokenBudget > 0 ? teamUsage.dailyTokenBudget : null);
+        details.put("usedRatio", teamUsage.dailyTokenBudget > 0 ? used / (double) teamUsage.dailyTokenBudget : null);
+        details.put("level", tokenLevel(teamUsage).name());
+        details.put("latencyBudgetMillis", teamUsage.latencyBudgetMillis > 0 ? teamUsage.latencyBudgetMillis : null);
+        return details;
+    }
+
+    private Level tokenLevel(TeamUsage team) {
+        long budget = team.dailyTokenBudget;
+        if (budget <= 0) {
+            return Level.FULL;
+        }
+        double ratio = team.usedToday() / (double) budget;
+        if (ratio >= 1.0) {
+            return Level.LOCAL;
+        }
+        return ratio >= appConfig.getAiBudgetCheapThreshold() ? Level.CHEAP : Level.FULL;
+    }
+
+    private TeamUsage usage(Long teamId) {
+        TeamUsage team = usage.computeIfAbsent(teamId, this::register);
+        if (System.currentTimeMillis() - team.limitsLoadedAt > LIMITS_TTL.toMillis()) {
+            loadLimits(team);
+        }
+        return team;
+    }
+
+    private TeamUsage register(Long teamId) {
+        TeamUsage team = new TeamUsage(teamId);
+        loadLimits(team);
+        Gauge.builder("ai.team.tokens.used", team, TeamUsage::usedToday)
+                .tag("team", teamId.toString())
+                .description("LLM tokens used by the team today")
+                .register(meterRegistry);
+        Gauge.builder("ai.team.tokens.budget", team, t -> t.dailyTokenBudget)
+                .tag("team", teamId.toString())
+                .description("Daily LLM token budget of the team (0 = unlimited)")
+                .register(meterRegistry);
+        return team;
+    }
+
+    /**
+     * Team overrides from the teams table, falling back to ai.budget.* defaults
+     */
+    private void loadLimits(TeamUsage team) {
+        Team entity = teamRepository.findById(team.teamId).orElse(null);
+        Long dailyTokens = entity != null ? entity.getAiDailyTokenBudget() : null;
+        Integer latencyMillis = entity != null ? entity.getAiLatencyBudgetMs() : null;
+        team.dailyTokenBudget = dailyTokens != null ? dailyTokens : appConfig.getAiBudgetDailyTokens();
+        team.latencyBudgetMillis = latencyMillis != null ? latencyMillis : appConfig.getAiBudgetLatencyMs();
+        team.limitsLoadedAt = System.currentTimeMillis();
+    }
+
+    /**
+     * Today's token count and cached limits for one team
+     */
+    private static class TeamUsage {
+        private final Long teamId;
+        private LocalDate day = LocalDate.now();
+        private long tokens;
+        private volatile long dailyTokenBudget;
+        private volatile long latencyBudgetMillis;
+        private volatile long limitsLoadedAt;
+
+        TeamUsage(Long teamId) {
+            this.teamId = teamId;
+        }
+
+        synchronized void add(long count) {
+            rollOver();
+            tokens += count;
+        }
+
+        synchronized long usedToday() {
+            rollOver();
+            return tokens;
+        }
+
+        private void rollOver() {
+            LocalDate today = LocalDate.now();
+            if (!today.equals(day)) {
+                day = today;
+                tokens = 0;
+            }
+        }
+    }
+}
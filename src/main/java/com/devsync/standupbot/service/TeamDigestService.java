@@ -0,0 +1,313 @@
+package com.devsync.standupbot.service;
+
+import com.devsync.standupbot.config.AppConfig;
+import com.devsync.standupbot.dto.TeamDigest;
+import com.devsync.standupbot.exception.IntegrationException;
+import com.devsync.standupbot.model.Standup;
+import com.devsync.standupbot.model.Team;
+import com.devsync.standupbot.repository.StandupRepository;
+import com.devsync.standupbot.util.StandupTextUtil;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Service for team-level daily digests
+ * Loads the day's standups for a team in one query and packs them into a single token-budgeted
+ * prompt (chunked only when the team is too large), instead of one LLM call per member.
+ * The last AI digest of each team is kept and reused while the day's standups are unchanged.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class TeamDigestService {
+
+    private static final String DIGEST_SYSTEM_PROMPT =
+            "You are a helpful assistant that writes concise daily digests of a software team's standups.";
+    private static final String DIGEST_MARKER = "TEAM DIGEST:";
+    private static final String HIGHLIGHTS_MARKER = "MEMBER HIGHLIGHTS:";
+
+    private final AppConfig appConfig;
+    private final StandupRepository standupRepository;
+    private final AIService aiService;
+
+    // Team id -> last AI digest, with the standup entries it was generated from
+    private final Map<Long, CachedDigest> digestCache = new ConcurrentHashMap<>();
+
+    /**
+     * Generate the digest for a team's standups on a given date
+     * Reuses the team's cached digest for that date when no standup changed since. If a chunk's
+     * LLM call fails, the members of that and later chunks are summarized locally under a marker.
+     */
+    public TeamDigest generateDigest(Team team, LocalDate date, LlmConcurrencyLimiter.Priority priority) {
+        List<Standup> standups = standupRepository.findCompletedByTeamAndDate(team, date);
+
+        TeamDigest digest = TeamDigest.builder()
+                .teamId(team.getId())
+                .teamName(team.getTeamName())
+                .date(date)
+                .standupCount(standups.size())
+                .build();
+
+        if (standups.isEmpty()) {
+            digest.setDigest("No standups submitted.");
+            return digest;
+        }
+
+        // Highlights are keyed by user id; the labels in the prompt are unique even when names repeat
+        List<String> memberNames = memberLabels(standups);
+        Map<String, Long> membersByLabel = new LinkedHashMap<>();
+        Map<Long, String> namesById = new LinkedHashMap<>();
+        List<String> entries = new ArrayList<>();
+        for (int i = 0; i < standups.size(); i++) {
+            Long userId = standups.get(i).getUser().getId();
+            membersByLabel.put(memberNames.get(i).toLowerCase(Locale.ROOT), userId);
+            namesById.put(userId, memberNames.get(i));
+            entries.add(formatEntry(memberNames.get(i), standups.get(i)));
+        }
+
+        CachedDigest cached = digestCache.get(team.getId());
+        if (cached != null && cached.date.equals(date) && cached.entries.equals(entries)) {
+            log.debug("Serving cached digest for team {} on {}", team.getTeamName(), date);
+            return cached.digest;
+        }
+
+        List<List<String>> chunks = packChunks(entries);
+        log.info("Generating digest for team {} on {}: {} standups in {} chunk(s)",
+                team.getTeamName(), date, standups.size(), chunks.size());
+
+        List<String> digestParts = new ArrayList<>();
+        Map<Long, String> highlights = new LinkedHashMap<>();
+        boolean aiGenerated = true;
+        int llmCalls = 0;
+        int inputTokens = 0;
+
+        int summarized = 0;
+        for (List<String> chunk : chunks) {
+            String prompt = buildPrompt(team, date, chunk);
+            inputTokens += PromptBuilder.estimateTokens(prompt);
+            try {
+                llmCalls++;
+                String response = aiService.generateText(prompt, DIGEST_SYSTEM_PROMPT,
+                        team.getOpenaiApiKey(), team.getOpenaiModel(), team.getId(), priority);
+                parseResponse(response, membersByLabel, digestParts, highlights);
+                summarized += chunk.size();
+            } catch (IntegrationException e) {
+                log.warn("AI digest failed for team {}, using local digest for {} of {} standups: {}",
+                        team.getTeamName(), standups.size() - summarized, standups.size(), e.getMessage());
+                aiGenerated = false;
+                List<Standup> remaining = standups.subList(summarized, standups.size());
+                if (summarized > 0) {
+                    digestParts.add("_Summarized locally (AI unavailable): "
+                            + String.join(", ", memberNames.subList(summarized, memberNames.size())) + "_");
+                }
+                digestParts.add(buildLocalDigest(remaining));
+                break;
+            }
+        }
+
+        // Members the model did not mention (or everyone, if AI failed) get a local highlight
+        for (Standup standup : standups) {
+            highlights.putIfAbsent(standup.getUser().getId(), localHighlight(standup));
+        }
+
+        digest.setDigest(String.join("\n", digestParts).trim());
+        digest.setMemberHighlights(highlights);
+        digest.setMemberNames(namesById);
+        digest.setLlmCalls(llmCalls);
+        digest.setEstimatedInputTokens(inputTokens);
+        digest.setAiGenerated(aiGenerated);
+        digest.setLocalStandupCount(standups.size() - summarized);
+
+        // A local or partly local digest is not kept, so the next request tries the AI again
+        if (aiGenerated) {
+            digestCache.put(team.getId(), new CachedDigest(date, entries, digest));
+        }
+        return digest;
+    }
+
+    /**
+     * Render a digest as a chat message
+     */
+    public String formatDigest(TeamDigest digest) {
+        StringBuilder message = new StringBuilder();
+        message.append("📰 **Team Digest - ").append(digest.getTeamName()).append("** (")
+                .append(digest.getDate()).append(")\n\n");
+
+        if (digest.getStandupCount() == 0) {
+            message.append("No standups submitted yet.\n\nType **standup** to submit yours!");
+            return message.toString();
+        }
+
+        message.append(digest.getDigest()).append("\n\n");
+        message.append("**Member Highlights:**\n");
+        digest.getMemberHighlights().forEach((userId, highlight) ->
+                message.append("• **").append(digest.getMemberNames().get(userId)).append("**: ")
+                        .append(highlight).append("\n"));
+
+        message.append("\n_").append(digest.getStandupCount()).append(" standups");
+        if (digest.getLocalStandupCount() >= digest.getStandupCount()) {
+            message.append(" · simplified digest (AI unavailable)");
+        } else if (digest.getLocalStandupCount() > 0) {
+            message.append(" · ").append(digest.getLocalStandupCount()).append(" summarized locally (AI unavailable)");
+        }
+        message.append("_");
+        return message.toString();
+    }
+
+    /**
+     * Split member entries into chunks that each fit the per-prompt input budget
+     */
+    private List<List<String>> packChunks(List<String> entries) {
+        int budget = appConfig.getAiDigestMaxInputTokens() - PromptBuilder.estimateTokens(buildPrompt(null, null, List.of()));
+        List<List<String>> chunks = new ArrayList<>();
+        List<String> current = new ArrayList<>();
+        int currentTokens = 0;
+
+        for (String entry : entries) {
+            int tokens = PromptBuilder.estimateTokens(entry);
+            if (!current.isEmpty() && currentTokens + tokens > budget) {
+                chunks.add(current);
+                current = new ArrayList<>();
+                currentTokens = 0;
+            }
+            current.add(entry);
+            currentTokens += tokens;
+        }
+        if (!current.isEmpty()) {
+            chunks.add(current);
+        }
+        return chunks;
+    }
+
+    private String buildPrompt(Team team, LocalDate date, List<String> entries) {
+        StringBuilder prompt = new StringBuilder();
+        prompt.append("Summarize these standups");
+        if (team != null) {
+            prompt.append(" from team ").append(team.getTeamName()).append(" on ").append(date);
+        }
+        prompt.append(".\n\n");
+        entries.forEach(entry -> prompt.append(entry).append("\n"));
+        prompt.append("Respond in exactly this format:\n");
+        prompt.append(DIGEST_MARKER).append("\n");
+        prompt.append("<3-6 bullet points covering the team's progress, plans and blockers>\n");
+        prompt.append(HIGHLIGHTS_MARKER).append("\n");
+        prompt.append("<one line per member: Name: highlight>\n");
+        return prompt.toString();
+    }
+
+    /**
+     * Display name of each standup's member, numbered ("Ana (2)") when several members share a name
+     */
+    private List<String> memberLabels(List<Standup> standups) {
+        Map<String, Integer> nameCounts = new HashMap<>();
+        standups.forEach(standup -> nameCounts.merge(standup.getUser().getName(), 1, Integer::sum));
+
+        Map<String, Integer> seen = new HashMap<>();
+        List<String> labels = new ArrayList<>();
+        for (Standup standup : standups) {
+            String name = standup.getUser().getName();
+            int occurrence = seen.merge(name, 1, Integer::sum);
+            labels.add(nameCounts.get(name) > 1 ? name + " (" + occurrence + ")" : name);
+        }
+        return labels;
+    }
+
+    private String formatEntry(String memberName, Standup standup) {
+        int maxChars = appConfig.getAiDigestMaxMemberChars();
+        StringBuilder entry = new StringBuilder();
+        entry.append("### ").append(memberName).append("\n");
+        entry.append("Yesterday: ").append(truncate(standup.getYesterdayWork(), maxChars)).append("\n");
+        entry.append("Today: ").append(truncate(standup.getTodayPlan(), maxChars)).append("\n");
+        if (hasBlockers(standup)) {
+            entry.append("Blockers: ").append(truncate(standup.getBlockers(), maxChars)).append("\n");
+        }
+        return entry.toString();
+    }
+
+    /**
+     * Split the model response into the digest body and per-member highlights
+     */
+    private void parseResponse(String response, Map<String, Long> membersByLabel,
+                               List<String> digestParts, Map<Long, String> highlights) {
+        if (response == null) {
+            return;
+        }
+
+        int highlightsIndex = response.indexOf(HIGHLIGHTS_MARKER);
+        String body = highlightsIndex >= 0 ? response.substring(0, highlightsIndex) : response;
+        digestParts.add(body.replace(DIGEST_MARKER, "").trim());
+
+        if (highlightsIndex < 0) {
+            return;
+        }
+
+        for (String line : response.substring(highlightsIndex + HIGHLIGHTS_MARKER.length()).split("\n")) {
+            String cleaned = line.replaceFirst("^[\\s\\-•*]+", "").replace("**", "").trim();
+            int colon = cleaned.indexOf(':');
+            if (colon <= 0) {
+                continue;
+            }
+            String name = cleaned.substring(0, colon).trim();
+            String highlight = cleaned.substring(colon + 1).trim();
+            Long userId = membersByLabel.get(name.toLowerCase(Locale.ROOT));
+            if (userId != null) {
+                highlights.put(userId, highlight);
+            }
+        }
+    }
+
+    private String buildLocalDigest(List<Standup> standups) {
+        long blocked = standups.stream().filter(this::hasBlockers).count();
+        StringBuilder digest = new StringBuilder();
+        digest.append("• ").append(standups.size()).append(" standups submitted\n");
+        if (blocked == 0) {
+            digest.append("• ✨ No blockers reported\n");
+        } else {
+            digest.append("• ⚠️ ").append(blocked).append(" member(s) reported blockers:\n");
+            standups.stream().filter(this::hasBlockers).forEach(standup ->
+                    digest.append("  - ").append(standup.getUser().getName()).append(": ")
+                            .append(truncate(standup.getBlockers(), 200)).append("\n"));
+        }
+        return digest.toString();
+    }
+
+    private String localHighlight(Standup standup) {
+        String plan = standup.getTodayPlan() != null ? standup.getTodayPlan().trim() : "";
+        int sentenceEnd = plan.indexOf(". ");
+        String firstSentence = sentenceEnd > 0 ? plan.substring(0, sentenceEnd + 1) : plan;
+        return firstSentence.isEmpty() ? "_No plan provided_" : truncate(firstSentence, 160);
+    }
+
+    private boolean hasBlockers(Standup standup) {
+        return StandupTextUtil.hasBlockers(standup.getBlockers());
+    }
+
+    private String truncate(String text, int maxChars) {
+        if (text == null) {
+            return "";
+        }
+        return text.length() <= maxChars ? text : text.substring(0, maxChars) + "…";
+    }
+
+    private static class CachedDigest {
+        private final LocalDate date;
+        private final List<String> entries;
+        private final TeamDigest digest;
+
+        CachedDigest(LocalDate date, List<String> entries, TeamDigest digest) {
+            this.date = date;
+            this.entries = entries;
+            this.digest = digest;
+        }
+    }
+}
@@ -152,9 +152,13 @@ public class TeamService {
         team.setGithubToken(request.getGithubToken());
         team.setOpenaiApiKey(request.getOpenaiApiKey());
         team.setOpenaiModel(request.getOpenaiModel());
+        team.setAiInputTokenBudget(request.getAiInputTokenBudget());
+        team.setAiDailyTokenBudget(request.getAiDailyTokenBudget());
+        team.setAiLatencyBudgetMs(request.getAiLatencyBudgetMs());
         team.setCalendarEnabled(request.getCalendarEnabled());
         team.setReminderEnabled(request.getReminderEnabled());
         team.setReminderTime(request.getReminderTime());
+        team.setDigestEnabled(request.getDigestEnabled());
 
         return teamRepository.save(team);
     }
@@ -0,0 +1,294 @@
+package com.devsync.standupbot.service;
+
+import com.devsync.standupbot.config.AppConfig;
+import com.devsync.standupbot.config.IntegrationWebClients;
+import com.devsync.standupbot.dto.ZohoCliqMessage;
+import com.devsync.standupbot.model.Standup;
+import com.devsync.standupbot.model.Team;
+import com.devsync.standupbot.model.User;
+import com.devsync.standupbot.util.StandupTextUtil;
+import com.fasterxml.jackson.databind.JsonNode;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+import java.net.URI;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Service for Zoho Cliq integration
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ZohoCliqService {
+
+    private static final String STILL_WRITING = "\n\n_…still writing_";
+
+    private final AppConfig appConfig;
+    private final IntegrationWebClients webClients;
+
+    /** Webhooks whose posts came back without a message id, so their messages cannot be edited */
+    private final Set<String> nonEditableWebhooks = ConcurrentHashMap.newKeySet();
+
+    /**
+     * Send standup summary to Zoho Cliq channel
+     */
+    public void sendStandupSummary(User user, Standup standup) {
+        try {
+            // Skip if webhook URL not configured
+            String webhookUrl = user.getTeam() != null && user.getTeam().getZohoWebhookUrl() != null 
+                ? user.getTeam().getZohoWebhookUrl() 
+                : appConfig.getZohoCliqWebhookUrl();
+                
+            if (webhookUrl == null || webhookUrl.isEmpty()) {
+                log.debug("Zoho Cliq webhook not configured, skipping notification for user: {}", user.getName());
+                return;
+            }
+            
+            log.info("Sending standup summary to Zoho Cliq for user: {}", user.getName());
+
+            StringBuilder messageText = new StringBuilder();
+            messageText.append("🎯 **Daily Standup - ").append(user.getName()).append("**\n\n");
+            
+            if (standup.getAiSummary() != null && !standup.getAiSummary().isEmpty()) {
+                messageText.append(standup.getAiSummary());
+            } else {
+                messageText.append("**Yesterday:**\n").append(standup.getYesterdayWork()).append("\n\n");
+                messageText.append("**Today:**\n").append(standup.getTodayPlan()).append("\n\n");
+                
+                if (StandupTextUtil.hasBlockers(standup.getBlockers())) {
+                    messageText.append("**Blockers:**\n").append(standup.getBlockers());
+                }
+            }
+
+            ZohoCliqMessage message = ZohoCliqMessage.builder()
+                    .text(messageText.toString())
+                    .bot(appConfig.getZohoCliqBotName())
+                    .build();
+
+            webClients.forBaseUrl(webhookUrl).post()
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .bodyValue(message)
+                    .retrieve()
+                    .bodyToMono(String.class)
+                    .doOnSuccess(response -> log.info("Successfully sent message to Zoho Cliq"))
+                    .doOnError(error -> log.error("Error sending message to Zoho Cliq: {}", error.getMessage()))
+                    .subscribe();
+
+        } catch (Exception e) {
+            log.error("Error sending standup summary to Zoho Cliq: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Send a simple text message to Zoho Cliq
+     */
+    public void sendMessage(String text) {
+        postMessage(appConfig.getZohoCliqWebhookUrl(), text);
+    }
+
+    /**
+     * Send a text message to a team's Zoho Cliq channel (falls back to the global webhook)
+     */
+    public void sendTeamMessage(Team team, String text) {
+        String webhookUrl = team != null && team.getZohoWebhookUrl() != null
+            ? team.getZohoWebhookUrl()
+            : appConfig.getZohoCliqWebhookUrl();
+        postMessage(webhookUrl, text);
+    }
+
+    /**
+     * Open a single channel message that shows a summary while it is being generated
+     * The first text is posted with sync_message so Cliq answers with the message's id; later texts
+     * edit that message in place. Texts are sent one at a time and only the newest waiting text is
+     * sent, so a slow channel never falls behind the model. Partial text carries a "still writing"
+     * marker that the final edit removes. When the channel cannot be edited (no message id came back),
+     * the summary is posted once on completion and later streams to that webhook skip partial posts.
+     */
+    public SummaryStream openSummaryMessage(Team team, String header) {
+        String webhookUrl = team != null && team.getZohoWebhookUrl() != null
+            ? team.getZohoWebhookUrl()
+            : appConfig.getZohoCliqWebhookUrl();
+        return new LiveMessage(webhookUrl, header != null ? header : "");
+    }
+
+    private void postMessage(String webhookUrl, String text) {
+        try {
+            postMessageMono(webhookUrl, text)
+                    .doOnError(error -> log.error("Error sending message: {}", error.getMessage()))
+                    .subscribe();
+        } catch (Exception e) {
+            log.error("Error sending message to Zoho Cliq: {}", e.getMessage(), e);
+        }
+    }
+
+    private Mono<Void> postMessageMono(String webhookUrl, String text) {
+        if (webhookUrl == null || webhookUrl.isEmpty()) {
+            log.debug("Zoho Cliq webhook not configured, skipping message");
+            return Mono.empty();
+        }
+
+        ZohoCliqMessage message = ZohoCliqMessage.builder()
+                .text(text)
+                .bot(appConfig.getZohoCliqBotName())
+                .build();
+
+        return webClients.forBaseUrl(webhookUrl).post()
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(message)
+                .retrieve()
+                .bodyToMono(String.class)
+                .doOnSuccess(response -> log.info("Successfully sent message to Zoho Cliq"))
+                .then();
+    }
+
+    /**
+     * Send daily standup reminder
+     */
+    public void sendStandupReminder() {
+        String reminderText = "⏰ **Daily Standup Reminder**\n\n" +
+                "Good morning team! 👋\n\n" +
+                "Time for your daily standup! Use `/standup now` to submit your update.\n\n" +
+                "Remember to share:\n" +
+                "• What you worked on yesterday\n" +
+                "• What you're planning today\n" +
+                "• Any blockers you're facing";
+        
+        sendMessage(reminderText);
+    }
+
+    /**
+     * Edit URL for a message posted through a channel webhook, keeping the webhook's zapikey
+     */
+    private static String editUrl(String webhookUrl, JsonNode response) {
+        String messageId = response.path("message_id").asText("");
+        String chatId = response.path("chat_id").asText("");
+        if (messageId.isEmpty() || chatId.isEmpty()) {
+            return null;
+        }
+        URI webhook = URI.create(webhookUrl);
+        String query = webhook.getRawQuery() != null ? "?" + webhook.getRawQuery() : "";
+        return webhook.getScheme() + "://" + webhook.getRawAuthority()
+                + "/api/v2/chats/" + chatId + "/messages/" + messageId + query;
+    }
+
+    /**
+     * One channel message kept up to date with a streamed summary
+     */
+    private final class LiveMessage implements SummaryStream {
+
+        private final String webhookUrl;
+        private final String header;
+        private String waitingText;
+        private boolean waitingFinal;
+        private boolean sending;
+        private boolean completed;
+        private boolean posted;
+        private String editUrl;
+
+        private LiveMessage(String webhookUrl, String header) {
+            this.webhookUrl = webhookUrl;
+            this.header = header;
+        }
+
+        @Override
+        public void update(String textSoFar) {
+            if (webhookUrl == null || webhookUrl.isEmpty() || nonEditableWebhooks.contains(webhookUrl)) {
+                return;
+            }
+            offer(header + textSoFar + STILL_WRITING, false);
+        }
+
+        @Override
+        public void complete(String summary) {
+            offer(header + summary, true);
+        }
+
+        private void offer(String text, boolean last) {
+            synchronized (this) {
+                if (completed) {
+                    return;
+                }
+                completed = last;
+                waitingText = text;
+                waitingFinal = last;
+                if (sending) {
+                    return;
+                }
+                sending = true;
+            }
+            sendNext();
+        }
+
+        private void sendNext() {
+            String text;
+            boolean last;
+            synchronized (this) {
+                if (waitingText == null) {
+                    sending = false;
+                    return;
+                }
+                text = waitingText;
+                last = waitingFinal;
+                waitingText = null;
+            }
+            send(text, last)
+                    .onErrorResume(error -> {
+                        log.error("Error sending streamed summary: {}", error.getMessage());
+                        return Mono.empty();
+                    })
+                    .doFinally(signal -> sendNext())
+                    .subscribe();
+        }
+
+        private Mono<Void> send(String text, boolean last) {
+            if (!posted) {
+                posted = true;
+                return postForId(text).doOnNext(url -> editUrl = url).then();
+            }
+            if (editUrl != null) {
+                // The webhook's client is reused; the absolute edit URI overrides its base URL per request
+                return webClients.forBaseUrl(webhookUrl).put()
+                        .uri(URI.create(editUrl))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .bodyValue(Map.of("text", text))
+                        .retrieve()
+                        .bodyToMono(String.class)
+                        .then();
+            }
+            // The partial message cannot be edited: it keeps its marker and the summary follows it
+            return last ? postMessageMono(webhookUrl, text) : Mono.empty();
+        }
+
+        private Mono<String> postForId(String text) {
+            if (webhookUrl == null || webhookUrl.isEmpty()) {
+                log.debug("Zoho Cliq webhook not configured, skipping message");
+                return Mono.empty();
+            }
+            ZohoCliqMessage message = ZohoCliqMessage.builder()
+                    .text(text)
+                    .bot(appConfig.getZohoCliqBotName())
+                    .syncMessage(true)
+                    .build();
+
+            return webClients.forBaseUrl(webhookUrl).post()
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .bodyValue(message)
+                    .retrieve()
+                    .bodyToMono(JsonNode.class)
+                    .mapNotNull(response -> {
+                        String url = editUrl(webhookUrl, response);
+                        if (url == null) {
+                            log.info("Zoho Cliq webhook returned no message id, streamed summaries will be posted once");
+                            nonEditableWebhooks.add(webhookUrl);
+                        }
+                        return url;
+                    });
+        }
+    }
+}
@@ -0,0 +1,347 @@
+package com.devsync.standupbot.stub;
+
+import com.devsync.standupbot.service.PromptBuilder;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Deterministic stand-in for the OpenAI and Gemini APIs, for load tests and offline runs
+ * Serves OpenAI chat completions (/v1/chat/completions, blocking and stream=true) and Gemini
+ * generateContent / streamGenerateContent (/v1beta/models/{model}:...) with the response shapes
+ * AIService and LlmStreamingClient parse. Point openai.base.url at http://localhost:{port}/v1 and
+ * gemini.base.url at http://localhost:{port}/v1beta.
+ *
+ * Runs in-process (ai.stub.enabled=true) or standalone through {@link #main(String[])}.
+ */
+@Slf4j
+public class LlmStubServer {
+
+    private static final Pattern GEMINI_PATH =
+            Pattern.compile("^/v1beta/models/([^/:]+):(generateContent|streamGenerateContent)$");
+    private static final long MAX_LATENCY_MS = 60_000;
+    // z-score of the 99th percentile of a standard normal distribution
+    private static final double Z_99 = 2.3263;
+
+    private final LlmStubSettings settings;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final AtomicLong sequence = new AtomicLong();
+
+    private HttpServer server;
+    private ExecutorService executor;
+
+    public LlmStubServer(LlmStubSettings settings) {
+        this.settings = settings;
+    }
+
+    public synchronized void start() throws IOException {
+        server = HttpServer.create(new InetSocketAddress(settings.getPort()), 0);
+        executor = Executors.newCachedThreadPool(runnable -> {
+            Thread thread = new Thread(runnable, "llm-stub");
+            thread.setDaemon(true);
+            return thread;
+        });
+        server.setExecutor(executor);
+        server.createContext("/", this::handle);
+        server.start();
+        log.info("LLM stub listening on port {} (median {}ms, p99 {}ms, errors {}, 429s {})",
+                getPort(), settings.getLatencyMedianMs(), settings.getLatencyP99Ms(),
+                settings.getErrorRate(), settings.getRateLimitRate());
+    }
+
+    public synchronized void stop() {
+        if (server != null) {
+            server.stop(0);
+            executor.shutdownNow();
+            server = null;
+            log.info("LLM stub stopped after {} requests", sequence.get());
+        }
+    }
+
+    /**
+     * Port actually bound (useful when started with port 0)
+     */
+    public int getPort() {
+        return server != null ? server.getAddress().getPort() : settings.getPort();
+    }
+
+    /**
+     * Standalone entry point, e.g. --port=8089 --latency-median-ms=600 --error-rate=0.02
+     */
+    public static void main(String[] args) throws IOException {
+        LlmStubSettings settings = new LlmStubSettings();
+        for (String arg : args) {
+            String[] parts = arg.replaceFirst("^--", "").split("=", 2);
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("Expected --name=value, got " + arg);
+            }
+            switch (parts[0]) {
+                case "port" -> settings.setPort(Integer.parseInt(parts[1]));
+                case "latency-median-ms" -> settings.setLatencyMedianMs(Long.parseLong(parts[1]));
+                case "latency-p99-ms" -> settings.setLatencyP99Ms(Long.parseLong(parts[1]));
+                case "error-rate" -> settings.setErrorRate(Double.parseDouble(parts[1]));
+                case "rate-limit-rate" -> settings.setRateLimitRate(Double.parseDouble(parts[1]));
+                case "retry-after-seconds" -> settings.setRetryAfterSeconds(Integer.parseInt(parts[1]));
+                case "stream-chunk-chars" -> settings.setStreamChunkChars(Integer.parseInt(parts[1]));
+                case "stream-chunk-delay-ms" -> settings.setStreamChunkDelayMs(Long.parseLong(parts[1]));
+                case "seed" -> settings.setSeed(Long.parseLong(parts[1]));
+                default -> throw new IllegalArgumentException("Unknown option " + parts[0]);
+            }
+        }
+        LlmStubServer stub = new LlmStubServer(settings);
+        stub.start();
+        Runtime.getRuntime().addShutdownHook(new Thread(stub::stop));
+    }
+
+    private void handle(HttpExchange exchange) {
+        try {
+            if (!"POST".equals(exchange.getRequestMethod())) {
+                sendJson(exchange, 405, error("method not allowed", 405));
+                return;
+            }
+
+            String path = exchange.getRequestURI().getPath();
+            Matcher gemini = GEMINI_PATH.matcher(path);
+            boolean openAi = path.equals("/v1/chat/completions");
+            if (!openAi && !gemini.matches()) {
+                sendJson(exchange, 404, error("unknown endpoint " + path, 404));
+                return;
+            }
+
+            // One Random per request number, so a given seed replays the same outcomes
+            long requestNumber = sequence.getAndIncrement();
+            Random random = new Random(settings.getSeed() * 1_000_003L + requestNumber);
+
+            if (!authorized(exchange, openAi)) {
+                sendJson(exchange, 401, error("missing API key", 401));
+                return;
+            }
+
+            JsonNode body = objectMapper.readTree(readBody(exchange.getRequestBody()));
+            sleep(sampleLatency(random));
+
+            double outcome = random.nextDouble();
+            if (outcome < settings.getRateLimitRate()) {
+                exchange.getResponseHeaders().add("Retry-After", String.valueOf(settings.getRetryAfterSeconds()));
+                sendJson(exchange, 429, error("rate limit exceeded (stub)", 429));
+                return;
+            }
+            if (outcome < settings.getRateLimitRate() + settings.getErrorRate()) {
+                sendJson(exchange, 500, error("internal error (stub)", 500));
+                return;
+            }
+
+            if (openAi) {
+                handleOpenAi(exchange, body, requestNumber);
+            } else {
+                handleGemini(exchange, body, gemini.group(1), gemini.group(2).startsWith("stream"));
+            }
+        } catch (Exception e) {
+            log.warn("LLM stub failed to handle {}: {}", exchange.getRequestURI(), e.getMessage());
+        } finally {
+            exchange.close();
+        }
+    }
+
+    private void handleOpenAi(HttpExchange exchange, JsonNode body, long requestNumber) throws IOException {
+        String model = body.path("model").asText("gpt-4");
+        StringBuilder prompt = new StringBuilder();
+        body.path("messages").forEach(message -> prompt.append(message.path("content").asText()).append("\n"));
+        String text = summarize(prompt.toString());
+        String id = "chatcmpl-stub-" + requestNumber;
+        long created = System.currentTimeMillis() / 1000;
+
+        if (body.path("stream").asBoolean(false)) {
+            List<String> events = new ArrayList<>();
+            for (String piece : split(text)) {
+                ObjectNode chunk = openAiEnvelope(id, created, model, "chat.completion.chunk");
+                ObjectNode choice = ((ArrayNode) chunk.get("choices")).addObject();
+                choice.put("index", 0);
+                choice.putObject("delta").put("content", piece);
+                choice.putNull("finish_reason");
+                events.add(objectMapper.writeValueAsString(chunk));
+            }
+            events.add("[DONE]");
+            sendEvents(exchange, events);
+            return;
+        }
+
+        ObjectNode response = openAiEnvelope(id, created, model, "chat.completion");
+        ObjectNode choice = ((ArrayNode) response.get("choices")).addObject();
+        choice.put("index", 0);
+        choice.putObject("message").put("role", "assistant").put("content", text);
+        choice.put("finish_reason", "stop");
+        int promptTokens = PromptBuilder.estimateTokens(prompt.toString());
+        int completionTokens = PromptBuilder.estimateTokens(text);
+        response.putObject("usage")
+                .put("prompt_tokens", promptTokens)
+                .put("completion_tokens", completionTokens)
+                .put("total_tokens", promptTokens + completionTokens);
+        sendJson(exchange, 200, response);
+    }
+
+    private void handleGemini(HttpExchange exchange, JsonNode body, String model, boolean stream) throws IOException {
+        StringBuilder prompt = new StringBuilder();
+        body.path("contents").forEach(content ->
+                content.path("parts").forEach(part -> prompt.append(part.path("text").asText()).append("\n")));
+        String text = summarize(prompt.toString());
+        log.debug("LLM stub answering Gemini {} request", model);
+
+        if (stream) {
+            List<String> events = new ArrayList<>();
+            for (String piece : split(text)) {
+                events.add(objectMapper.writeValueAsString(geminiResponse(piece, null, null)));
+            }
+            sendEvents(exchange, events);
+            return;
+        }
+
+        int promptTokens = PromptBuilder.estimateTokens(prompt.toString());
+        sendJson(exchange, 200, geminiResponse(text, promptTokens, PromptBuilder.estimateTokens(text)));
+    }
+
+    private ObjectNode openAiEnvelope(String id, long created, String model, String object) {
+        ObjectNode envelope = objectMapper.createObjectNode();
+        envelope.put("id", id);
+        envelope.put("object", object);
+        envelope.put("created", created);
+        envelope.put("model", model);
+        envelope.putArray("choices");
+        return envelope;
+    }
+
+    private ObjectNode geminiResponse(String text, Integer promptTokens, Integer candidateTokens) {
+        ObjectNode response = objectMapper.createObjectNode();
+        ObjectNode candidate = response.putArray("candidates").addObject();
+        ObjectNode content = candidate.putObject("content");
+        content.putArray("parts").addObject().put("text", text);
+        content.put("role", "model");
+        candidate.put("finishReason", "STOP");
+        candidate.put("index", 0);
+        if (promptTokens != null) {
+            response.putObject("usageMetadata")
+                    .put("promptTokenCount", promptTokens)
+                    .put("candidatesTokenCount", candidateTokens)
+                    .put("totalTokenCount", promptTokens + candidateTokens);
+        }
+        return response;
+    }
+
+    /**
+     * Deterministic "summary": the first few content lines of the prompt as bullet points
+     */
+    private String summarize(String prompt) {
+        StringBuilder summary = new StringBuilder("📋 **Daily Standup Summary**\n\n");
+        int bullets = 0;
+        for (String line : prompt.split("\n")) {
+            String cleaned = line.replaceFirst("^[\\s\\-•*]+", "").replace("**", "").trim();
+            if (cleaned.isEmpty() || cleaned.endsWith(":") || cleaned.startsWith("Generate ")
+                    || cleaned.startsWith("Create ") || cleaned.startsWith("You are ")) {
+                continue;
+            }
+            summary.append("• ").append(cleaned.length() > 120 ? cleaned.substring(0, 120) + "…" : cleaned)
+                    .append("\n");
+            if (++bullets == 4) {
+                break;
+            }
+        }
+        if (bullets == 0) {
+            summary.append("• ✨ Nothing to report\n");
+        }
+        return summary.toString();
+    }
+
+    private List<String> split(String text) {
+        List<String> pieces = new ArrayList<>();
+        int size = Math.max(1, settings.getStreamChunkChars());
+        for (int i = 0; i < text.length(); i += size) {
+            pieces.add(text.substring(i, Math.min(text.length(), i + size)));
+        }
+        return pieces;
+    }
+
+    /**
+     * Log-normal latency with the configured median and 99th percentile
+     */
+    private long sampleLatency(Random random) {
+        double median = Math.max(1, settings.getLatencyMedianMs());
+        double p99 = Math.max(median, settings.getLatencyP99Ms());
+        double sigma = Math.log(p99 / median) / Z_99;
+        return Math.min(MAX_LATENCY_MS, Math.round(median * Math.exp(sigma * random.nextGaussian())));
+    }
+
+    private boolean authorized(HttpExchange exchange, boolean openAi) {
+        if (openAi) {
+            String authorization = exchange.getRequestHeaders().getFirst("Authorization");
+            return authorization != null && authorization.startsWith("Bearer ") && authorization.length() > 7;
+        }
+        String query = exchange.getRequestURI().getQuery();
+        return query != null && query.matches("(^|.*&)key=[^&]+.*");
+    }
+
+    private ObjectNode error(String message, int code) {
+        ObjectNode response = objectMapper.createObjectNode();
+        response.putObject("error")
+                .put("code", code)
+                .put("message", message)
+                .put("type", code == 429 ? "rate_limit_exceeded" : "stub_error");
+        return response;
+    }
+
+    private void sendJson(HttpExchange exchange, int status, JsonNode body) throws IOException {
+        byte[] bytes = objectMapper.writeValueAsBytes(body);
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    private void sendEvents(HttpExchange exchange, List<String> events) throws IOException {
+        exchange.getResponseHeaders().add("Content-Type", "text/event-stream");
+        exchange.getResponseHeaders().add("Cache-Control", "no-cache");
+        exchange.sendResponseHeaders(200, 0);
+        try (OutputStream out = exchange.getResponseBody()) {
+            for (int i = 0; i < events.size(); i++) {
+                if (i > 0) {
+                    sleep(settings.getStreamChunkDelayMs());
+                }
+                out.write(("data: " + events.get(i) + "\n\n").getBytes(StandardCharsets.UTF_8));
+                out.flush();
+            }
+        }
+    }
+
+    private String readBody(InputStream in) throws IOException {
+        return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+    }
+
+    private void sleep(long millis) {
+        if (millis <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
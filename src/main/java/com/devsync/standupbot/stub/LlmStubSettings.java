@@ -0,0 +1,48 @@
+package com.devsync.standupbot.stub;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Behaviour of the local LLM stand-in server
+ * Latency is log-normal, described by its median and 99th percentile. Error and 429 rates are
+ * fractions of requests (0.0 - 1.0). The same seed replays the same sequence of outcomes.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class LlmStubSettings {
+
+    @Builder.Default
+    private int port = 8089;
+
+    // Time to the first byte of a response
+    @Builder.Default
+    private long latencyMedianMs = 800;
+
+    @Builder.Default
+    private long latencyP99Ms = 4000;
+
+    // Share of requests answered with 500 / 429
+    @Builder.Default
+    private double errorRate = 0.0;
+
+    @Builder.Default
+    private double rateLimitRate = 0.0;
+
+    @Builder.Default
+    private int retryAfterSeconds = 1;
+
+    // Streaming: characters per SSE event and delay between events
+    @Builder.Default
+    private int streamChunkChars = 12;
+
+    @Builder.Default
+    private long streamChunkDelayMs = 40;
+
+    @Builder.Default
+    private long seed = 42;
+}
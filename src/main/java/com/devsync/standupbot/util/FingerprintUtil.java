@@ -0,0 +1,27 @@
+package com.devsync.standupbot.util;
+
+import lombok.experimental.UtilityClass;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+/**
+ * Utility class for identifying secrets (API keys, tokens) without exposing them
+ */
+@UtilityClass
+public class FingerprintUtil {
+
+    /**
+     * Short, non-reversible id for a secret: the first 4 bytes of its SHA-256, in hex (safe for logs and metric tags)
+     */
+    public static String fingerprint(String secret) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(secret.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(hash, 0, 4);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
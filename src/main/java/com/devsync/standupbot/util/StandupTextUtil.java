@@ -0,0 +1,26 @@
+package com.devsync.standupbot.util;
+
+import lombok.experimental.UtilityClass;
+
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * Utility class for interpreting free-text standup answers
+ */
+@UtilityClass
+public class StandupTextUtil {
+
+    private static final Set<String> NO_BLOCKER_ANSWERS = Set.of("none", "no blockers", "no");
+
+    /**
+     * Whether a blockers answer reports an actual blocker (blank, "none", "no blockers" and "no" do not)
+     */
+    public static boolean hasBlockers(String blockers) {
+        if (blockers == null || blockers.isBlank()) {
+            return false;
+        }
+        String answer = blockers.trim().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
+        return !NO_BLOCKER_ANSWERS.contains(answer);
+    }
+}
@@ -0,0 +1,239 @@
+package com.devsync.standupbot.service;
+
+import com.devsync.standupbot.config.AppConfig;
+import com.devsync.standupbot.config.IntegrationWebClients;
+import com.devsync.standupbot.dto.SummaryRequest;
+import com.devsync.standupbot.model.Team;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Streams a summary from a local SSE stub into a stub Cliq channel
+ */
+class AIServiceStreamingTest {
+
+    private static final String HEADER = "🤖 **Ana's standup:**\n";
+    private static final List<String> TOKENS = List.of("Yesterday ", "finished ", "the ", "login ", "flow. ",
+            "Today ", "working ", "on ", "the ", "signup ", "page.");
+
+    private final List<String[]> cliqRequests = new CopyOnWriteArrayList<>();
+    private HttpServer llmServer;
+    private HttpServer cliqServer;
+    private ServerSocket brokenStream;
+    private volatile String postResponse = "{\"message_id\":\"m1\",\"chat_id\":\"c1\"}";
+
+    private AppConfig appConfig;
+    private IntegrationWebClients webClients;
+    private AIService aiService;
+    private ZohoCliqService zohoCliqService;
+    private Team team;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        llmServer = startServer("/v1/chat/completions", this::streamCompletion);
+        cliqServer = startServer("/api/v2/", this::recordCliq);
+
+        appConfig = StreamingAiServices.config(baseUrl(llmServer) + "/v1");
+        webClients = StreamingAiServices.webClients(appConfig);
+        aiService = StreamingAiServices.create(appConfig, webClients, new SimpleMeterRegistry());
+        zohoCliqService = new ZohoCliqService(appConfig, webClients);
+
+        team = new Team();
+        team.setZohoWebhookUrl(baseUrl(cliqServer) + "/api/v2/channelsbyname/standup/message?zapikey=zk");
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        aiService.shutdown();
+        llmServer.stop(0);
+        cliqServer.stop(0);
+        if (brokenStream != null) {
+            brokenStream.close();
+        }
+    }
+
+    @Test
+    void streamedSummaryEditsOneChannelMessage() throws InterruptedException {
+        String summary = aiService.streamStandupSummary(request(),
+                zohoCliqService.openSummaryMessage(team, HEADER));
+
+        assertEquals(String.join("", TOKENS), summary);
+        awaitText(HEADER + summary);
+
+        assertEquals(1, count("POST"), "only the first text is posted");
+        assertTrue(count("PUT") >= 1, "later texts edit the posted message");
+        String previous = "";
+        for (String[] sent : cliqRequests) {
+            assertTrue(sent[2].startsWith(HEADER));
+            String text = sent[2].replace("\n\n_…still writing_", "");
+            assertTrue(text.startsWith(previous), "each edit extends the text already shown");
+            previous = text;
+        }
+        for (String[] sent : cliqRequests.subList(1, cliqRequests.size())) {
+            assertEquals("/api/v2/chats/c1/messages/m1?zapikey=zk", sent[1]);
+        }
+        assertFalse(last()[2].contains("still writing"));
+        // Edits reuse the webhook's client: one client for the LLM and one for the channel
+        assertEquals(2, ((Map<?, ?>) ReflectionTestUtils.getField(webClients, "clients")).size());
+    }
+
+    @Test
+    void failedStreamReplacesPartialTextWithFallback() throws Exception {
+        ReflectionTestUtils.setField(appConfig, "openaiBaseUrl", "http://localhost:" + startBrokenStream() + "/v1");
+
+        String summary = aiService.streamStandupSummary(request(),
+                zohoCliqService.openSummaryMessage(team, HEADER));
+
+        assertTrue(AIService.isFallbackSummary(summary));
+        awaitText(HEADER + summary);
+        assertEquals(1, count("POST"), "the fallback edits the partial message instead of adding one");
+    }
+
+    @Test
+    void channelWithoutMessageIdGetsTheSummaryOnce() throws InterruptedException {
+        postResponse = "{}";
+
+        String first = aiService.streamStandupSummary(request(), zohoCliqService.openSummaryMessage(team, HEADER));
+        awaitText(HEADER + first);
+        assertTrue(cliqRequests.get(0)[2].contains("still writing"), "the stranded partial text stays marked");
+
+        cliqRequests.clear();
+        String second = aiService.streamStandupSummary(request(), zohoCliqService.openSummaryMessage(team, HEADER));
+        awaitText(HEADER + second);
+        assertEquals(1, cliqRequests.size(), "later streams skip partial posts");
+    }
+
+    private static HttpServer startServer(String path, HttpHandler handler) throws IOException {
+        HttpServer server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext(path, handler);
+        server.setExecutor(Executors.newCachedThreadPool());
+        server.start();
+        return server;
+    }
+
+    private static String baseUrl(HttpServer server) {
+        return "http://localhost:" + server.getAddress().getPort();
+    }
+
+    private SummaryRequest request() {
+        return SummaryRequest.builder()
+                .yesterdayWork("login flow")
+                .todayPlan("signup page")
+                .blockers("none")
+                .build();
+    }
+
+    private void streamCompletion(HttpExchange exchange) throws IOException {
+        exchange.getRequestBody().readAllBytes();
+        exchange.getResponseHeaders().set("Content-Type", "text/event-stream");
+        exchange.sendResponseHeaders(200, 0);
+        try (OutputStream body = exchange.getResponseBody()) {
+            for (String token : TOKENS) {
+                writeEvent(body, token);
+            }
+            body.write("data: [DONE]\n\n".getBytes(StandardCharsets.UTF_8));
+        }
+    }
+
+    /**
+     * Raw socket stub that sends a few tokens and then drops the connection mid-response
+     */
+    private int startBrokenStream() throws IOException {
+        ServerSocket socket = new ServerSocket(0, 0, InetAddress.getLoopbackAddress());
+        brokenStream = socket;
+        Thread thread = new Thread(() -> {
+            try (Socket connection = socket.accept()) {
+                BufferedReader reader = new BufferedReader(
+                        new InputStreamReader(connection.getInputStream(), StandardCharsets.UTF_8));
+                while (!reader.readLine().isEmpty()) {
+                    // skip the request headers
+                }
+                OutputStream out = connection.getOutputStream();
+                out.write(("HTTP/1.1 200 OK\r\nContent-Type: text/event-stream\r\n"
+                        + "Transfer-Encoding: chunked\r\n\r\n").getBytes(StandardCharsets.UTF_8));
+                for (String token : TOKENS.subList(0, 5)) {
+                    ByteArrayOutputStream event = new ByteArrayOutputStream();
+                    writeEvent(event, token);
+                    out.write((Integer.toHexString(event.size()) + "\r\n").getBytes(StandardCharsets.UTF_8));
+                    out.write(event.toByteArray());
+                    out.write("\r\n".getBytes(StandardCharsets.UTF_8));
+                    out.flush();
+                }
+            } catch (IOException e) {
+                // the test is over or the client went away
+            }
+        }, "broken-stream");
+        thread.setDaemon(true);
+        thread.start();
+        return socket.getLocalPort();
+    }
+
+    private static void writeEvent(OutputStream body, String token) throws IOException {
+        String event = "data: {\"choices\":[{\"delta\":{\"content\":\"" + token + "\"}}]}\n\n";
+        body.write(event.getBytes(StandardCharsets.UTF_8));
+        body.flush();
+        sleep(20);
+    }
+
+    private void recordCliq(HttpExchange exchange) throws IOException {
+        String body = new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8);
+        String text = new ObjectMapper().readTree(body).path("text").asText();
+        sleep(30);
+        byte[] response = ("POST".equals(exchange.getRequestMethod()) ? postResponse : "{}")
+                .getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        exchange.sendResponseHeaders(200, response.length);
+        exchange.getResponseBody().write(response);
+        exchange.close();
+        cliqRequests.add(new String[] {exchange.getRequestMethod(), exchange.getRequestURI().toString(), text});
+    }
+
+    private void awaitText(String expected) throws InterruptedException {
+        for (int i = 0; i < 200 && (cliqRequests.isEmpty() || !last()[2].equals(expected)); i++) {
+            Thread.sleep(25);
+        }
+        assertEquals(expected, last()[2]);
+    }
+
+    private String[] last() {
+        return cliqRequests.get(cliqRequests.size() - 1);
+    }
+
+    private long count(String method) {
+        return cliqRequests.stream().filter(sent -> sent[0].equals(method)).count();
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,123 @@
+package com.devsync.standupbot.service;
+
+import com.devsync.standupbot.config.AppConfig;
+import com.devsync.standupbot.dto.LlmCompletion;
+import com.devsync.standupbot.dto.SummaryRequest;
+import com.devsync.standupbot.exception.IntegrationException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Blocking summary paths: local routing, the remote-only entry point used by the backfill, and fallbacks
+ */
+class AIServiceTest {
+
+    private static final SummaryRequest SHORT = SummaryRequest.builder()
+            .yesterdayWork("Fixed the login redirect.")
+            .todayPlan("Start on the signup page.")
+            .blockers("none")
+            .teamId(7L)
+            .build();
+
+    private SummaryProvider remote;
+    private SummaryRoutingPolicy routingPolicy;
+    private TeamAiBudgetService teamBudget;
+    private AIService aiService;
+
+    @BeforeEach
+    void setUp() {
+        AppConfig appConfig = new AppConfig();
+        ReflectionTestUtils.setField(appConfig, "openaiApiKey", "sk-test");
+        ReflectionTestUtils.setField(appConfig, "openaiModel", "gpt-4");
+
+        remote = mock(SummaryProvider.class);
+        when(remote.name()).thenReturn("openai");
+        when(remote.isRemote()).thenReturn(true);
+        when(remote.summarize(any(), any(), any())).thenReturn(LlmCompletion.builder().text("LLM summary.").build());
+        SummaryProvider local = mock(SummaryProvider.class);
+        when(local.name()).thenReturn("local");
+        when(local.defaultModel()).thenReturn("extractive");
+        when(local.summarize(any(), any(), any())).thenReturn(LlmCompletion.builder().text("Local summary.").build());
+
+        SummaryProviderRegistry registry = mock(SummaryProviderRegistry.class);
+        when(registry.select(any(), any())).thenReturn(new SummaryProviderRegistry.Selection(remote, "gpt-4"));
+        when(registry.local()).thenReturn(local);
+
+        SummaryCacheService cache = mock(SummaryCacheService.class);
+        when(cache.buildKey(any(), any(), any(), any(), any(), any(), any())).thenReturn("key");
+        when(cache.lookup(anyString())).thenReturn(Optional.empty());
+        LlmConcurrencyLimiter limiter = mock(LlmConcurrencyLimiter.class);
+        when(limiter.acquire(any(), any(), any(), any())).thenReturn(mock(LlmConcurrencyLimiter.Permit.class));
+        ProviderCircuitBreaker breaker = mock(ProviderCircuitBreaker.class);
+        when(breaker.allowRequest(anyString())).thenReturn(true);
+        routingPolicy = mock(SummaryRoutingPolicy.class);
+        when(routingPolicy.preferLocal(any())).thenReturn(true);
+        teamBudget = mock(TeamAiBudgetService.class);
+
+        aiService = new AIService(appConfig, cache, registry, mock(ProviderMetrics.class), routingPolicy,
+                limiter, breaker, teamBudget, new SimpleMeterRegistry());
+        aiService.init();
+    }
+
+    @AfterEach
+    void tearDown() {
+        aiService.shutdown();
+    }
+
+    @Test
+    void shortStandupsAreRoutedLocally() {
+        assertEquals("Local summary.", aiService.generateStandupSummary(SHORT));
+        verify(remote, never()).summarize(any(), any(), any());
+    }
+
+    @Test
+    void remoteSummarySkipsLocalRouting() {
+        assertEquals(Optional.of("LLM summary."), aiService.generateRemoteSummary(SHORT));
+        verify(routingPolicy, never()).preferLocal(any());
+    }
+
+    @Test
+    void remoteSummaryIsEmptyWhenTheProviderFails() {
+        when(remote.summarize(any(), any(), any())).thenThrow(new IntegrationException("openai", "unavailable"));
+
+        assertEquals(Optional.empty(), aiService.generateRemoteSummary(SHORT));
+    }
+
+    @Test
+    void remoteSummaryIsEmptyWhenTheBudgetOnlyAllowsLocal() {
+        when(teamBudget.levelFor(7L, "openai")).thenReturn(TeamAiBudgetService.Level.LOCAL);
+
+        assertEquals(Optional.empty(), aiService.generateRemoteSummary(SHORT));
+        verify(remote, never()).summarize(any(), any(), any());
+    }
+
+    @Test
+    void summaryOverTheLatencyBudgetIsMarkedAsFallback() {
+        when(routingPolicy.preferLocal(any())).thenReturn(false);
+        when(teamBudget.latencyBudgetMillis(7L)).thenReturn(50L);
+        when(remote.summarize(any(), any(), any())).thenAnswer(invocation -> {
+            Thread.sleep(500);
+            return LlmCompletion.builder().text("LLM summary.").build();
+        });
+
+        String summary = aiService.generateStandupSummary(SHORT);
+
+        assertTrue(summary.startsWith("Local summary."));
+        assertTrue(AIService.isFallbackSummary(summary));
+        verify(teamBudget).recordLatencyBudgetExceeded(7L);
+    }
+}
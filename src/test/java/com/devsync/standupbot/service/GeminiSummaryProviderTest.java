@@ -0,0 +1,138 @@
+package com.devsync.standupbot.service;
+
+import com.devsync.standupbot.config.AppConfig;
+import com.devsync.standupbot.config.IntegrationWebClients;
+import com.devsync.standupbot.dto.LlmCompletion;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Gemini completions against a local generateContent stub
+ */
+class GeminiSummaryProviderTest {
+
+    private static final String ANSWER = "{\"candidates\":[{\"content\":{\"parts\":[{\"text\":\"Shipped login.\"}]}}],"
+            + "\"usageMetadata\":{\"promptTokenCount\":12,\"candidatesTokenCount\":3}}";
+
+    private final List<String> requestUris = new CopyOnWriteArrayList<>();
+    private final AtomicInteger failuresLeft = new AtomicInteger();
+    private volatile int failureStatus = 503;
+    private volatile String answer = ANSWER;
+
+    private HttpServer server;
+    private IntegrationWebClients webClients;
+    private GeminiSummaryProvider provider;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/models/", this::generateContent);
+        server.setExecutor(Executors.newCachedThreadPool());
+        server.start();
+
+        AppConfig appConfig = new AppConfig();
+        ReflectionTestUtils.setField(appConfig, "geminiBaseUrl", "http://localhost:" + server.getAddress().getPort());
+        ReflectionTestUtils.setField(appConfig, "httpFetchTimeoutSeconds", 10);
+        ReflectionTestUtils.setField(appConfig, "httpRetryMaxAttempts", 2);
+        ReflectionTestUtils.setField(appConfig, "httpRetryBackoffMillis", 10);
+        webClients = new IntegrationWebClients(WebClient.builder(), appConfig);
+        provider = new GeminiSummaryProvider(appConfig, mock(PromptBuilder.class), mock(LlmStreamingClient.class),
+                webClients);
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+    }
+
+    @Test
+    void completionReadsTextAndUsage() {
+        LlmCompletion completion = provider.complete("system", "prompt", "AIza-test", "gemini-pro");
+
+        assertEquals("Shipped login.", completion.getText());
+        assertEquals(12, completion.getPromptTokens());
+        assertEquals(3, completion.getCompletionTokens());
+        assertFalse(completion.isEstimatedUsage());
+        assertEquals("/models/gemini-pro:generateContent?key=AIza-test", requestUris.get(0));
+    }
+
+    @Test
+    void completionsShareOneClient() {
+        provider.complete(null, "prompt", "AIza-test", "gemini-pro");
+        provider.complete(null, "prompt", "AIza-other", "gemini-pro");
+
+        assertEquals(2, requestUris.size());
+        assertEquals(1, ((Map<?, ?>) ReflectionTestUtils.getField(webClients, "clients")).size());
+    }
+
+    @Test
+    void serverErrorsAreRetried() {
+        failuresLeft.set(2);
+
+        assertEquals("Shipped login.", provider.complete(null, "prompt", "AIza-test", "gemini-pro").getText());
+        assertEquals(3, requestUris.size());
+    }
+
+    @Test
+    void clientErrorsFailAtOnce() {
+        failureStatus = 429;
+        failuresLeft.set(1);
+
+        assertThrows(WebClientResponseException.class,
+                () -> provider.complete(null, "prompt", "AIza-test", "gemini-pro"));
+        assertEquals(1, requestUris.size());
+    }
+
+    @Test
+    void missingUsageIsEstimated() {
+        answer = "{\"candidates\":[{\"content\":{\"parts\":[{\"text\":\"Shipped login.\"}]}}]}";
+
+        LlmCompletion completion = provider.complete(null, "prompt", "AIza-test", "gemini-pro");
+
+        assertEquals("Shipped login.", completion.getText());
+        assertTrue(completion.isEstimatedUsage());
+    }
+
+    @Test
+    void responseWithoutCandidatesFails() {
+        answer = "{\"promptFeedback\":{\"blockReason\":\"SAFETY\"}}";
+
+        assertThrows(IllegalStateException.class,
+                () -> provider.complete(null, "prompt", "AIza-test", "gemini-pro"));
+    }
+
+    private void generateContent(HttpExchange exchange) throws IOException {
+        exchange.getRequestBody().readAllBytes();
+        // Recorded before responding: the caller blocks on the body, so assertions never race the record
+        requestUris.add(exchange.getRequestURI().toString());
+        boolean fail = failuresLeft.getAndDecrement() > 0;
+        byte[] body = (fail ? "{}" : answer).getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        exchange.sendResponseHeaders(fail ? failureStatus : 200, body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+    }
+}
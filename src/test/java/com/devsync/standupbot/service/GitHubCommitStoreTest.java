@@ -0,0 +1,99 @@
+package com.devsync.standupbot.service;
+
+import com.devsync.standupbot.config.AppConfig;
+import com.devsync.standupbot.model.GitHubSyncCursor;
+import com.devsync.standupbot.repository.GitHubCommitRepository;
+import com.devsync.standupbot.repository.GitHubSyncCursorRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Commit rows and sync cursors written through the store's native MySQL statements (H2 in MySQL mode)
+ */
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:commit-store;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.hibernate.ddl-auto=create-drop"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class GitHubCommitStoreTest {
+
+    private static final Instant NOW = Instant.now().truncatedTo(ChronoUnit.SECONDS);
+
+    @Autowired
+    private GitHubCommitRepository commitRepository;
+    @Autowired
+    private GitHubSyncCursorRepository cursorRepository;
+    @Autowired
+    private EntityManager entityManager;
+
+    private SimpleMeterRegistry meterRegistry;
+    private GitHubCommitStore store;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        store = new GitHubCommitStore(new AppConfig(), commitRepository, cursorRepository, meterRegistry);
+    }
+
+    @Test
+    void storesEachCommitOnceAcrossOverlappingFeeds() {
+        assertEquals(2, store.record("ana", List.of(commit("a1", "Add login", 5), commit("a2", "Fix redirect", 6)),
+                6, NOW));
+        // The organization feed carries the same pushes plus one more; only the new one is inserted
+        assertEquals(1, store.record("org:acme", List.of(commit("a1", "Add login", 5), commit("a2", "Fix redirect", 6),
+                commit("a3", "Add signup", 7)), 7, NOW));
+        assertEquals(0, store.record("ana", List.of(commit("a3", "Add signup", 7)), 7, NOW));
+
+        assertEquals(3, commitRepository.count());
+        assertEquals(3.0, meterRegistry.get("github.commits.stored").counter().count());
+        assertEquals(List.of("acme/web: Add signup", "acme/web: Fix redirect", "acme/web: Add login"),
+                store.recentCommits("ANA", Duration.ofHours(24), 5));
+    }
+
+    @Test
+    void cursorIsCreatedAndOnlyMovesForward() {
+        store.record("ana", List.of(), 100, NOW.minusSeconds(60));
+        assertEquals(100, store.lastEventId("ana"));
+
+        store.record("ana", List.of(), 200, NOW);
+        // A slower poll that read older events must not move the cursor back
+        store.record("ana", List.of(), 150, NOW.minusSeconds(30));
+        entityManager.clear();
+
+        GitHubSyncCursor cursor = cursorRepository.findById("ana").orElseThrow();
+        assertEquals(200, cursor.getLastEventId());
+        assertEquals(LocalDateTime.ofInstant(NOW, ZoneOffset.UTC), cursor.getLastEventAt());
+    }
+
+    @Test
+    void partialReadsKeepCommitsWithoutACursor() {
+        assertEquals(1, store.record("bo", List.of(commit("b1", "Start billing", 9)), 0, null));
+
+        assertEquals(0, store.lastEventId("bo"));
+        assertTrue(cursorRepository.findById("bo").isEmpty());
+        assertEquals(1, commitRepository.count());
+    }
+
+    private static GitHubEventsParser.PushedCommit commit(String sha, String message, long eventId) {
+        return new GitHubEventsParser.PushedCommit(NOW.minusSeconds(60 - eventId), "Ana", "acme/web", sha, message, eventId);
+    }
+}
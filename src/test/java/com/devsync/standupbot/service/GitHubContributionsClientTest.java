@@ -0,0 +1,164 @@
+package com.devsync.standupbot.service;
+
+import com.devsync.standupbot.config.AppConfig;
+import com.devsync.standupbot.config.IntegrationWebClients;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Alias batching of GraphQL contribution queries and mapping of full, partial and failed responses to logins
+ * A local stub answers each aliased user field from a per-login fixture.
+ */
+class GitHubContributionsClientTest {
+
+    private static final Instant SINCE = Instant.parse("2026-10-18T09:00:00Z");
+    private static final ObjectMapper JSON = new ObjectMapper();
+
+    // Login -> the user field GitHub returns for it; logins not listed resolve to null (unknown user)
+    private static final Map<String, String> USERS = Map.of(
+            "ana", user(repo("acme/api", 3), repo("acme/web", 1)),
+            "bo", user(repo("acme/web", 2), repo("acme/docs", 0)),
+            "cy", user(),
+            "dee", user(repo("acme/infra", 5)),
+            "eli", user(repo("acme/api", 1)));
+
+    private final List<JsonNode> requests = new CopyOnWriteArrayList<>();
+    private HttpServer server;
+    private AppConfig appConfig;
+    private SimpleMeterRegistry meterRegistry;
+    private GitHubContributionsClient client;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/graphql", this::answer);
+        server.setExecutor(Executors.newCachedThreadPool());
+        server.start();
+
+        appConfig = new AppConfig();
+        ReflectionTestUtils.setField(appConfig, "githubGraphqlUrl",
+                "http://localhost:" + server.getAddress().getPort() + "/graphql");
+        ReflectionTestUtils.setField(appConfig, "githubGraphqlBatchSize", 2);
+        ReflectionTestUtils.setField(appConfig, "githubRateLimitMaxWaitSeconds", 0);
+        ReflectionTestUtils.setField(appConfig, "githubRateLimitBackgroundReserve", 0.0);
+        ReflectionTestUtils.setField(appConfig, "httpFetchTimeoutSeconds", 10);
+        ReflectionTestUtils.setField(appConfig, "httpRetryMaxAttempts", 0);
+        ReflectionTestUtils.setField(appConfig, "httpRetryBackoffMillis", 10);
+        meterRegistry = new SimpleMeterRegistry();
+        client = new GitHubContributionsClient(appConfig, new IntegrationWebClients(WebClient.builder(), appConfig),
+                new GitHubTokenPool(appConfig, meterRegistry), meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+    }
+
+    @Test
+    void splitsLoginsIntoAliasedBatches() {
+        Map<String, List<String>> contributions = fetch(List.of("Ana", "bo", "cy", "dee", "eli"));
+
+        assertEquals(3, requests.size());
+        JsonNode second = requests.get(1);
+        assertEquals("dee", second.path("variables").path("l1").asText());
+        assertEquals(SINCE.toString(), second.path("variables").path("from").asText());
+        String query = second.path("query").asText();
+        assertTrue(query.startsWith("query($from: DateTime!, $l0: String!, $l1: String!)"));
+        assertTrue(query.contains(" u1: user(login: $l1) {"));
+        assertFalse(query.contains("$l2"), "a batch declares only its own logins");
+        assertEquals(1, requests.get(2).path("variables").size() - 1, "the last batch holds the remainder");
+
+        assertEquals(List.of("ana", "bo", "cy", "dee", "eli"), List.copyOf(contributions.keySet()));
+        assertEquals(List.of("acme/api: 3 commits", "acme/web: 1 commit"), contributions.get("ana"));
+        // Repositories without commits are left out
+        assertEquals(List.of("acme/web: 2 commits"), contributions.get("bo"));
+        assertEquals(List.of(), contributions.get("cy"));
+        assertEquals(3.0, meterRegistry.get("github.graphql.queries").tag("result", "success").counter().count());
+        assertEquals(3.0, meterRegistry.get("github.graphql.cost").counter().count());
+    }
+
+    @Test
+    void unknownLoginsInAPartialResponseGetNoContributions() {
+        Map<String, List<String>> contributions = fetch(List.of("ana", "ghost"));
+
+        assertEquals(List.of("acme/api: 3 commits", "acme/web: 1 commit"), contributions.get("ana"));
+        assertEquals(List.of(), contributions.get("ghost"));
+    }
+
+    @Test
+    void aBatchWithoutDataFailsTheWholeTeam() {
+        // "broken" makes the stub answer its batch with errors only
+        Map<String, List<String>> contributions = fetch(List.of("ana", "bo", "broken"));
+
+        assertNull(contributions, "callers fall back to REST rather than show a partial team");
+        assertEquals(2, requests.size());
+        assertEquals(1.0, meterRegistry.get("github.graphql.queries").tag("result", "error").counter().count());
+    }
+
+    private Map<String, List<String>> fetch(List<String> logins) {
+        return client.recentContributions(logins, SINCE, List.of("ghp_test"), GitHubTokenPool.Priority.INTERACTIVE)
+                .block();
+    }
+
+    private void answer(HttpExchange exchange) throws IOException {
+        JsonNode request = JSON.readTree(exchange.getRequestBody());
+        requests.add(request);
+
+        StringBuilder response = new StringBuilder();
+        JsonNode variables = request.path("variables");
+        boolean broken = false;
+        StringBuilder data = new StringBuilder("{\"rateLimit\":{\"cost\":1,\"remaining\":4999}");
+        for (int i = 0; variables.has("l" + i); i++) {
+            String login = variables.path("l" + i).asText().toLowerCase();
+            broken |= login.equals("broken");
+            data.append(",\"u").append(i).append("\":").append(USERS.getOrDefault(login, "null"));
+        }
+        data.append("}");
+        if (broken) {
+            response.append("{\"errors\":[{\"message\":\"Something went wrong\"}]}");
+        } else if (data.toString().contains("null")) {
+            response.append("{\"data\":").append(data).append(",\"errors\":[{\"type\":\"NOT_FOUND\"}]}");
+        } else {
+            response.append("{\"data\":").append(data).append("}");
+        }
+
+        byte[] body = response.toString().getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        exchange.sendResponseHeaders(200, body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+    }
+
+    private static String user(String... repositories) {
+        return "{\"contributionsCollection\":{\"commitContributionsByRepository\":["
+                + String.join(",", repositories) + "]}}";
+    }
+
+    private static String repo(String name, int commits) {
+        return "{\"repository\":{\"nameWithOwner\":\"" + name + "\"},\"contributions\":{\"totalCount\":" + commits + "}}";
+    }
+}
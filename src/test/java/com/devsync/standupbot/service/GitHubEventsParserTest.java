@@ -0,0 +1,127 @@
+package com.devsync.standupbot.service;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Paging decisions and commit extraction of the streaming events parser
+ */
+class GitHubEventsParserTest {
+
+    private static final JsonFactory JSON = new JsonFactory();
+    private static final Instant CUTOFF = Instant.parse("2026-10-18T00:00:00Z");
+
+    @Test
+    void readsCommitsOfPushEventsOnly() throws IOException {
+        GitHubEventsParser.Page page = parse(events(
+                push(105, "2026-10-19T09:00:00Z", "ana", "acme/api", "a1", "Fix login", "a2", "Add tests"),
+                event(104, "PullRequestEvent", "2026-10-19T08:00:00Z",
+                        "{\"commits\":[{\"sha\":\"p1\",\"message\":\"not a push\"}]}"),
+                push(103, "2026-10-18T12:00:00Z", "bo", "acme/web", "b1", "Style header")), 10, 0);
+
+        assertEquals(List.of("acme/api: Fix login", "acme/api: Add tests", "acme/web: Style header"),
+                page.commits.stream().map(commit -> commit.line).toList());
+        GitHubEventsParser.PushedCommit first = page.commits.get(0);
+        assertEquals("ana", first.author);
+        assertEquals("a1", first.sha);
+        assertEquals(105, first.eventId);
+        assertEquals(Instant.parse("2026-10-19T09:00:00Z"), first.pushedAt);
+        assertEquals(105, page.newestEventId);
+        assertEquals(3, page.events);
+        assertFalse(page.done, "the page never reached the cutoff, so the next one is needed");
+    }
+
+    @Test
+    void stopsAtTheCutoff() throws IOException {
+        GitHubEventsParser.Page page = parse(events(
+                push(105, "2026-10-19T09:00:00Z", "ana", "acme/api", "a1", "Fix login"),
+                push(104, "2026-10-17T09:00:00Z", "ana", "acme/api", "a0", "Too old")), 10, 0);
+
+        assertTrue(page.done);
+        assertEquals(1, page.commits.size());
+    }
+
+    @Test
+    void stopsAtTheSyncedCursor() throws IOException {
+        GitHubEventsParser.Page page = parse(events(
+                push(105, "2026-10-19T09:00:00Z", "ana", "acme/api", "a2", "New"),
+                push(103, "2026-10-19T08:00:00Z", "ana", "acme/api", "a1", "Already stored")), 10, 103);
+
+        assertTrue(page.done);
+        assertEquals(List.of("a2"), page.commits.stream().map(commit -> commit.sha).toList());
+        assertEquals(105, page.newestEventId);
+    }
+
+    @Test
+    void nothingNewLeavesNoNewestEvent() throws IOException {
+        GitHubEventsParser.Page page = parse(events(
+                push(103, "2026-10-19T08:00:00Z", "ana", "acme/api", "a1", "Already stored")), 10, 103);
+
+        assertTrue(page.done);
+        assertTrue(page.commits.isEmpty());
+        assertEquals(0, page.newestEventId);
+    }
+
+    @Test
+    void stopsAtTheCommitLimit() throws IOException {
+        GitHubEventsParser.Page page = parse(events(
+                push(105, "2026-10-19T09:00:00Z", "ana", "acme/api", "a1", "One", "a2", "Two", "a3", "Three")), 2, 0);
+
+        assertTrue(page.done);
+        assertEquals(2, page.commits.size());
+    }
+
+    @Test
+    void payloadBeforeTypeIsDroppedForOtherEvents() throws IOException {
+        String event = "{\"id\":\"105\",\"payload\":{\"commits\":[{\"sha\":\"p1\",\"message\":\"pr commit\"}]},"
+                + "\"type\":\"PullRequestEvent\",\"created_at\":\"2026-10-19T09:00:00Z\"}";
+
+        GitHubEventsParser.Page page = parse("[" + event + "]", 10, 0);
+
+        assertTrue(page.commits.isEmpty());
+        assertEquals(105, page.newestEventId);
+    }
+
+    @Test
+    void emptyOrUnexpectedBodiesEndPaging() throws IOException {
+        assertTrue(GitHubEventsParser.parse(JSON, new byte[0], CUTOFF, 10).done);
+        assertTrue(parse("{\"message\":\"Not Found\"}", 10, 0).done);
+        assertTrue(parse("[]", 10, 0).commits.isEmpty());
+    }
+
+    private static GitHubEventsParser.Page parse(String body, int limit, long stopAtEventId) throws IOException {
+        return GitHubEventsParser.parse(JSON, body.getBytes(StandardCharsets.UTF_8), CUTOFF, limit, stopAtEventId);
+    }
+
+    private static String events(String... events) {
+        return "[" + String.join(",", events) + "]";
+    }
+
+    private static String push(long id, String createdAt, String actor, String repo, String... shaAndMessages) {
+        StringBuilder commits = new StringBuilder();
+        for (int i = 0; i < shaAndMessages.length; i += 2) {
+            if (i > 0) {
+                commits.append(",");
+            }
+            commits.append("{\"sha\":\"").append(shaAndMessages[i]).append("\",\"author\":{\"name\":\"x\"},")
+                    .append("\"message\":\"").append(shaAndMessages[i + 1]).append("\",\"distinct\":true}");
+        }
+        return "{\"id\":\"" + id + "\",\"type\":\"PushEvent\",\"actor\":{\"id\":1,\"login\":\"" + actor + "\"},"
+                + "\"repo\":{\"id\":2,\"name\":\"" + repo + "\"},\"payload\":{\"push_id\":9,\"commits\":["
+                + commits + "]},\"public\":true,\"created_at\":\"" + createdAt + "\"}";
+    }
+
+    private static String event(long id, String type, String createdAt, String payload) {
+        return "{\"id\":\"" + id + "\",\"type\":\"" + type + "\",\"actor\":{\"login\":\"ana\"},"
+                + "\"repo\":{\"name\":\"acme/api\"},\"payload\":" + payload + ",\"created_at\":\"" + createdAt + "\"}";
+    }
+}
@@ -0,0 +1,68 @@
+package com.devsync.standupbot.service;
+
+import com.devsync.standupbot.config.AppConfig;
+import com.devsync.standupbot.repository.TeamRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Push deliveries are indexed at the time of the push, not the commits' author dates
+ */
+class GitHubWebhookServiceTest {
+
+    private GitHubCommitIndex commitIndex;
+    private GitHubWebhookService webhookService;
+
+    @BeforeEach
+    void setUp() {
+        TeamRepository teamRepository = mock(TeamRepository.class);
+        when(teamRepository.existsByGithubOrganizationIgnoreCaseAndActiveTrue("acme")).thenReturn(true);
+        commitIndex = mock(GitHubCommitIndex.class);
+        webhookService = new GitHubWebhookService(new AppConfig(), teamRepository, commitIndex,
+                new ObjectMapper(), new SimpleMeterRegistry());
+    }
+
+    @Test
+    void usesRepositoryPushedAt() {
+        GitHubWebhookService.Result result = webhookService.handle("push", push("1760000000"));
+
+        assertEquals(GitHubWebhookService.Result.ACCEPTED, result);
+        verify(commitIndex).add(eq("ana"), eq("abc123"), eq(Instant.ofEpochSecond(1760000000L)), anyString());
+    }
+
+    @Test
+    void fallsBackToDeliveryTime() {
+        Instant before = Instant.now();
+        webhookService.handle("push", push(null));
+
+        ArgumentCaptor<Instant> pushedAt = ArgumentCaptor.forClass(Instant.class);
+        verify(commitIndex).add(eq("ana"), eq("abc123"), pushedAt.capture(), any());
+        assertTrue(Duration.between(before, pushedAt.getValue()).toSeconds() < 5, "pushed now, authored days ago");
+    }
+
+    private static byte[] push(String pushedAt) {
+        String repository = "{\"full_name\":\"acme/api\",\"owner\":{\"login\":\"acme\"}"
+                + (pushedAt != null ? ",\"pushed_at\":" + pushedAt : "") + "}";
+        String payload = "{\"organization\":{\"login\":\"acme\"},\"repository\":" + repository
+                + ",\"sender\":{\"login\":\"ana\"},\"commits\":[{\"id\":\"abc123\",\"distinct\":true,"
+                + "\"message\":\"Fix login\",\"timestamp\":\"2025-10-01T09:00:00+02:00\","
+                + "\"author\":{\"username\":\"ana\"}}]}";
+        return payload.getBytes(StandardCharsets.UTF_8);
+    }
+}
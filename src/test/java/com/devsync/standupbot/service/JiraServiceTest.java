@@ -0,0 +1,242 @@
+package com.devsync.standupbot.service;
+
+import com.devsync.standupbot.config.AppConfig;
+import com.devsync.standupbot.config.IntegrationWebClients;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.util.UriComponentsBuilder;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.time.OffsetDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * JiraService against a stub Jira search endpoint
+ */
+class JiraServiceTest {
+
+    private static final String EMAIL = "bot@example.com";
+    private static final String TOKEN = "jira-token";
+    private static final DateTimeFormatter JIRA_TIMESTAMP = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss.SSSZ");
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final List<Map<String, Object>> teamIssues = new ArrayList<>();
+    private final AtomicInteger teamSearches = new AtomicInteger();
+    // Per-account searches: the active issues a full fetch returns, and the changes an incremental one does
+    private final List<Map<String, Object>> aliceIssues = new ArrayList<>();
+    private final List<Map<String, Object>> aliceChanges = new ArrayList<>();
+    private final List<String> accountSearches = new CopyOnWriteArrayList<>();
+
+    private HttpServer server;
+    private String jiraUrl;
+    private AppConfig appConfig;
+    private JiraService jiraService;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/rest/api/3/search", this::search);
+        server.start();
+        jiraUrl = "http://localhost:" + server.getAddress().getPort();
+
+        appConfig = new AppConfig();
+        ReflectionTestUtils.setField(appConfig, "jiraCacheTtlSeconds", 900);
+        ReflectionTestUtils.setField(appConfig, "jiraCacheHardTtlSeconds", 14400);
+        ReflectionTestUtils.setField(appConfig, "jiraTeamPageSize", 3);
+        ReflectionTestUtils.setField(appConfig, "jiraTeamMaxPages", 5);
+        ReflectionTestUtils.setField(appConfig, "httpFetchTimeoutSeconds", 5);
+        ReflectionTestUtils.setField(appConfig, "httpRetryMaxAttempts", 0);
+        ReflectionTestUtils.setField(appConfig, "httpRetryBackoffMillis", 10);
+        jiraService = new JiraService(appConfig, new IntegrationWebClients(WebClient.builder(), appConfig),
+                new SimpleMeterRegistry());
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+    }
+
+    @Test
+    void servesFreshEntriesFromCache() {
+        aliceIssues.add(issue("API-1", "alice", "In Progress", OffsetDateTime.now()));
+
+        assertEquals(List.of("[API-1] Work on API-1 - In Progress"),
+                jiraService.fetchActiveTasks("alice", jiraUrl, EMAIL, TOKEN));
+        assertEquals(List.of("[API-1] Work on API-1 - In Progress"),
+                jiraService.fetchActiveTasks("alice", jiraUrl, EMAIL, TOKEN));
+
+        assertEquals(1, accountSearches.size());
+        assertTrue(accountSearches.get(0).startsWith("assignee=alice AND status in"));
+    }
+
+    @Test
+    void staleEntryIsServedAtOnceAndSyncedIncrementally() throws InterruptedException {
+        OffsetDateTime now = OffsetDateTime.now();
+        aliceIssues.add(issue("API-1", "alice", "In Progress", now.minusHours(2)));
+        aliceIssues.add(issue("API-2", "alice", "To Do", now.minusHours(3)));
+        jiraService.fetchActiveTasks("alice", jiraUrl, EMAIL, TOKEN);
+
+        // API-1 was closed and API-3 newly assigned since the last sync
+        aliceChanges.add(issue("API-1", "alice", "Done", now));
+        aliceChanges.add(issue("API-3", "alice", "In Progress", now.minusMinutes(1)));
+        ReflectionTestUtils.setField(appConfig, "jiraCacheTtlSeconds", 0);
+
+        List<String> stale = jiraService.fetchActiveTasks("alice", jiraUrl, EMAIL, TOKEN);
+        assertEquals(List.of("[API-1] Work on API-1 - In Progress", "[API-2] Work on API-2 - To Do"), stale);
+
+        // The background sync lands shortly after; later stale reads serve its result
+        List<String> synced = List.of("[API-3] Work on API-3 - In Progress", "[API-2] Work on API-2 - To Do");
+        for (int i = 0; i < 100 && !synced.equals(jiraService.fetchActiveTasks("alice", jiraUrl, EMAIL, TOKEN)); i++) {
+            Thread.sleep(20);
+        }
+        assertEquals(synced, jiraService.fetchActiveTasks("alice", jiraUrl, EMAIL, TOKEN));
+        assertTrue(accountSearches.stream().skip(1).allMatch(jql -> jql.startsWith("assignee was")),
+                "no full fetch while the entry is within the hard TTL");
+        assertTrue(accountSearches.get(1).matches("assignee was \"alice\" AND updated >= -\\d+m ORDER BY updated DESC"),
+                accountSearches.get(1));
+    }
+
+    @Test
+    void tooManyChangesFallBackToAFullFetch() {
+        aliceIssues.add(issue("API-1", "alice", "In Progress", OffsetDateTime.now()));
+        jiraService.fetchActiveTasks("alice", jiraUrl, EMAIL, TOKEN);
+        for (int i = 0; i < 60; i++) {
+            aliceChanges.add(issue("API-" + (100 + i), "alice", "Done", OffsetDateTime.now()));
+        }
+
+        jiraService.refreshActiveTasks("alice", jiraUrl, EMAIL, TOKEN);
+
+        assertEquals(3, accountSearches.size());
+        assertTrue(accountSearches.get(1).startsWith("assignee was"));
+        assertTrue(accountSearches.get(2).startsWith("assignee=alice"));
+    }
+
+    @Test
+    void expiredEntryWaitsForAFullFetchAndSurvivesJiraOutages() {
+        aliceIssues.add(issue("API-1", "alice", "In Progress", OffsetDateTime.now()));
+        jiraService.fetchActiveTasks("alice", jiraUrl, EMAIL, TOKEN);
+        ReflectionTestUtils.setField(appConfig, "jiraCacheHardTtlSeconds", 0);
+
+        aliceIssues.add(0, issue("API-2", "alice", "In Progress", OffsetDateTime.now()));
+        assertEquals(2, jiraService.fetchActiveTasks("alice", jiraUrl, EMAIL, TOKEN).size());
+        assertTrue(accountSearches.get(1).startsWith("assignee=alice"));
+
+        server.stop(0);
+        assertEquals(2, jiraService.fetchActiveTasks("alice", jiraUrl, EMAIL, TOKEN).size(),
+                "the last good result is served while Jira is down");
+    }
+
+    @Test
+    void teamSearchCachesEveryAccountOnceResultsRunOut() {
+        addTeamIssues("alice", 6);
+        addTeamIssues("bob", 1);
+        addTeamIssues("carol", 2);
+
+        Map<String, List<String>> tasks = jiraService.refreshTeamActiveTasks(
+                List.of("alice", "bob", "carol", "dave"), jiraUrl, EMAIL, TOKEN);
+
+        assertEquals(List.of("alice", "bob", "carol", "dave"), List.copyOf(tasks.keySet()));
+        assertEquals(5, tasks.get("alice").size());
+        assertEquals(1, tasks.get("bob").size());
+        assertEquals(2, tasks.get("carol").size());
+        assertTrue(tasks.get("dave").isEmpty());
+        assertEquals(3, teamSearches.get());
+        for (String account : tasks.keySet()) {
+            assertTrue(jiraService.isFresh(account, jiraUrl), account + " is cached");
+        }
+    }
+
+    @Test
+    void pageCapLeavesPartlyReadAccountsUncached() {
+        ReflectionTestUtils.setField(appConfig, "jiraTeamMaxPages", 2);
+        addTeamIssues("alice", 6);
+        addTeamIssues("bob", 1);
+        addTeamIssues("carol", 2);
+
+        Map<String, List<String>> tasks = jiraService.refreshTeamActiveTasks(
+                List.of("alice", "bob", "carol"), jiraUrl, EMAIL, TOKEN);
+
+        assertEquals(2, teamSearches.get());
+        assertEquals(List.of("alice"), List.copyOf(tasks.keySet()));
+        assertEquals(5, tasks.get("alice").size());
+        assertTrue(jiraService.isFresh("alice", jiraUrl));
+        assertFalse(jiraService.isFresh("bob", jiraUrl));
+        assertFalse(jiraService.isFresh("carol", jiraUrl));
+    }
+
+    /**
+     * Issues are added newest first, matching the search's ORDER BY updated DESC
+     */
+    private void addTeamIssues(String account, int count) {
+        for (int i = 1; i <= count; i++) {
+            teamIssues.add(issue(account.toUpperCase() + "-" + i, account, "In Progress",
+                    OffsetDateTime.now().minusMinutes(teamIssues.size())));
+        }
+    }
+
+    private static Map<String, Object> issue(String key, String account, String status, OffsetDateTime updated) {
+        Map<String, Object> fields = new LinkedHashMap<>();
+        fields.put("summary", "Work on " + key);
+        fields.put("status", Map.of("name", status));
+        fields.put("updated", updated.format(JIRA_TIMESTAMP));
+        fields.put("assignee", Map.of("accountId", account));
+        return Map.of("key", key, "fields", fields);
+    }
+
+    private void search(HttpExchange exchange) throws IOException {
+        if ("GET".equals(exchange.getRequestMethod())) {
+            searchAccount(exchange);
+            return;
+        }
+        JsonNode request = objectMapper.readTree(exchange.getRequestBody().readAllBytes());
+        teamSearches.incrementAndGet();
+        int startAt = request.path("startAt").asInt();
+        int end = Math.min(teamIssues.size(), startAt + request.path("maxResults").asInt());
+        respond(exchange, Map.of(
+                "startAt", startAt,
+                "total", teamIssues.size(),
+                "issues", teamIssues.subList(Math.min(startAt, end), end)));
+    }
+
+    private void searchAccount(HttpExchange exchange) throws IOException {
+        Map<String, String> query = UriComponentsBuilder.fromUri(exchange.getRequestURI()).build()
+                .getQueryParams().toSingleValueMap();
+        String jql = URLDecoder.decode(query.get("jql"), StandardCharsets.UTF_8);
+        int maxResults = Integer.parseInt(query.get("maxResults"));
+        accountSearches.add(jql);
+        List<Map<String, Object>> matches = jql.startsWith("assignee was") ? aliceChanges : aliceIssues;
+        respond(exchange, Map.of(
+                "startAt", 0,
+                "total", matches.size(),
+                "issues", matches.subList(0, Math.min(maxResults, matches.size()))));
+    }
+
+    private void respond(HttpExchange exchange, Object body) throws IOException {
+        byte[] json = objectMapper.writeValueAsString(body).getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        exchange.sendResponseHeaders(200, json.length);
+        exchange.getResponseBody().write(json);
+        exchange.close();
+    }
+}
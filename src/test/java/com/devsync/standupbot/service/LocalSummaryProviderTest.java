@@ -0,0 +1,137 @@
+package com.devsync.standupbot.service;
+
+import com.devsync.standupbot.config.AppConfig;
+import com.devsync.standupbot.dto.SummaryRequest;
+import com.devsync.standupbot.stub.LlmStubServer;
+import com.devsync.standupbot.stub.LlmStubSettings;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Output quality and latency of the local summarizer, and which standups the routing policy sends to it
+ */
+@Slf4j
+class LocalSummaryProviderTest {
+
+    private static final SummaryRequest SHORT = SummaryRequest.builder()
+            .yesterdayWork("Fixed the login redirect.")
+            .todayPlan("Start on the signup page.")
+            .blockers("none")
+            .build();
+
+    private static final SummaryRequest LONG = SummaryRequest.builder()
+            .yesterdayWork("Slow morning. Implemented rate limiting for the billing API in PAY-142. "
+                    + "Went to two meetings. Reviewed the retry changes for the invoice exporter. "
+                    + "Lunch was good.")
+            .todayPlan("Deploy PAY-142 to staging. Catch up on email. "
+                    + "Still waiting on the DBA for the invoices index before I can migrate the table.")
+            .blockers("none")
+            .githubCommits(List.of("acme/billing: Add token bucket rate limiter",
+                    "acme/billing: Merge pull request #88 from acme/rate-limit",
+                    "acme/exporter: Retry invoice uploads"))
+            .jiraTasks(List.of("[PAY-142] Rate limit billing API - In Progress"))
+            .build();
+
+    private final LocalSummaryProvider provider = new LocalSummaryProvider();
+
+    @Test
+    void keepsTheInformativeSentencesOfLongAnswers() {
+        String summary = provider.summarize(LONG, null, "local").getText();
+
+        // Ranked: action verbs, ticket keys and overlap with commits beat small talk
+        assertTrue(summary.contains("• Implemented rate limiting for the billing API in PAY-142."));
+        assertTrue(summary.contains("• Reviewed the retry changes for the invoice exporter."));
+        assertFalse(summary.contains("Lunch was good"));
+        assertFalse(summary.contains("Slow morning"));
+        // A blocker mentioned only in the plan is surfaced
+        assertTrue(summary.contains("⚠️ **Possible blockers:**\n• Still waiting on the DBA"));
+        // Context: merge commits are not counted
+        assertTrue(summary.contains("🔧 **Activity:** 2 commits in acme/billing (1), acme/exporter (1)"));
+        assertTrue(summary.contains("🎫 **Jira:** [PAY-142] Rate limit billing API - In Progress"));
+        // Five sentences condensed to three bullets, rather than echoed
+        String yesterday = summary.substring(summary.indexOf("✅"), summary.indexOf("🎯"));
+        assertEquals(3, yesterday.split("\n• ").length - 1);
+    }
+
+    @Test
+    void shortAnswersAreKeptWhole() {
+        String summary = provider.summarize(SHORT, null, "local").getText();
+
+        assertTrue(summary.contains("✅ **Completed Yesterday:**\n• Fixed the login redirect.\n"));
+        assertTrue(summary.contains("🎯 **Plan for Today:**\n• Start on the signup page.\n"));
+        assertTrue(summary.contains("✨ **No blockers reported**"));
+    }
+
+    @Test
+    void localSummaryIsOrdersOfMagnitudeFasterThanAnLlmRoundTrip() throws IOException {
+        for (int i = 0; i < 1_000; i++) {
+            provider.summarize(LONG, null, "local");
+        }
+        int runs = 10_000;
+        long start = System.nanoTime();
+        for (int i = 0; i < runs; i++) {
+            provider.summarize(i % 2 == 0 ? LONG : SHORT, null, "local");
+        }
+        double localMicros = (System.nanoTime() - start) / 1_000.0 / runs;
+
+        LlmStubServer llmStub = new LlmStubServer(LlmStubSettings.builder()
+                .port(0)
+                .latencyMedianMs(300)
+                .latencyP99Ms(1200)
+                .build());
+        llmStub.start();
+        double llmMicros;
+        try {
+            AppConfig appConfig = StreamingAiServices.config("http://localhost:" + llmStub.getPort() + "/v1");
+            LlmStreamingClient client = new LlmStreamingClient(appConfig, StreamingAiServices.webClients(appConfig),
+                    new ObjectMapper());
+            client.streamOpenAi("system", "warm up", "sk-test", "gpt-4").blockLast();
+            int calls = 5;
+            start = System.nanoTime();
+            for (int i = 0; i < calls; i++) {
+                client.streamOpenAi("system", "summarize", "sk-test", "gpt-4").blockLast();
+            }
+            llmMicros = (System.nanoTime() - start) / 1_000.0 / calls;
+        } finally {
+            llmStub.stop();
+        }
+
+        log.info("Summary latency: local {} us per standup, LLM stub round trip {} ms",
+                String.format("%.1f", localMicros), String.format("%.0f", llmMicros / 1_000));
+        assertTrue(localMicros < 5_000, "local summaries take microseconds");
+        assertTrue(localMicros * 100 < llmMicros);
+    }
+
+    @Test
+    void routesOnlySmallStandupsLocally() {
+        AppConfig appConfig = new AppConfig();
+        ReflectionTestUtils.setField(appConfig, "aiLocalRoutingEnabled", true);
+        ReflectionTestUtils.setField(appConfig, "aiLocalMaxChars", 280);
+        ReflectionTestUtils.setField(appConfig, "aiLocalMaxSentences", 4);
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        SummaryRoutingPolicy policy = new SummaryRoutingPolicy(appConfig, meterRegistry);
+
+        assertTrue(policy.preferLocal(SHORT));
+        assertFalse(policy.preferLocal(LONG));
+        // Reported blockers count towards the size
+        assertFalse(policy.preferLocal(SummaryRequest.builder()
+                .yesterdayWork(SHORT.getYesterdayWork())
+                .todayPlan(SHORT.getTodayPlan())
+                .blockers("CI is red. Staging is down. Waiting on access to the VPN.")
+                .build()));
+        assertEquals(1.0, meterRegistry.get("ai.summary.route").tag("route", "local").counter().count());
+
+        ReflectionTestUtils.setField(appConfig, "aiLocalRoutingEnabled", false);
+        assertFalse(policy.preferLocal(SHORT));
+    }
+}
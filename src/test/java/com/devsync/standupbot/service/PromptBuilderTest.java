@@ -0,0 +1,153 @@
+package com.devsync.standupbot.service;
+
+import com.devsync.standupbot.config.AppConfig;
+import com.devsync.standupbot.dto.SummaryRequest;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Commit grouping, de-duplication and budget trimming of standup prompts, and the cost of building them
+ */
+@Slf4j
+class PromptBuilderTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private PromptBuilder promptBuilder;
+
+    @BeforeEach
+    void setUp() {
+        AppConfig appConfig = new AppConfig();
+        ReflectionTestUtils.setField(appConfig, "aiPromptMaxFieldChars", 2_000);
+        ReflectionTestUtils.setField(appConfig, "aiPromptMaxInputTokens", 1_500);
+        meterRegistry = new SimpleMeterRegistry();
+        promptBuilder = new PromptBuilder(appConfig, meterRegistry);
+    }
+
+    @Test
+    void commitsAreGroupedByRepositoryWithoutMergesOrRepeats() {
+        String prompt = promptBuilder.buildStandupPrompt(request(List.of(
+                "acme/api: Add rate limiter",
+                "acme/web: Fix login redirect\n\nThe redirect dropped the return URL.",
+                "acme/api: Merge pull request #12 from acme/rate-limit",
+                "acme/api: Add rate limiter (#12)",
+                "acme/api: Cache token lookups",
+                "acme/web: Merge branch 'main' into login",
+                "acme/web: add rate limiter"), List.of(), List.of()), PromptBuilder.Style.MARKDOWN);
+
+        assertTrue(prompt.contains("**Recent GitHub commits:**\n"
+                + "- acme/api: Add rate limiter; Cache token lookups\n"
+                + "- acme/web: Fix login redirect; add rate limiter\n\n"));
+        assertFalse(prompt.contains("Merge"));
+        assertFalse(prompt.contains("return URL"));
+    }
+
+    @Test
+    void contextItemsAreDeduplicatedIgnoringCase() {
+        String prompt = promptBuilder.buildStandupPrompt(request(List.of(),
+                List.of("[PAY-1] Billing export - In Progress", "[pay-1] billing export - in progress", " "),
+                List.of("Sprint review at 10:00")), PromptBuilder.Style.PLAIN);
+
+        assertTrue(prompt.contains("Active Jira tasks:\n- [PAY-1] Billing export - In Progress\n\n"));
+        assertTrue(prompt.contains("Upcoming meetings:\n- Sprint review at 10:00\n\n"));
+    }
+
+    @Test
+    void trimmingTakesItemsFromEverySectionInTurn() {
+        List<String> commits = new ArrayList<>();
+        List<String> tasks = new ArrayList<>();
+        for (int i = 0; i < 40; i++) {
+            commits.add("acme/api: Implement step " + i + " of the billing export pipeline");
+            tasks.add("[PAY-" + i + "] Billing export follow-up number " + i + " - To Do");
+        }
+        int baseTokens = PromptBuilder.estimateTokens(
+                promptBuilder.buildStandupPrompt(request(List.of(), List.of(), List.of()), PromptBuilder.Style.PLAIN));
+
+        SummaryRequest request = request(commits, tasks, List.of("Sprint review at 10:00"));
+        request.setMaxInputTokens(baseTokens + 120);
+        String prompt = promptBuilder.buildStandupPrompt(request, PromptBuilder.Style.PLAIN);
+
+        // The commit section cannot starve the others: each section keeps its first items
+        assertTrue(prompt.contains("Implement step 0 of"));
+        assertTrue(prompt.contains("[PAY-0]"));
+        assertTrue(prompt.contains("Upcoming meetings:\n- Sprint review at 10:00"));
+        assertFalse(prompt.contains("Implement step 39 of"));
+        assertFalse(prompt.contains("[PAY-39]"));
+        // The standup answers are always kept
+        assertTrue(prompt.contains("What I did yesterday: Finished the billing export."));
+
+        double trimmedCommits = meterRegistry.get("ai.prompt.trimmed.items").tag("section", "commits").counter().count();
+        double trimmedTasks = meterRegistry.get("ai.prompt.trimmed.items").tag("section", "jira").counter().count();
+        assertTrue(prompt.contains("- (" + (int) trimmedCommits + " more omitted)"));
+        assertTrue(prompt.contains("- (" + (int) trimmedTasks + " more omitted)"));
+        // Round-robin: the two long sections lose about the same number of items
+        assertTrue(Math.abs(trimmedCommits - trimmedTasks) <= 2);
+    }
+
+    @Test
+    void blockersAreOnlyIncludedWhenReported() {
+        for (String none : List.of("none", "No blockers", "no", "  ")) {
+            SummaryRequest request = request(List.of(), List.of(), List.of());
+            request.setBlockers(none);
+            assertFalse(promptBuilder.buildStandupPrompt(request, PromptBuilder.Style.PLAIN).contains("Blockers:"));
+        }
+        SummaryRequest request = request(List.of(), List.of(), List.of());
+        request.setBlockers("Waiting on staging access");
+        assertTrue(promptBuilder.buildStandupPrompt(request, PromptBuilder.Style.PLAIN)
+                .contains("Blockers: Waiting on staging access"));
+    }
+
+    @Test
+    void buildingABudgetedPromptTakesMicroseconds() {
+        List<String> commits = new ArrayList<>();
+        for (int i = 0; i < 300; i++) {
+            commits.add("acme/repo-" + (i % 6) + ": Change number " + i + " to the billing export pipeline");
+            if (i % 10 == 0) {
+                commits.add("acme/repo-" + (i % 6) + ": Merge pull request #" + i + " from acme/feature-" + i);
+            }
+        }
+        List<String> tasks = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            tasks.add("[PAY-" + i + "] Billing export follow-up number " + i + " - In Progress");
+        }
+        SummaryRequest request = request(commits, tasks, List.of("Sprint review at 10:00", "1:1 at 15:00"));
+        int rawTokens = PromptBuilder.estimateTokens(String.join("\n", commits) + String.join("\n", tasks));
+
+        for (int i = 0; i < 2_000; i++) {
+            promptBuilder.buildStandupPrompt(request, PromptBuilder.Style.MARKDOWN);
+        }
+        int runs = 5_000;
+        String prompt = null;
+        long start = System.nanoTime();
+        for (int i = 0; i < runs; i++) {
+            prompt = promptBuilder.buildStandupPrompt(request, PromptBuilder.Style.MARKDOWN);
+        }
+        double micros = (System.nanoTime() - start) / 1_000.0 / runs;
+        int promptTokens = PromptBuilder.estimateTokens(prompt);
+
+        log.info("Prompt build: {} us per prompt, {} commits + {} tasks (~{} tokens raw) -> ~{} tokens",
+                String.format("%.1f", micros), commits.size(), tasks.size(), rawTokens, promptTokens);
+        assertTrue(promptTokens <= 1_500 + 20, "the prompt fits the input budget");
+        assertTrue(micros < 5_000, "prompt building takes microseconds");
+    }
+
+    private SummaryRequest request(List<String> commits, List<String> tasks, List<String> events) {
+        return SummaryRequest.builder()
+                .yesterdayWork("Finished the billing export.")
+                .todayPlan("Start on the invoice emails.")
+                .blockers("none")
+                .githubCommits(commits)
+                .jiraTasks(tasks)
+                .calendarEvents(events)
+                .build();
+    }
+}
@@ -0,0 +1,220 @@
+package com.devsync.standupbot.service;
+
+import com.devsync.standupbot.config.AppConfig;
+import com.devsync.standupbot.dto.SummaryRequest;
+import com.devsync.standupbot.stub.LlmStubServer;
+import com.devsync.standupbot.stub.LlmStubSettings;
+import com.devsync.standupbot.util.StandupTextUtil;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Submit-to-summary latency with a speculative summary versus generating one at submit time
+ * Both paths call the same LLM stub, so the difference is the generation time the speculation hides
+ * behind the user typing their blockers. Also covers blocker patching, cancellation and the pool bound.
+ */
+@Slf4j
+class SpeculativeSummaryServiceTest {
+
+    private static final int SUBMITS = 8;
+    private static final long BLOCKERS_TYPING_MS = 1500;
+    private static final SummaryStream NO_STREAM = new SummaryStream() {
+        @Override
+        public void update(String textSoFar) {
+        }
+
+        @Override
+        public void complete(String summary) {
+        }
+    };
+
+    private LlmStubServer llmStub;
+    private SimpleMeterRegistry meterRegistry;
+    private AIService aiService;
+    private SpeculativeSummaryService speculativeSummaryService;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        llmStub = new LlmStubServer(LlmStubSettings.builder()
+                .port(0)
+                .latencyMedianMs(400)
+                .latencyP99Ms(1200)
+                .streamChunkDelayMs(20)
+                .build());
+        llmStub.start();
+
+        AppConfig appConfig = StreamingAiServices.config("http://localhost:" + llmStub.getPort() + "/v1");
+        ReflectionTestUtils.setField(appConfig, "aiSummarySpeculativeEnabled", true);
+        ReflectionTestUtils.setField(appConfig, "aiSummarySpeculativeWaitSeconds", 10);
+        ReflectionTestUtils.setField(appConfig, "aiSummarySpeculativeMaxConcurrent", SUBMITS);
+        meterRegistry = new SimpleMeterRegistry();
+        aiService = StreamingAiServices.create(appConfig, StreamingAiServices.webClients(appConfig), meterRegistry);
+
+        // The speculative run makes the same stub call as a fresh summary
+        AIService speculativeAi = mock(AIService.class);
+        when(speculativeAi.generateStandupSummary(any(SummaryRequest.class)))
+                .thenAnswer(invocation -> aiService.streamStandupSummary(invocation.getArgument(0), NO_STREAM));
+        speculativeSummaryService = new SpeculativeSummaryService(appConfig, speculativeAi, meterRegistry);
+        speculativeSummaryService.init();
+
+        // Warm the HTTP client so the first measured call does not pay for connection setup
+        aiService.streamStandupSummary(request(-1), NO_STREAM);
+    }
+
+    @AfterEach
+    void tearDown() {
+        speculativeSummaryService.shutdown();
+        aiService.shutdown();
+        llmStub.stop();
+    }
+
+    @Test
+    void speculativeSummaryCutsSubmitLatency() throws InterruptedException {
+        List<Future<String>> speculations = new ArrayList<>();
+        for (int i = 0; i < SUBMITS; i++) {
+            speculations.add(speculativeSummaryService.start(request(i)));
+        }
+        Thread.sleep(BLOCKERS_TYPING_MS);
+        for (int i = 0; i < SUBMITS; i++) {
+            String blockers = i % 2 == 0 ? "none" : "Waiting on the staging database.";
+            long submittedAt = System.nanoTime();
+            Optional<String> summary = speculativeSummaryService.resolve(speculations.get(i), blockers);
+            assertTrue(summary.isPresent());
+            speculativeSummaryService.recordSubmitLatency(
+                    StandupTextUtil.hasBlockers(blockers) ? "patched" : "speculative", submittedAt);
+        }
+
+        for (int i = 0; i < SUBMITS; i++) {
+            long submittedAt = System.nanoTime();
+            aiService.streamStandupSummary(request(i), NO_STREAM);
+            speculativeSummaryService.recordSubmitLatency("fresh", submittedAt);
+        }
+
+        Timer fresh = latency("fresh");
+        Timer speculative = latency("speculative");
+        Timer patched = latency("patched");
+        log.info("Submit-to-summary latency over {} submits: fresh mean {} ms (max {} ms), "
+                        + "speculative mean {} ms (max {} ms), patched mean {} ms (max {} ms)",
+                SUBMITS, millis(fresh.mean(TimeUnit.NANOSECONDS)), millis(fresh.max(TimeUnit.NANOSECONDS)),
+                millis(speculative.mean(TimeUnit.NANOSECONDS)), millis(speculative.max(TimeUnit.NANOSECONDS)),
+                millis(patched.mean(TimeUnit.NANOSECONDS)), millis(patched.max(TimeUnit.NANOSECONDS)));
+
+        assertTrue(speculative.mean(TimeUnit.NANOSECONDS) * 10 < fresh.mean(TimeUnit.NANOSECONDS));
+        assertTrue(patched.mean(TimeUnit.NANOSECONDS) * 10 < fresh.mean(TimeUnit.NANOSECONDS));
+    }
+
+    @Test
+    void patchingKeepsWorkLinesThatMentionNoBlockers() {
+        String summary = "✅ **Completed Yesterday:**\n"
+                + "• Fixed login bug, no blockers there\n"
+                + "• Reviewed the blockers board: none left for the release\n"
+                + "✨ **No blockers reported**\n"
+                + "- Blockers: none\n";
+
+        String patched = speculativeSummaryService
+                .resolve(CompletableFuture.completedFuture(summary), "CI is red.").orElseThrow();
+
+        assertTrue(patched.contains("• Fixed login bug, no blockers there\n"));
+        assertTrue(patched.contains("• Reviewed the blockers board: none left for the release\n"));
+        assertFalse(patched.contains("No blockers reported"));
+        assertFalse(patched.contains("Blockers: none"));
+        assertTrue(patched.endsWith("⚠️ **Blockers:**\n• CI is red.\n"));
+    }
+
+    @Test
+    void resettingTheSessionCancelsTheSpeculation() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch interrupted = new CountDownLatch(1);
+        SpeculativeSummaryService service = blockingService(1, started, interrupted);
+        try {
+            SessionManager sessionManager = new SessionManager();
+            Future<String> speculation = service.start(request(0));
+            sessionManager.putData("u1", "speculativeSummary", speculation);
+            assertTrue(started.await(5, TimeUnit.SECONDS));
+
+            sessionManager.resetSession("u1");
+
+            assertTrue(speculation.isCancelled());
+            assertTrue(interrupted.await(5, TimeUnit.SECONDS), "the summary thread is interrupted");
+        } finally {
+            service.shutdown();
+        }
+    }
+
+    @Test
+    void fullPoolSkipsSpeculation() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        SpeculativeSummaryService service = blockingService(1, started, new CountDownLatch(1));
+        try {
+            assertNotNull(service.start(request(0)));
+            assertTrue(started.await(5, TimeUnit.SECONDS));
+            // One running, one queued, the third is turned away
+            assertNotNull(service.start(request(1)));
+            assertNull(service.start(request(2)));
+            assertEquals(1.0, meterRegistry.get("ai.summary.speculative").tag("outcome", "skipped")
+                    .counter().count());
+        } finally {
+            service.shutdown();
+        }
+    }
+
+    /**
+     * Service whose summaries block until interrupted
+     */
+    private SpeculativeSummaryService blockingService(int maxConcurrent, CountDownLatch started,
+                                                      CountDownLatch interrupted) {
+        AppConfig appConfig = new AppConfig();
+        ReflectionTestUtils.setField(appConfig, "aiSummarySpeculativeMaxConcurrent", maxConcurrent);
+        AIService blockingAi = mock(AIService.class);
+        when(blockingAi.generateStandupSummary(any(SummaryRequest.class))).thenAnswer(invocation -> {
+            started.countDown();
+            try {
+                Thread.sleep(60_000);
+            } catch (InterruptedException e) {
+                interrupted.countDown();
+            }
+            return "late";
+        });
+        SpeculativeSummaryService service = new SpeculativeSummaryService(appConfig, blockingAi, meterRegistry);
+        service.init();
+        return service;
+    }
+
+    private SummaryRequest request(int submit) {
+        return SummaryRequest.builder()
+                .yesterdayWork("Finished the login flow for ticket " + submit)
+                .todayPlan("Start on the signup page")
+                .build();
+    }
+
+    private Timer latency(String path) {
+        return meterRegistry.get("ai.summary.submit.latency").tag("path", path).timer();
+    }
+
+    private static String millis(double nanos) {
+        return String.format("%.1f", nanos / 1_000_000);
+    }
+}
@@ -0,0 +1,80 @@
+package com.devsync.standupbot.service;
+
+import com.devsync.standupbot.config.AppConfig;
+import com.devsync.standupbot.config.IntegrationWebClients;
+import com.devsync.standupbot.dto.LlmCompletion;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import java.util.Optional;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * AIService wired to a real streaming client, with every other collaborator mocked
+ * The remote provider streams from appConfig's openai.base.url; the local provider answers "Local summary."
+ */
+final class StreamingAiServices {
+
+    private StreamingAiServices() {
+    }
+
+    /**
+     * Config for streaming from the given OpenAI-compatible base URL
+     */
+    static AppConfig config(String openaiBaseUrl) {
+        AppConfig appConfig = new AppConfig();
+        ReflectionTestUtils.setField(appConfig, "openaiBaseUrl", openaiBaseUrl);
+        ReflectionTestUtils.setField(appConfig, "openaiApiKey", "sk-test");
+        ReflectionTestUtils.setField(appConfig, "openaiModel", "gpt-4");
+        ReflectionTestUtils.setField(appConfig, "openaiMaxTokens", 200);
+        ReflectionTestUtils.setField(appConfig, "aiStreamingEnabled", true);
+        ReflectionTestUtils.setField(appConfig, "aiStreamingFlushChars", 10);
+        ReflectionTestUtils.setField(appConfig, "aiStreamingFlushIntervalMs", 10_000L);
+        ReflectionTestUtils.setField(appConfig, "zohoCliqBotName", "DevSync");
+        return appConfig;
+    }
+
+    static AIService create(AppConfig appConfig, IntegrationWebClients webClients, MeterRegistry meterRegistry) {
+        LlmStreamingClient streamingClient = new LlmStreamingClient(appConfig, webClients, new ObjectMapper());
+
+        SummaryProvider remote = mock(SummaryProvider.class);
+        when(remote.name()).thenReturn("openai");
+        when(remote.isRemote()).thenReturn(true);
+        when(remote.streamSummary(any(), anyString(), anyString())).thenAnswer(invocation ->
+                streamingClient.streamOpenAi("system", "prompt", invocation.getArgument(1), invocation.getArgument(2)));
+
+        SummaryProvider local = mock(SummaryProvider.class);
+        when(local.name()).thenReturn("local");
+        when(local.defaultModel()).thenReturn("extractive");
+        when(local.summarize(any(), any(), any()))
+                .thenReturn(LlmCompletion.builder().text("Local summary.").build());
+
+        SummaryProviderRegistry registry = mock(SummaryProviderRegistry.class);
+        when(registry.select(any(), any())).thenReturn(new SummaryProviderRegistry.Selection(remote, "gpt-4"));
+        when(registry.local()).thenReturn(local);
+
+        SummaryCacheService cache = mock(SummaryCacheService.class);
+        when(cache.buildKey(any(), any(), any(), any(), any(), any(), any())).thenReturn("key");
+        when(cache.lookup(anyString())).thenReturn(Optional.empty());
+
+        LlmConcurrencyLimiter limiter = mock(LlmConcurrencyLimiter.class);
+        when(limiter.acquire(any(), any(), any(), any())).thenReturn(mock(LlmConcurrencyLimiter.Permit.class));
+        ProviderCircuitBreaker breaker = mock(ProviderCircuitBreaker.class);
+        when(breaker.allowRequest(anyString())).thenReturn(true);
+
+        AIService aiService = new AIService(appConfig, cache, registry, mock(ProviderMetrics.class),
+                mock(SummaryRoutingPolicy.class), limiter, breaker, mock(TeamAiBudgetService.class), meterRegistry);
+        aiService.init();
+        return aiService;
+    }
+
+    static IntegrationWebClients webClients(AppConfig appConfig) {
+        return new IntegrationWebClients(WebClient.builder(), appConfig);
+    }
+}
@@ -0,0 +1,125 @@
+package com.devsync.standupbot.service;
+
+import com.devsync.standupbot.config.AppConfig;
+import com.devsync.standupbot.dto.TeamDigest;
+import com.devsync.standupbot.exception.IntegrationException;
+import com.devsync.standupbot.model.Standup;
+import com.devsync.standupbot.model.Team;
+import com.devsync.standupbot.model.User;
+import com.devsync.standupbot.repository.StandupRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Digest reuse per team and day, digests whose LLM calls partly failed, and members sharing a name
+ */
+class TeamDigestServiceTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2026, 10, 19);
+    private static final String RESPONSE = "TEAM DIGEST:\n• Login and signup moving along\n"
+            + "MEMBER HIGHLIGHTS:\nAna: finishing login";
+
+    private final Team team = Team.builder().id(7L).teamName("Platform").build();
+    private AppConfig appConfig;
+    private StandupRepository standupRepository;
+    private AIService aiService;
+    private TeamDigestService digestService;
+    private List<Standup> standups;
+
+    @BeforeEach
+    void setUp() {
+        appConfig = new AppConfig();
+        ReflectionTestUtils.setField(appConfig, "aiDigestMaxInputTokens", 4000);
+        ReflectionTestUtils.setField(appConfig, "aiDigestMaxMemberChars", 500);
+        standupRepository = mock(StandupRepository.class);
+        aiService = mock(AIService.class);
+        digestService = new TeamDigestService(appConfig, standupRepository, aiService);
+
+        standups = List.of(standup(1L, "Ana", "Finish login"), standup(2L, "Bo", "Start signup"),
+                standup(3L, "Cy", "Fix the build"));
+        when(standupRepository.findCompletedByTeamAndDate(team, TODAY)).thenReturn(standups);
+    }
+
+    @Test
+    void reusesDigestUntilStandupsChange() {
+        when(aiService.generateText(anyString(), anyString(), any(), any(), any(), any())).thenReturn(RESPONSE);
+
+        TeamDigest first = digestService.generateDigest(team, TODAY, LlmConcurrencyLimiter.Priority.INTERACTIVE);
+        TeamDigest second = digestService.generateDigest(team, TODAY, LlmConcurrencyLimiter.Priority.INTERACTIVE);
+        assertEquals(first.getDigest(), second.getDigest());
+        verify(aiService, times(1)).generateText(anyString(), anyString(), any(), any(), any(), any());
+
+        standups.get(1).setTodayPlan("Start signup and review Ana's PR");
+        digestService.generateDigest(team, TODAY, LlmConcurrencyLimiter.Priority.INTERACTIVE);
+        verify(aiService, times(2)).generateText(anyString(), anyString(), any(), any(), any(), any());
+
+        digestService.generateDigest(team, TODAY.plusDays(1), LlmConcurrencyLimiter.Priority.INTERACTIVE);
+        verify(aiService, times(2)).generateText(anyString(), anyString(), any(), any(), any(), any());
+    }
+
+    @Test
+    void marksMembersSummarizedLocallyAfterAChunkFails() {
+        // Every standup gets its own chunk
+        ReflectionTestUtils.setField(appConfig, "aiDigestMaxInputTokens", 1);
+        when(aiService.generateText(anyString(), anyString(), any(), any(), any(), any()))
+                .thenReturn(RESPONSE)
+                .thenThrow(new IntegrationException("openai", "provider unavailable"));
+
+        TeamDigest digest = digestService.generateDigest(team, TODAY, LlmConcurrencyLimiter.Priority.INTERACTIVE);
+
+        assertFalse(digest.isAiGenerated());
+        assertEquals(2, digest.getLocalStandupCount());
+        assertTrue(digest.getDigest().startsWith("• Login and signup moving along"));
+        assertTrue(digest.getDigest().contains("_Summarized locally (AI unavailable): Bo, Cy_"));
+        assertTrue(digest.getDigest().contains("• 2 standups submitted"));
+        assertTrue(digestService.formatDigest(digest).contains("2 summarized locally (AI unavailable)"));
+
+        // A partly local digest is not reused
+        digestService.generateDigest(team, TODAY, LlmConcurrencyLimiter.Priority.INTERACTIVE);
+        verify(aiService, times(3)).generateText(anyString(), anyString(), any(), any(), any(), any());
+    }
+
+    @Test
+    void keepsHighlightsOfMembersWhoShareAName() {
+        standups = List.of(standup(1L, "Ana", "Finish login"), standup(2L, "Ana", "Start signup"),
+                standup(3L, "Bo", "Fix the build"));
+        when(standupRepository.findCompletedByTeamAndDate(team, TODAY)).thenReturn(standups);
+        when(aiService.generateText(anyString(), anyString(), any(), any(), any(), any())).thenReturn(
+                "TEAM DIGEST:\n• Busy day\nMEMBER HIGHLIGHTS:\nAna (1): finishing login\nAna (2): starting signup\n");
+
+        TeamDigest digest = digestService.generateDigest(team, TODAY, LlmConcurrencyLimiter.Priority.INTERACTIVE);
+
+        assertEquals(3, digest.getMemberHighlights().size());
+        assertEquals("finishing login", digest.getMemberHighlights().get(10L));
+        assertEquals("starting signup", digest.getMemberHighlights().get(20L));
+        // Bo was not mentioned by the model and gets a local highlight
+        assertEquals("Fix the build", digest.getMemberHighlights().get(30L));
+        String message = digestService.formatDigest(digest);
+        assertTrue(message.contains("• **Ana (1)**: finishing login\n• **Ana (2)**: starting signup\n• **Bo**: Fix the build"));
+    }
+
+    private static Standup standup(Long id, String name, String plan) {
+        return Standup.builder()
+                .id(id)
+                .user(User.builder().id(id * 10).name(name).build())
+                .standupDate(TODAY)
+                .yesterdayWork("Reviews")
+                .todayPlan(plan)
+                .blockers("none")
+                .build();
+    }
+}